@@ -7,14 +7,27 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.favouriteservice.constant.AppConstant;
 import org.example.favouriteservice.dtos.FavouriteDTO;
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+import org.example.favouriteservice.dtos.WishlistItemDTO;
 import org.example.favouriteservice.model.FavouriteId;
+import org.example.favouriteservice.model.TrendingWindow;
 import org.example.favouriteservice.response.DTOCollectionResponse;
+import org.example.favouriteservice.response.PageResponse;
+import org.example.favouriteservice.response.WishlistSyncResponse;
 import org.example.favouriteservice.service.FavouriteService;
+import org.example.favouriteservice.service.LikeCounterService;
+import org.example.favouriteservice.service.RecommendationService;
+import org.example.favouriteservice.service.TrendingService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/favourites")
@@ -22,7 +35,12 @@ import java.time.format.DateTimeFormatter;
 @RequiredArgsConstructor
 public class FavouriteController {
 
+    private static final int MAX_SIMILAR_LIMIT = 100;
+
     private final FavouriteService favouriteService;
+    private final LikeCounterService likeCounterService;
+    private final TrendingService trendingService;
+    private final RecommendationService recommendationService;
 
     @GetMapping
     public ResponseEntity<DTOCollectionResponse<FavouriteDTO>> findAll() {
@@ -30,6 +48,78 @@ public class FavouriteController {
         return ResponseEntity.ok(new DTOCollectionResponse<>(this.favouriteService.findAll()));
     }
 
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<PageResponse<FavouriteDTO>> findByUserId(
+            @PathVariable("userId") final String userId,
+            @PageableDefault(size = 20, sort = "likeDate", direction = Sort.Direction.DESC) final Pageable pageable) {
+        log.info("*** FavouriteDto Page, resource; fetch favourites by userId *");
+        return ResponseEntity.ok(PageResponse.of(this.favouriteService.findByUserId(Integer.parseInt(userId), pageable)));
+    }
+
+    @PutMapping("/users/{userId}/wishlist")
+    public ResponseEntity<WishlistSyncResponse> syncWishlist(
+            @PathVariable("userId") final String userId,
+            @RequestBody
+            @NotNull(message = "Input must not be NULL")
+            @Valid final List<WishlistItemDTO> wishlist) {
+        log.info("*** WishlistSyncResponse, resource; sync wishlist of user *");
+        return ResponseEntity.ok(this.favouriteService.syncWishlist(Integer.parseInt(userId), wishlist));
+    }
+
+    @GetMapping("/products/{productId}")
+    public ResponseEntity<PageResponse<FavouriteDTO>> findByProductId(
+            @PathVariable("productId") final String productId,
+            @PageableDefault(size = 20, sort = "likeDate", direction = Sort.Direction.DESC) final Pageable pageable) {
+        log.info("*** FavouriteDto Page, resource; fetch favourites by productId *");
+        return ResponseEntity.ok(PageResponse.of(this.favouriteService.findByProductId(Integer.parseInt(productId), pageable)));
+    }
+
+    @GetMapping("/products/{productId}/count")
+    public ResponseEntity<Long> countByProductId(@PathVariable("productId") final String productId) {
+        log.info("*** Long, resource; count favourites by productId *");
+        return ResponseEntity.ok(this.favouriteService.countByProductId(Integer.parseInt(productId)));
+    }
+
+    @GetMapping("/products/{productId}/similar")
+    public ResponseEntity<DTOCollectionResponse<SimilarProductDTO>> findSimilar(
+            @PathVariable("productId") final String productId,
+            @RequestParam(value = "limit", defaultValue = "10") final int limit) {
+        log.info("*** SimilarProductDto List, resource; fetch similar products by productId *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.recommendationService.findSimilar(
+                Integer.parseInt(productId), Math.max(1, Math.min(limit, MAX_SIMILAR_LIMIT)))));
+    }
+
+    @PostMapping("/products/similar/rebuild")
+    public ResponseEntity<Boolean> rebuildSimilar() {
+        log.info("*** Boolean, resource; rebuild similar products *");
+        this.recommendationService.rebuild();
+        return ResponseEntity.ok(true);
+    }
+
+    @GetMapping("/likes")
+    public ResponseEntity<DTOCollectionResponse<ProductLikeCountDTO>> findLikeCounts(
+            @RequestParam("productIds")
+            @NotNull(message = "Input must not be NULL") final List<Integer> productIds) {
+        log.info("*** ProductLikeCountDto List, resource; fetch like counts by productIds *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.likeCounterService.findByProductIds(productIds)));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<DTOCollectionResponse<ProductLikeCountDTO>> findTrending(
+            @RequestParam(value = "window", defaultValue = "DAY") final TrendingWindow window,
+            @RequestParam(value = "limit", defaultValue = "100") final int limit) {
+        log.info("*** ProductLikeCountDto List, resource; fetch trending products *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(
+                this.trendingService.findTop(window, Math.max(1, Math.min(limit, TrendingService.MAX_LIMIT)))));
+    }
+
+    @PostMapping("/likes/reconcile")
+    public ResponseEntity<Boolean> reconcileLikeCounts() {
+        log.info("*** Boolean, resource; reconcile like counts *");
+        this.likeCounterService.reconcile();
+        return ResponseEntity.ok(true);
+    }
+
     @GetMapping("/{userId}/{productId}/{likeDate}")
     public ResponseEntity<FavouriteDTO> findById(
             @PathVariable("userId") final String userId,
@@ -0,0 +1,20 @@
+package org.example.favouriteservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductLikeCountDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private Integer productId;
+    private Long likeCount;
+
+}
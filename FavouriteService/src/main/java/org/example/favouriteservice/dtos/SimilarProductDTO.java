@@ -0,0 +1,23 @@
+package org.example.favouriteservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class SimilarProductDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer productId;
+
+    // number of users who like both this product and the requested one
+    private Long coLikeCount;
+
+}
@@ -0,0 +1,24 @@
+package org.example.favouriteservice.event;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a favourite is added ({@code delta = 1}) or removed ({@code delta = -1}).
+ * A user can hold several rows for a product, one per like date; {@code likerDelta} is
+ * {@code 1} when the row is the user's first for the product, {@code -1} when it was the last,
+ * and {@code 0} otherwise, so that like counts stay counts of distinct users.
+ * Listeners only act on committed changes, either through {@code @TransactionalEventListener}
+ * or through {@link org.example.favouriteservice.helper.CommitBarrier#afterCommit(Runnable)}.
+ */
+@Value
+public class FavouriteChangedEvent {
+
+    Integer userId;
+    Integer productId;
+    LocalDateTime likeDate;
+    int delta;
+    int likerDelta;
+
+}
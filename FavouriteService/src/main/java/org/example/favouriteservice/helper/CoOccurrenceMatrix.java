@@ -0,0 +1,164 @@
+package org.example.favouriteservice.helper;
+
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Item-item co-occurrence counts over the user-product favourites graph: for each product,
+ * how many users who like it also like each other product. Both the per-user baskets and
+ * the matrix rows are primitive int-keyed open-addressing maps. A user liking the same product
+ * more than once (different like dates) is counted once.
+ * <p>
+ * Updates cost O(basket size) of the user; lookups scan one row with a bounded heap.
+ */
+public class CoOccurrenceMatrix {
+
+    private final IntObjectHashMap<IntIntHashMap> baskets = new IntObjectHashMap<>();
+    private final IntObjectHashMap<IntIntHashMap> rows = new IntObjectHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(final int userId, final int productId) {
+        this.lock.writeLock().lock();
+        try {
+            final IntIntHashMap basket = this.baskets.computeIfAbsent(userId, id -> new IntIntHashMap());
+            if (basket.addTo(productId, 1) == 1) {
+                this.pair(basket, productId, 1);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final int userId, final int productId) {
+        this.lock.writeLock().lock();
+        try {
+            final IntIntHashMap basket = this.baskets.get(userId);
+            if (basket == null || basket.get(productId) <= 0) {
+                return;
+            }
+            if (basket.addTo(productId, -1) == 0) {
+                this.pair(basket, productId, -1);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} products most often liked together with {@code productId},
+     * highest count first, ties broken by the lower product id
+     */
+    public List<SimilarProductDTO> topSimilar(final int productId, final int limit) {
+        this.lock.readLock().lock();
+        try {
+            final IntIntHashMap row = this.rows.get(productId);
+            if (row == null || limit <= 0) {
+                return List.of();
+            }
+            final TopK top = new TopK(limit);
+            row.forEach(top::offer);
+            return top.drain();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int productCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.rows.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void pair(final IntIntHashMap basket, final int productId, final int delta) {
+        final IntIntHashMap row = this.rows.computeIfAbsent(productId, id -> new IntIntHashMap());
+        basket.forEach((other, likes) -> {
+            if (other != productId && likes > 0) {
+                row.addTo(other, delta);
+                this.rows.computeIfAbsent(other, id -> new IntIntHashMap()).addTo(productId, delta);
+            }
+        });
+    }
+
+    /**
+     * Bounded min-heap of {@code (count, productId)} packed into longs so that a larger
+     * packed value is a better candidate.
+     */
+    private static final class TopK {
+
+        private final long[] heap;
+        private int size;
+
+        private TopK(final int limit) {
+            this.heap = new long[limit];
+        }
+
+        private void offer(final int productId, final int count) {
+            if (count <= 0) {
+                return;
+            }
+            final long candidate = ((long) count << 32) | (~productId & 0xFFFFFFFFL);
+            if (this.size < this.heap.length) {
+                this.heap[this.size] = candidate;
+                this.siftUp(this.size++);
+            } else if (candidate > this.heap[0]) {
+                this.heap[0] = candidate;
+                this.siftDown(0);
+            }
+        }
+
+        private List<SimilarProductDTO> drain() {
+            final SimilarProductDTO[] ranking = new SimilarProductDTO[this.size];
+            for (int i = this.size - 1; i >= 0; i--) {
+                final long best = this.heap[0];
+                this.heap[0] = this.heap[--this.size];
+                this.siftDown(0);
+                ranking[i] = SimilarProductDTO.builder()
+                        .productId(~(int) best)
+                        .coLikeCount(best >>> 32)
+                        .build();
+            }
+            return List.of(ranking);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (this.heap[parent] <= this.heap[i]) {
+                    return;
+                }
+                this.swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                final int left = 2 * i + 1;
+                if (left >= this.size) {
+                    return;
+                }
+                final int right = left + 1;
+                final int smallest = right < this.size && this.heap[right] < this.heap[left] ? right : left;
+                if (this.heap[i] <= this.heap[smallest]) {
+                    return;
+                }
+                this.swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(final int a, final int b) {
+            final long tmp = this.heap[a];
+            this.heap[a] = this.heap[b];
+            this.heap[b] = tmp;
+        }
+
+    }
+
+}
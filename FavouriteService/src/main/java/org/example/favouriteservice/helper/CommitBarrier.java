@@ -0,0 +1,76 @@
+package org.example.favouriteservice.helper;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Lets in-memory state follow committed database changes without a gap. Work registered with
+ * {@link #afterCommit(Runnable)} runs once the current transaction commits, and the read side of
+ * a lock is held from just before that commit until the transaction completes. Code run through
+ * {@link #exclusively(Supplier)} therefore sees every commit either together with its after-commit
+ * work or not at all, which is what a drain-and-rebuild or a seed-from-database step needs.
+ */
+public class CommitBarrier {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Runs {@code action} after the current transaction commits, or right away (under the read
+     * lock) when no transaction is active. Nothing runs if the transaction rolls back.
+     */
+    public void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.shared(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                lock.readLock().lock();
+                this.locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                if (this.locked) {
+                    this.locked = false;
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    public void shared(final Runnable action) {
+        this.lock.readLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs {@code action} while no transaction is between its commit and its after-commit work.
+     * Must not be called from a thread that is itself inside such a window.
+     */
+    public <T> T exclusively(final Supplier<T> action) {
+        this.lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+}
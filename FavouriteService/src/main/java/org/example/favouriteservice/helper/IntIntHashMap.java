@@ -0,0 +1,93 @@
+package org.example.favouriteservice.helper;
+
+/**
+ * Minimal open-addressing {@code int -> int} map used by the in-memory recommender,
+ * avoiding the boxing and per-entry objects of {@code HashMap<Integer, Integer>}.
+ * Entries are never removed; a count that drops to zero simply stays at zero.
+ * Not thread-safe.
+ */
+public class IntIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] filled;
+    private int size;
+
+    public IntIntHashMap() {
+        this(8);
+    }
+
+    public IntIntHashMap(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.filled = new boolean[capacity];
+    }
+
+    /**
+     * @return the value after the update
+     */
+    public int addTo(final int key, final int delta) {
+        final int slot = this.slotOf(key);
+        if (this.filled[slot]) {
+            return this.values[slot] += delta;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = delta;
+        this.filled[slot] = true;
+        if (++this.size > this.keys.length * LOAD_FACTOR) {
+            this.resize();
+        }
+        return delta;
+    }
+
+    public int get(final int key) {
+        final int slot = this.slotOf(key);
+        return this.filled[slot] ? this.values[slot] : 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void forEach(final EntryConsumer consumer) {
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (this.filled[slot]) {
+                consumer.accept(this.keys[slot], this.values[slot]);
+            }
+        }
+    }
+
+    private int slotOf(final int key) {
+        final int mask = this.keys.length - 1;
+        final int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (this.filled[slot] && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        final int[] oldKeys = this.keys;
+        final int[] oldValues = this.values;
+        final boolean[] oldFilled = this.filled;
+        this.keys = new int[oldKeys.length << 1];
+        this.values = new int[oldKeys.length << 1];
+        this.filled = new boolean[oldKeys.length << 1];
+        this.size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldFilled[slot]) {
+                this.addTo(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.example.favouriteservice.helper;
+
+import java.util.function.IntFunction;
+
+/**
+ * Minimal open-addressing {@code int -> V} map, the primitive-keyed counterpart of
+ * {@link IntIntHashMap} for the recommender's per-user and per-product tables.
+ * Entries are never removed. Not thread-safe.
+ */
+public class IntObjectHashMap<V> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public IntObjectHashMap() {
+        this(64);
+    }
+
+    public IntObjectHashMap(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        return (V) this.values[this.slotOf(key)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(final int key, final IntFunction<V> factory) {
+        final int slot = this.slotOf(key);
+        if (this.values[slot] != null) {
+            return (V) this.values[slot];
+        }
+        final V value = factory.apply(key);
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        if (++this.size > this.keys.length * LOAD_FACTOR) {
+            this.resize();
+        }
+        return value;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private int slotOf(final int key) {
+        final int mask = this.keys.length - 1;
+        final int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (this.values[slot] != null && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        final int[] oldKeys = this.keys;
+        final Object[] oldValues = this.values;
+        this.keys = new int[oldKeys.length << 1];
+        this.values = new Object[oldKeys.length << 1];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldValues[slot] != null) {
+                final int newSlot = this.slotOf(oldKeys[slot]);
+                this.keys[newSlot] = oldKeys[slot];
+                this.values[newSlot] = oldValues[slot];
+            }
+        }
+    }
+
+}
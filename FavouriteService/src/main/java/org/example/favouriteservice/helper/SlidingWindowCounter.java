@@ -0,0 +1,159 @@
+package org.example.favouriteservice.helper;
+
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Per-product like counts over a sliding window made of fixed time buckets. Each event
+ * lands in the bucket of its timestamp and updates a running window total; buckets that
+ * slide out of the window are subtracted from the totals when time advances.
+ * <p>
+ * Only the best {@code capacity} products are ranked. A product whose total rises enters the
+ * ranking when it beats the lowest ranked entry, which is then dropped. A ranked product
+ * whose total falls may now trail one outside the ranking, so the ranking is marked stale and
+ * rebuilt on the next read by passing every total through a min-heap of {@code capacity}
+ * entries. Updates cost O(log capacity); {@code top(k)} costs O(k), plus O(n log capacity)
+ * for a rebuild after a like was withdrawn or a bucket expired.
+ */
+public class SlidingWindowCounter {
+
+    // highest count first, ties broken by the lower product id
+    private static final Comparator<Map.Entry<Integer, Long>> BY_COUNT_DESC = Map.Entry.<Integer, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int capacity;
+    private final long[] bucketEpochs;
+    private final List<Map<Integer, Long>> buckets;
+    private final Map<Integer, Long> totals = new HashMap<>();
+    private final NavigableSet<Map.Entry<Integer, Long>> ranking = new TreeSet<>(BY_COUNT_DESC);
+    // a ranked total fell, so a product outside the ranking may now belong in it
+    private boolean stale;
+
+    private long currentEpoch = Long.MIN_VALUE;
+
+    public SlidingWindowCounter(final long bucketMillis, final int bucketCount, final int capacity) {
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.capacity = capacity;
+        this.bucketEpochs = new long[bucketCount];
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            this.buckets.add(new HashMap<>());
+        }
+    }
+
+    public synchronized void add(final int productId, final long timestampMillis, final long delta, final long nowMillis) {
+        this.advance(nowMillis);
+        // events from the future are counted in the current bucket
+        final long epoch = Math.min(Math.floorDiv(timestampMillis, this.bucketMillis), this.currentEpoch);
+        if (epoch <= this.currentEpoch - this.bucketCount) {
+            return;
+        }
+        final int slot = (int) Math.floorMod(epoch, (long) this.bucketCount);
+        final Map<Integer, Long> bucket = this.buckets.get(slot);
+        if (this.bucketEpochs[slot] != epoch) {
+            this.bucketEpochs[slot] = epoch;
+            bucket.clear();
+        }
+        bucket.merge(productId, delta, Long::sum);
+        this.addToTotal(productId, delta);
+    }
+
+    public synchronized List<ProductLikeCountDTO> top(final int limit, final long nowMillis) {
+        this.advance(nowMillis);
+        if (this.stale) {
+            this.rebuildRanking();
+        }
+        final List<ProductLikeCountDTO> top = new ArrayList<>(Math.min(limit, this.ranking.size()));
+        final Iterator<Map.Entry<Integer, Long>> it = this.ranking.iterator();
+        while (top.size() < limit && it.hasNext()) {
+            final Map.Entry<Integer, Long> entry = it.next();
+            top.add(ProductLikeCountDTO.builder()
+                    .productId(entry.getKey())
+                    .likeCount(entry.getValue())
+                    .build());
+        }
+        return List.copyOf(top);
+    }
+
+    private void advance(final long nowMillis) {
+        final long epoch = Math.floorDiv(nowMillis, this.bucketMillis);
+        if (epoch <= this.currentEpoch) {
+            return;
+        }
+        this.currentEpoch = epoch;
+        final long oldest = epoch - this.bucketCount + 1;
+        for (int slot = 0; slot < this.bucketCount; slot++) {
+            final Map<Integer, Long> bucket = this.buckets.get(slot);
+            if (this.bucketEpochs[slot] < oldest && !bucket.isEmpty()) {
+                bucket.forEach((productId, count) -> this.addToTotal(productId, -count));
+                bucket.clear();
+            }
+        }
+    }
+
+    // only products with a positive window total are ranked
+    private void addToTotal(final int productId, final long delta) {
+        if (delta == 0) {
+            return;
+        }
+        final Long previous = this.totals.get(productId);
+        final long total = (previous == null ? 0L : previous) + delta;
+        if (total == 0) {
+            this.totals.remove(productId);
+        } else {
+            this.totals.put(productId, total);
+        }
+        final boolean ranked = previous != null && previous > 0
+                && this.ranking.remove(new AbstractMap.SimpleImmutableEntry<>(productId, previous));
+        if (total > 0 && (ranked || delta > 0)) {
+            this.offer(new AbstractMap.SimpleImmutableEntry<>(productId, total));
+        }
+        // nothing can overtake a fallen entry when every nonzero total is ranked
+        if (ranked && delta < 0 && this.totals.size() > this.ranking.size()) {
+            this.stale = true;
+        }
+    }
+
+    private void offer(final Map.Entry<Integer, Long> entry) {
+        if (this.ranking.size() < this.capacity) {
+            this.ranking.add(entry);
+        } else if (BY_COUNT_DESC.compare(entry, this.ranking.last()) < 0) {
+            this.ranking.pollLast();
+            this.ranking.add(entry);
+        }
+    }
+
+    private void rebuildRanking() {
+        // min-heap: the weakest of the best entries seen so far is at the head
+        final PriorityQueue<Map.Entry<Integer, Long>> best = new PriorityQueue<>(this.capacity, BY_COUNT_DESC.reversed());
+        for (final Map.Entry<Integer, Long> total : this.totals.entrySet()) {
+            if (total.getValue() <= 0) {
+                continue;
+            }
+            if (best.size() < this.capacity) {
+                best.add(new AbstractMap.SimpleImmutableEntry<>(total));
+            } else if (BY_COUNT_DESC.compare(total, best.peek()) < 0) {
+                best.poll();
+                best.add(new AbstractMap.SimpleImmutableEntry<>(total));
+            }
+        }
+        this.ranking.clear();
+        this.ranking.addAll(best);
+        this.stale = false;
+    }
+
+}
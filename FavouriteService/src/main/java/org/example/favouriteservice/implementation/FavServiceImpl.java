@@ -1,21 +1,43 @@
 package org.example.favouriteservice.implementation;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.favouriteservice.constant.AppConstant;
 import org.example.favouriteservice.dtos.FavouriteDTO;
 import org.example.favouriteservice.dtos.ProductDTO;
 import org.example.favouriteservice.dtos.UserDTO;
+import org.example.favouriteservice.dtos.WishlistItemDTO;
+import org.example.favouriteservice.event.FavouriteChangedEvent;
 import org.example.favouriteservice.exception.FavouriteNotFoundException;
+import org.example.favouriteservice.helper.EnrichmentTransactions;
 import org.example.favouriteservice.helper.FavouriteMapping;
+import org.example.favouriteservice.model.Favourite;
 import org.example.favouriteservice.model.FavouriteId;
+import org.example.favouriteservice.repository.FavouriteBatchRepository;
 import org.example.favouriteservice.repository.FavouriteRepository;
+import org.example.favouriteservice.response.DTOCollectionResponse;
+import org.example.favouriteservice.response.WishlistSyncResponse;
 import org.example.favouriteservice.service.FavouriteService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,21 +46,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FavServiceImpl implements FavouriteService {
     private final FavouriteRepository favouriteRepository;
+    private final FavouriteBatchRepository favouriteBatchRepository;
     private final RestTemplate restTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrichmentTransactions enrichmentTransactions;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<FavouriteDTO> findAll() {
         log.info("*** FavouriteDto List, service; fetch all favourites *");
-        return this.favouriteRepository.findAll()
-                .stream()
-                .map(FavouriteMapping::map)
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.favouriteRepository.findAll()
+                        .stream()
+                        .map(FavouriteMapping::map)
+                        .collect(Collectors.toList()),
+                this::enrich);
+    }
+
+    private List<FavouriteDTO> enrich(final List<FavouriteDTO> favourites) {
+        final Map<Integer, UserDTO> users = this.findUsers(favourites.stream()
+                .map(FavouriteDTO::getUserId)
+                .collect(Collectors.toSet()));
+        final Map<Integer, ProductDTO> products = this.findProducts(favourites.stream()
+                .map(FavouriteDTO::getProductId)
+                .collect(Collectors.toSet()));
+        return favourites.stream()
                 .map(f -> {
-                    f.setUserDTO(this.restTemplate
-                            .getForObject(AppConstant.DiscoveredDomainsApi
-                                    .USER_SERVICE_API_URL + "/" + f.getUserId(), UserDTO.class));
-                    f.setProductDTO(this.restTemplate
-                            .getForObject(AppConstant.DiscoveredDomainsApi
-                                    .PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDTO.class));
+                    f.setUserDTO(users.getOrDefault(f.getUserId(), f.getUserDTO()));
+                    f.setProductDTO(products.getOrDefault(f.getProductId(), f.getProductDTO()));
                     return f;
                 })
                 .distinct()
@@ -46,11 +81,15 @@ public class FavServiceImpl implements FavouriteService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FavouriteDTO findById(final FavouriteId favouriteId) {
         log.info("*** FavouriteDto, service; fetch favourite by id *");
-        return this.favouriteRepository.findById(favouriteId)
-                .map(FavouriteMapping::map)
-                .map(f -> {
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.favouriteRepository.findById(favouriteId)
+                        .map(FavouriteMapping::map)
+                        .orElseThrow(() -> new FavouriteNotFoundException(
+                                String.format("Favourite with id: [%s] not found!", favouriteId))),
+                f -> {
                     f.setUserDTO(this.restTemplate
                             .getForObject(AppConstant.DiscoveredDomainsApi
                                     .USER_SERVICE_API_URL + "/" + f.getUserId(), UserDTO.class));
@@ -58,26 +97,177 @@ public class FavServiceImpl implements FavouriteService {
                             .getForObject(AppConstant.DiscoveredDomainsApi
                                     .PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDTO.class));
                     return f;
-                })
-                .orElseThrow(() -> new FavouriteNotFoundException(
-                        String.format("Favourite with id: [%s] not found!", favouriteId)));
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<FavouriteDTO> findByUserId(final Integer userId, final Pageable pageable) {
+        log.info("*** FavouriteDto Page, service; fetch favourites by userId *");
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.favouriteRepository.findByUserId(userId, pageable).map(FavouriteMapping::map),
+                favourites -> {
+                    final Map<Integer, ProductDTO> products = this.findProducts(favourites.getContent()
+                            .stream()
+                            .map(FavouriteDTO::getProductId)
+                            .collect(Collectors.toSet()));
+                    favourites.forEach(f -> f.setProductDTO(products.getOrDefault(f.getProductId(), f.getProductDTO())));
+                    return favourites;
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<FavouriteDTO> findByProductId(final Integer productId, final Pageable pageable) {
+        log.info("*** FavouriteDto Page, service; fetch favourites by productId *");
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.favouriteRepository.findByProductId(productId, pageable).map(FavouriteMapping::map),
+                favourites -> {
+                    if (favourites.hasContent()) {
+                        final ProductDTO product = this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+                                .PRODUCT_SERVICE_API_URL + "/" + productId, ProductDTO.class);
+                        favourites.forEach(f -> f.setProductDTO(product));
+                    }
+                    return favourites;
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByProductId(final Integer productId) {
+        log.info("*** Long, service; count favourites by productId *");
+        return this.favouriteRepository.countByProductId(productId);
+    }
+
+    private Map<Integer, UserDTO> findUsers(final Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        final String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        final DTOCollectionResponse<UserDTO> response = this.restTemplate.exchange(
+                        AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=" + ids,
+                        HttpMethod.GET, null, new ParameterizedTypeReference<DTOCollectionResponse<UserDTO>>() {})
+                .getBody();
+        if (response == null || response.getCollection() == null) {
+            return Map.of();
+        }
+        return response.getCollection()
+                .stream()
+                .collect(Collectors.toMap(UserDTO::getUserId, Function.identity(), (a, b) -> a));
+    }
+
+    private Map<Integer, ProductDTO> findProducts(final Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        final String ids = productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        final DTOCollectionResponse<ProductDTO> response = this.restTemplate.exchange(
+                        AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch?ids=" + ids,
+                        HttpMethod.GET, null, new ParameterizedTypeReference<DTOCollectionResponse<ProductDTO>>() {})
+                .getBody();
+        if (response == null || response.getCollection() == null) {
+            return Map.of();
+        }
+        return response.getCollection()
+                .stream()
+                .collect(Collectors.toMap(ProductDTO::getProductId, Function.identity(), (a, b) -> a));
     }
 
     @Override
     public FavouriteDTO save(final FavouriteDTO favouriteDto) {
-        return FavouriteMapping.map(this.favouriteRepository
-                .save(FavouriteMapping.map(favouriteDto)));
+        return FavouriteMapping.map(this.saveAndCount(FavouriteMapping.map(favouriteDto)));
     }
 
     @Override
     public FavouriteDTO update(final FavouriteDTO favouriteDto) {
-        return FavouriteMapping.map(this.favouriteRepository
-                .save(FavouriteMapping.map(favouriteDto)));
+        return FavouriteMapping.map(this.saveAndCount(FavouriteMapping.map(favouriteDto)));
     }
 
     @Override
     public void deleteById(final FavouriteId favouriteId) {
-        this.favouriteRepository.deleteById(favouriteId);
+        final List<Favourite> held = this.favouriteRepository.findByUserIdAndProductIdForUpdate(
+                favouriteId.getUserId(), favouriteId.getProductId());
+        held.stream()
+                .filter(favourite -> favourite.getLikeDate().equals(favouriteId.getLikeDate()))
+                .findFirst()
+                .ifPresent(favourite -> {
+                    this.favouriteRepository.delete(favourite);
+                    this.eventPublisher.publishEvent(new FavouriteChangedEvent(favourite.getUserId(),
+                            favourite.getProductId(), favourite.getLikeDate(), -1, held.size() == 1 ? -1 : 0));
+                });
+    }
+
+    /**
+     * Makes the stored favourites of a user match the client's wishlist: products missing
+     * from the store are inserted, stored products missing from the wishlist are deleted,
+     * and both sides are written as single JDBC batches in this transaction.
+     * <p>
+     * The user's rows are read with {@code SELECT ... FOR UPDATE}, so concurrent syncs of the
+     * same user run one after the other instead of both applying a diff computed from the same
+     * state. Two first-time syncs of a user with no rows can still deadlock on the gap lock;
+     * the database rolls one back and the client retries. Like dates are truncated to seconds
+     * to match the {@code TIMESTAMP} column, so the published events carry the stored key.
+     */
+    @Override
+    public WishlistSyncResponse syncWishlist(final Integer userId, final Collection<WishlistItemDTO> wishlist) {
+        log.info("*** WishlistSyncResponse, service; sync wishlist of user *");
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        final Map<Integer, LocalDateTime> wanted = new LinkedHashMap<>();
+        wishlist.stream()
+                .filter(item -> item.getProductId() != null)
+                .forEach(item -> wanted.putIfAbsent(item.getProductId(),
+                        item.getLikeDate() == null ? now : item.getLikeDate().truncatedTo(ChronoUnit.SECONDS)));
+
+        final Set<Integer> stored = new HashSet<>();
+        final List<Favourite> toDelete = new ArrayList<>();
+        for (final Favourite favourite : this.favouriteRepository.findByUserIdForUpdate(userId)) {
+            if (wanted.containsKey(favourite.getProductId())) {
+                stored.add(favourite.getProductId());
+            } else {
+                toDelete.add(favourite);
+            }
+        }
+        wanted.keySet().removeAll(stored);
+        final List<Favourite> toInsert = wanted.entrySet()
+                .stream()
+                .map(e -> Favourite.builder()
+                        .userId(userId)
+                        .productId(e.getKey())
+                        .likeDate(e.getValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        this.favouriteBatchRepository.deleteAll(toDelete);
+        this.favouriteBatchRepository.insertAll(toInsert);
+        // every row of an unwanted product goes, so the user stops liking it exactly once
+        final Set<Integer> unliked = new HashSet<>();
+        toDelete.forEach(f -> this.eventPublisher.publishEvent(new FavouriteChangedEvent(userId,
+                f.getProductId(), f.getLikeDate(), -1, unliked.add(f.getProductId()) ? -1 : 0)));
+        toInsert.forEach(f -> this.eventPublisher.publishEvent(
+                new FavouriteChangedEvent(userId, f.getProductId(), f.getLikeDate(), 1, 1)));
+
+        return WishlistSyncResponse.builder()
+                .added(toInsert.size())
+                .removed(toDelete.size())
+                .unchanged(stored.size())
+                .build();
+    }
+
+    /**
+     * Saves a favourite and publishes an event if it is a new row. The user's rows for the
+     * product are locked first, so two concurrent likes of the same product by the same user
+     * cannot both count as the user's first.
+     */
+    private Favourite saveAndCount(final Favourite favourite) {
+        final List<Favourite> held = this.favouriteRepository.findByUserIdAndProductIdForUpdate(
+                favourite.getUserId(), favourite.getProductId());
+        final boolean isNew = held.stream().noneMatch(f -> f.getLikeDate().equals(favourite.getLikeDate()));
+        final Favourite saved = this.favouriteRepository.save(favourite);
+        if (isNew) {
+            this.eventPublisher.publishEvent(new FavouriteChangedEvent(saved.getUserId(),
+                    saved.getProductId(), saved.getLikeDate(), 1, held.isEmpty() ? 1 : 0));
+        }
+        return saved;
     }
 
 
@@ -0,0 +1,139 @@
+package org.example.favouriteservice.implementation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+import org.example.favouriteservice.event.FavouriteChangedEvent;
+import org.example.favouriteservice.helper.CommitBarrier;
+import org.example.favouriteservice.repository.ProductLikeCountRepository;
+import org.example.favouriteservice.service.LikeCounterService;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind like counters. Committed favourite changes bump a striped in-memory
+ * {@link LongAdder} per product; the pending deltas are flushed to
+ * {@code product_like_counts} in one batch on a fixed delay and on shutdown.
+ * Reads return the stored count plus any delta not yet flushed. A count is the number of
+ * distinct users liking the product, so only {@link FavouriteChangedEvent#getLikerDelta()}
+ * moves it.
+ * <p>
+ * Every delta is kept under the counter generation its favourite transaction read (see
+ * {@link ProductLikeCountRepository}). {@link #reconcile()} recounts from {@code favourites}
+ * and starts a new generation; deltas of older generations, on this instance or any other, are
+ * already part of the recount, so flushes and reads drop them instead of adding them twice.
+ * Deltas are added through a {@link CommitBarrier}, and {@link #flush()} swaps the whole
+ * pending map while holding it exclusively, so no increment can land between reading a delta
+ * and dropping it.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LikeCounterServiceImpl implements LikeCounterService {
+
+    private final ProductLikeCountRepository productLikeCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CommitBarrier commitBarrier = new CommitBarrier();
+    // generation -> productId -> pending delta
+    private volatile Map<Long, Map<Integer, LongAdder>> pending = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onFavouriteChanged(final FavouriteChangedEvent event) {
+        if (event.getLikerDelta() == 0) {
+            return;
+        }
+        final long generation = this.productLikeCountRepository.lockGeneration();
+        this.commitBarrier.afterCommit(() -> this.add(generation, event.getProductId(), event.getLikerDelta()));
+    }
+
+    @Override
+    public List<ProductLikeCountDTO> findByProductIds(final Collection<Integer> productIds) {
+        log.info("*** ProductLikeCountDto List, service; fetch like counts by productIds *");
+        // one read-write transaction, so from the primary and from one snapshot: a flushed delta
+        // has already left the pending map, and a lagging replica would not show it yet
+        final Map.Entry<Long, Map<Integer, Long>> snapshot = this.transactionTemplate.execute(status ->
+                Map.entry(this.productLikeCountRepository.currentGeneration(),
+                        this.productLikeCountRepository.findByProductIds(productIds)));
+        final Map<Integer, Long> stored = snapshot.getValue();
+        final Map<Integer, LongAdder> pending = this.pending.getOrDefault(snapshot.getKey(), Map.of());
+        return productIds.stream()
+                .distinct()
+                .map(productId -> {
+                    final LongAdder delta = pending.get(productId);
+                    return ProductLikeCountDTO.builder()
+                            .productId(productId)
+                            .likeCount(stored.getOrDefault(productId, 0L) + (delta == null ? 0L : delta.sum()))
+                            .build();
+                })
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${favourite.like-counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        final Map<Long, Map<Integer, Long>> deltas = sum(this.commitBarrier.exclusively(this::swapPending));
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                final long generation = this.productLikeCountRepository.lockGeneration();
+                final Map<Integer, Long> current = deltas.getOrDefault(generation, Map.of());
+                if (!current.isEmpty()) {
+                    this.productLikeCountRepository.applyDeltas(current);
+                }
+                log.debug("*** Void, service; flushed like counters for {} products *", current.size());
+            });
+        } catch (RuntimeException e) {
+            // put the deltas back so the next flush retries them
+            this.commitBarrier.shared(() -> deltas.forEach((generation, products) ->
+                    products.forEach((productId, delta) -> this.add(generation, productId, delta))));
+            log.warn("*** Void, service; like counter flush failed, will retry *", e);
+        }
+    }
+
+    @Override
+    public void reconcile() {
+        log.info("*** Void, service; reconcile like counters against favourites *");
+        // the pending deltas stay; they belong to the old generation now and the next flush drops them
+        this.transactionTemplate.executeWithoutResult(status -> this.productLikeCountRepository.rebuildFromFavourites());
+    }
+
+    // caller is inside the commit barrier
+    private void add(final long generation, final Integer productId, final long delta) {
+        this.pending.computeIfAbsent(generation, g -> new ConcurrentHashMap<>())
+                .computeIfAbsent(productId, id -> new LongAdder())
+                .add(delta);
+    }
+
+    // caller holds the commit barrier exclusively
+    private Map<Long, Map<Integer, LongAdder>> swapPending() {
+        final Map<Long, Map<Integer, LongAdder>> drained = this.pending;
+        this.pending = new ConcurrentHashMap<>();
+        return drained;
+    }
+
+    private static Map<Long, Map<Integer, Long>> sum(final Map<Long, Map<Integer, LongAdder>> generations) {
+        final Map<Long, Map<Integer, Long>> deltas = new HashMap<>();
+        generations.forEach((generation, adders) -> adders.forEach((productId, adder) -> {
+            final long delta = adder.sum();
+            if (delta != 0) {
+                deltas.computeIfAbsent(generation, g -> new HashMap<>()).put(productId, delta);
+            }
+        }));
+        return deltas;
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.example.favouriteservice.implementation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+import org.example.favouriteservice.event.FavouriteChangedEvent;
+import org.example.favouriteservice.helper.CoOccurrenceMatrix;
+import org.example.favouriteservice.helper.CommitBarrier;
+import org.example.favouriteservice.repository.FavouriteGraphRepository;
+import org.example.favouriteservice.service.RecommendationService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * "Users who liked this also liked" recommendations served from an in-memory
+ * {@link CoOccurrenceMatrix}. The matrix is built from the favourites table at startup
+ * (or on demand) and kept current from committed {@link FavouriteChangedEvent}s.
+ * <p>
+ * A rebuild starts its scan while no favourite commit is in flight (see {@link CommitBarrier})
+ * and from then on also queues every committed change. The queue is replayed onto the new
+ * matrix before it replaces the old one, again with no commit in flight, so each change is
+ * either in the scan's snapshot or replayed, never both and never neither.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final FavouriteGraphRepository favouriteGraphRepository;
+    private final CommitBarrier commitBarrier = new CommitBarrier();
+    private volatile CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+    // changes committed since the running rebuild started its scan; null when none is running
+    private volatile Queue<FavouriteChangedEvent> replay;
+
+    @Override
+    public List<SimilarProductDTO> findSimilar(final Integer productId, final int limit) {
+        log.info("*** SimilarProductDto List, service; fetch similar products by productId *");
+        return this.matrix.topSimilar(productId, limit);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        log.info("*** Void, service; rebuild co-occurrence matrix *");
+        final long start = System.nanoTime();
+        final CoOccurrenceMatrix rebuilt = new CoOccurrenceMatrix();
+        final Queue<FavouriteChangedEvent> replay = new ConcurrentLinkedQueue<>();
+        final Stream<FavouriteGraphRepository.Edge> edges = this.commitBarrier.exclusively(() -> {
+            final Stream<FavouriteGraphRepository.Edge> scan = this.favouriteGraphRepository.streamEdges();
+            this.replay = replay;
+            return scan;
+        });
+        try (edges) {
+            edges.forEach(edge -> rebuilt.add(edge.getUserId(), edge.getProductId()));
+        } catch (RuntimeException e) {
+            this.replay = null;
+            throw e;
+        }
+        this.commitBarrier.exclusively(() -> {
+            replay.forEach(event -> apply(rebuilt, event));
+            this.matrix = rebuilt;
+            this.replay = null;
+            return null;
+        });
+        log.info("*** Void, service; co-occurrence matrix of {} products built in {} ms, {} changes replayed *",
+                rebuilt.productCount(), (System.nanoTime() - start) / 1_000_000, replay.size());
+    }
+
+    @EventListener
+    public void onFavouriteChanged(final FavouriteChangedEvent event) {
+        this.commitBarrier.afterCommit(() -> {
+            apply(this.matrix, event);
+            final Queue<FavouriteChangedEvent> replay = this.replay;
+            if (replay != null) {
+                replay.add(event);
+            }
+        });
+    }
+
+    private static void apply(final CoOccurrenceMatrix matrix, final FavouriteChangedEvent event) {
+        if (event.getDelta() > 0) {
+            matrix.add(event.getUserId(), event.getProductId());
+        } else {
+            matrix.remove(event.getUserId(), event.getProductId());
+        }
+    }
+
+}
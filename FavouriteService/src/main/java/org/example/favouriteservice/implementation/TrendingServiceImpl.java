@@ -0,0 +1,93 @@
+package org.example.favouriteservice.implementation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+import org.example.favouriteservice.event.FavouriteChangedEvent;
+import org.example.favouriteservice.helper.CommitBarrier;
+import org.example.favouriteservice.helper.SlidingWindowCounter;
+import org.example.favouriteservice.model.TrendingWindow;
+import org.example.favouriteservice.repository.FavouriteGraphRepository;
+import org.example.favouriteservice.service.TrendingService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory "trending products" leaderboard. Each committed favourite change updates one
+ * {@link SlidingWindowCounter} per {@link TrendingWindow}; reads never touch the database.
+ * The counters are seeded once at startup from the last week of favourites, read as
+ * (product, like date) rows through a cursor rather than as entities.
+ * <p>
+ * The seed query is started while no favourite commit is in flight (see {@link CommitBarrier}),
+ * so every change is either already in its snapshot or recorded by the listener afterwards,
+ * never both.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TrendingServiceImpl implements TrendingService {
+
+    private final FavouriteGraphRepository favouriteGraphRepository;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final Map<TrendingWindow, SlidingWindowCounter> counters = new EnumMap<>(TrendingWindow.class);
+    private final CommitBarrier commitBarrier = new CommitBarrier();
+    // false until the seed snapshot is taken; earlier changes are part of that snapshot
+    private volatile boolean live;
+
+    {
+        for (final TrendingWindow window : TrendingWindow.values()) {
+            this.counters.put(window, new SlidingWindowCounter(window.getBucketSize().toMillis(), window.getBucketCount(), MAX_LIMIT));
+        }
+    }
+
+    @Override
+    public List<ProductLikeCountDTO> findTop(final TrendingWindow window, final int limit) {
+        log.info("*** ProductLikeCountDto List, service; fetch trending products *");
+        return this.counters.get(window).top(limit, this.clock.millis());
+    }
+
+    @EventListener
+    public void onFavouriteChanged(final FavouriteChangedEvent event) {
+        this.commitBarrier.afterCommit(() -> {
+            if (this.live) {
+                this.record(event.getProductId(), event.getLikeDate(), event.getDelta());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    // not read-only, so the seed is read from the primary: a lagging replica would miss
+    // favourites committed before live was set, whose events have already been dropped
+    @Transactional
+    public void warmUp() {
+        final LocalDateTime since = LocalDateTime.now(this.clock).minus(TrendingWindow.WEEK.getLength());
+        log.info("*** Void, service; seed trending counters from favourites since {} *", since);
+        final Stream<FavouriteGraphRepository.Like> likes = this.commitBarrier.exclusively(() -> {
+            try {
+                return this.favouriteGraphRepository.streamLikesSince(since);
+            } finally {
+                this.live = true;
+            }
+        });
+        try (likes) {
+            likes.forEach(like -> this.record(like.getProductId(), like.getLikeDate(), 1));
+        }
+    }
+
+    private void record(final Integer productId, final LocalDateTime likeDate, final int delta) {
+        final long now = this.clock.millis();
+        final long timestamp = likeDate == null ? now
+                : likeDate.atZone(this.clock.getZone()).toInstant().toEpochMilli();
+        this.counters.values().forEach(counter -> counter.add(productId, timestamp, delta, now));
+    }
+
+}
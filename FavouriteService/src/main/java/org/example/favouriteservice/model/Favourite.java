@@ -14,7 +14,9 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "favourites")
+@Table(name = "favourites", indexes = {
+        @Index(name = "idx_favourites_product_id", columnList = "product_id")
+})
 @IdClass(FavouriteId.class)
 @NoArgsConstructor
 @AllArgsConstructor
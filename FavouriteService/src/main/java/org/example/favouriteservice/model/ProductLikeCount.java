@@ -0,0 +1,25 @@
+package org.example.favouriteservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "product_like_counts")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductLikeCount implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Integer productId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+}
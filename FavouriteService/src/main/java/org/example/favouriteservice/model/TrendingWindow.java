@@ -0,0 +1,23 @@
+package org.example.favouriteservice.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@Getter
+public enum TrendingWindow {
+
+    HOUR(Duration.ofMinutes(1), 60),
+    DAY(Duration.ofHours(1), 24),
+    WEEK(Duration.ofHours(1), 24 * 7);
+
+    private final Duration bucketSize;
+    private final int bucketCount;
+
+    public Duration getLength() {
+        return this.bucketSize.multipliedBy(this.bucketCount);
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.example.favouriteservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.favouriteservice.model.Favourite;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC batch writes for {@code favourites}. Each method sends a single batched
+ * statement and joins the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavouriteBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO favourites (user_id, product_id, like_date, created_at) " +
+            "VALUES (?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM favourites " +
+            "WHERE user_id = ? AND product_id = ? AND like_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] insertAll(final List<Favourite> favourites) {
+        final Timestamp now = Timestamp.from(Instant.now());
+        return this.jdbcTemplate.batchUpdate(INSERT_SQL, favourites.stream()
+                .map(f -> new Object[]{f.getUserId(), f.getProductId(), Timestamp.valueOf(f.getLikeDate()), now})
+                .collect(Collectors.toList()));
+    }
+
+    public int[] deleteAll(final List<Favourite> favourites) {
+        return this.jdbcTemplate.batchUpdate(DELETE_SQL, favourites.stream()
+                .map(f -> new Object[]{f.getUserId(), f.getProductId(), Timestamp.valueOf(f.getLikeDate())})
+                .collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.example.favouriteservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Forward-only scans over {@code favourites}, used to build the in-memory recommender and to
+ * seed the trending counters without loading entities. Rows arrive from a server-side cursor
+ * {@code FETCH_SIZE} at a time ({@code useCursorFetch} on the datasource URL).
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavouriteGraphRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String EDGES_SQL = "SELECT user_id, product_id FROM favourites";
+    private static final String LIKES_SINCE_SQL = "SELECT product_id, like_date FROM favourites WHERE like_date > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs the scan and returns its rows unread: the query, and so its snapshot, has started by
+     * the time this returns. The stream holds a connection until it is closed.
+     */
+    public Stream<Edge> streamEdges() {
+        return this.jdbcTemplate.queryForStream(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(EDGES_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (rs, rowNum) -> new Edge(rs.getInt(1), rs.getInt(2)));
+    }
+
+    /**
+     * Same as {@link #streamEdges()}, for the favourites liked after {@code since}.
+     */
+    public Stream<Like> streamLikesSince(final LocalDateTime since) {
+        return this.jdbcTemplate.queryForStream(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(LIKES_SINCE_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(since));
+            return statement;
+        }, (rs, rowNum) -> new Like(rs.getInt(1), rs.getTimestamp(2).toLocalDateTime()));
+    }
+
+    @Value
+    public static class Edge {
+        int userId;
+        int productId;
+    }
+
+    @Value
+    public static class Like {
+        int productId;
+        LocalDateTime likeDate;
+    }
+
+}
@@ -1,10 +1,38 @@
 package org.example.favouriteservice.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.favouriteservice.model.Favourite;
 import org.example.favouriteservice.model.FavouriteId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface FavouriteRepository extends JpaRepository<Favourite, FavouriteId> {
+
+    Page<Favourite> findByUserId(Integer userId, Pageable pageable);
+
+    // SELECT ... FOR UPDATE on the user_id prefix of the key: under REPEATABLE READ the
+    // next-key locks also block other transactions from inserting rows for this user
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Favourite f WHERE f.userId = :userId")
+    List<Favourite> findByUserIdForUpdate(@Param("userId") Integer userId);
+
+    // same next-key locking on the (user_id, product_id) prefix, for a single product
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Favourite f WHERE f.userId = :userId AND f.productId = :productId")
+    List<Favourite> findByUserIdAndProductIdForUpdate(@Param("userId") Integer userId,
+                                                      @Param("productId") Integer productId);
+
+    Page<Favourite> findByProductId(Integer productId, Pageable pageable);
+
+    // the key includes like_date, so a user can hold several rows for the same product
+    @Query("SELECT COUNT(DISTINCT f.userId) FROM Favourite f WHERE f.productId = :productId")
+    long countByProductId(@Param("productId") Integer productId);
 }
@@ -0,0 +1,90 @@
+package org.example.favouriteservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to {@code product_like_counts}; deltas are applied as one batched upsert, so a
+ * product's first delta cannot collide with another instance's on the primary key. A count is
+ * the number of distinct users who like the product.
+ * <p>
+ * The single row of {@code product_like_count_generation} is bumped by every rebuild. A
+ * favourite change reads it with a shared lock in its own transaction and so is tagged with the
+ * generation whose counts it belongs to; the rebuild takes the row exclusively, so it waits for
+ * those transactions and no change can commit while it recounts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductLikeCountRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO product_like_counts (product_id, like_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE like_count = like_count + ?";
+    private static final String INSERT_SQL = "INSERT INTO product_like_counts (product_id, like_count) VALUES (?, ?)";
+    private static final String DELETE_ALL_SQL = "DELETE FROM product_like_counts";
+    private static final String COUNT_FAVOURITES_SQL = "SELECT product_id, COUNT(DISTINCT user_id) FROM favourites " +
+            "GROUP BY product_id";
+    private static final String GENERATION_SQL = "SELECT generation FROM product_like_count_generation WHERE id = 1";
+    private static final String BUMP_GENERATION_SQL = "UPDATE product_like_count_generation " +
+            "SET generation = generation + 1 WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Integer, Long> findByProductIds(final Collection<Integer> productIds) {
+        final Map<Integer, Long> counts = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return counts;
+        }
+        final String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        this.jdbcTemplate.query("SELECT product_id, like_count FROM product_like_counts WHERE product_id IN (" + placeholders + ")",
+                rs -> {
+                    counts.put(rs.getInt(1), rs.getLong(2));
+                }, productIds.toArray());
+        return counts;
+    }
+
+    public long currentGeneration() {
+        return this.jdbcTemplate.queryForObject(GENERATION_SQL, Long.class);
+    }
+
+    /**
+     * Reads the generation with a shared lock held until the caller's transaction ends, so a
+     * rebuild cannot start in between.
+     */
+    public long lockGeneration() {
+        return this.jdbcTemplate.queryForObject(GENERATION_SQL + " LOCK IN SHARE MODE", Long.class);
+    }
+
+    public void applyDeltas(final Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        final List<Object[]> upserts = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> upserts.add(new Object[]{productId, delta, delta}));
+        this.jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+    }
+
+    /**
+     * Recounts from {@code favourites} and starts a new generation. The generation row is
+     * locked first; the recount is then a plain consistent read rather than
+     * {@code INSERT ... SELECT}, which would take shared locks on every favourite row.
+     */
+    public void rebuildFromFavourites() {
+        this.jdbcTemplate.queryForObject(GENERATION_SQL + " FOR UPDATE", Long.class);
+        final List<Object[]> counts = this.jdbcTemplate.query(COUNT_FAVOURITES_SQL,
+                (rs, rowNum) -> new Object[]{rs.getInt(1), rs.getLong(2)});
+        this.jdbcTemplate.update(DELETE_ALL_SQL);
+        if (!counts.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(INSERT_SQL, counts);
+        }
+        this.jdbcTemplate.update(BUMP_GENERATION_SQL);
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.example.favouriteservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class WishlistSyncResponse {
+
+    private int added;
+    private int removed;
+    private int unchanged;
+
+}
@@ -1,14 +1,23 @@
 package org.example.favouriteservice.service;
 
 import org.example.favouriteservice.dtos.FavouriteDTO;
+import org.example.favouriteservice.dtos.WishlistItemDTO;
 import org.example.favouriteservice.model.FavouriteId;
+import org.example.favouriteservice.response.WishlistSyncResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FavouriteService {
     List<FavouriteDTO> findAll();
     FavouriteDTO findById(final FavouriteId favouriteId);
+    Page<FavouriteDTO> findByUserId(final Integer userId, final Pageable pageable);
+    Page<FavouriteDTO> findByProductId(final Integer productId, final Pageable pageable);
+    long countByProductId(final Integer productId);
     FavouriteDTO save(final FavouriteDTO favouriteDTO);
     FavouriteDTO update(final FavouriteDTO favouriteDTO);
     void deleteById(final FavouriteId favouriteId);
+    WishlistSyncResponse syncWishlist(final Integer userId, final Collection<WishlistItemDTO> wishlist);
 }
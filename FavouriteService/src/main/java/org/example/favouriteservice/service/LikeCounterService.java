@@ -0,0 +1,12 @@
+package org.example.favouriteservice.service;
+
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LikeCounterService {
+    List<ProductLikeCountDTO> findByProductIds(final Collection<Integer> productIds);
+    void flush();
+    void reconcile();
+}
@@ -0,0 +1,10 @@
+package org.example.favouriteservice.service;
+
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+
+import java.util.List;
+
+public interface RecommendationService {
+    List<SimilarProductDTO> findSimilar(final Integer productId, final int limit);
+    void rebuild();
+}
@@ -0,0 +1,14 @@
+package org.example.favouriteservice.service;
+
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+import org.example.favouriteservice.model.TrendingWindow;
+
+import java.util.List;
+
+public interface TrendingService {
+
+    // the counters rank no more products than this
+    int MAX_LIMIT = 1000;
+
+    List<ProductLikeCountDTO> findTop(final TrendingWindow window, final int limit);
+}
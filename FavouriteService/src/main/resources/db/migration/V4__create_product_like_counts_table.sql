@@ -0,0 +1,9 @@
+
+CREATE TABLE product_like_counts (
+product_id INT(11) NOT NULL PRIMARY KEY,
+like_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO product_like_counts
+(product_id, like_count)
+SELECT product_id, COUNT(DISTINCT user_id) FROM favourites GROUP BY product_id;
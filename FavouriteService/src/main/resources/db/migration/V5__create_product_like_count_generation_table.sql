@@ -0,0 +1,8 @@
+
+CREATE TABLE product_like_count_generation (
+id INT(11) NOT NULL PRIMARY KEY,
+generation BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO product_like_count_generation
+(id, generation) VALUES (1, 0);
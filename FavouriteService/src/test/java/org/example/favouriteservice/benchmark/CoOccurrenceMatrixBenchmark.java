@@ -0,0 +1,103 @@
+package org.example.favouriteservice.benchmark;
+
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+import org.example.favouriteservice.helper.CoOccurrenceMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build time and lookup latency of {@link CoOccurrenceMatrix} on a synthetic favourites graph
+ * (10M favourites by default: 1M users x 10 likes over 100k products, skewed towards
+ * popular products). Run from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.example.favouriteservice.benchmark.CoOccurrenceMatrixBenchmark}.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class CoOccurrenceMatrixBenchmark {
+
+    @Param("1000000")
+    private int users;
+
+    @Param("10")
+    private int likesPerUser;
+
+    @Param("100000")
+    private int products;
+
+    private int[] edgeUsers;
+    private int[] edgeProducts;
+    private CoOccurrenceMatrix matrix;
+    private SplittableRandom lookupRandom;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        final int edges = this.users * this.likesPerUser;
+        this.edgeUsers = new int[edges];
+        this.edgeProducts = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            this.edgeUsers[i] = i / this.likesPerUser + 1;
+            this.edgeProducts[i] = this.skewedProduct(random);
+        }
+        this.matrix = this.build();
+        this.lookupRandom = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public CoOccurrenceMatrix buildMatrix() {
+        return this.build();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<SimilarProductDTO> topSimilar() {
+        return this.matrix.topSimilar(this.skewedProduct(this.lookupRandom), 10);
+    }
+
+    private CoOccurrenceMatrix build() {
+        final CoOccurrenceMatrix built = new CoOccurrenceMatrix();
+        for (int i = 0; i < this.edgeUsers.length; i++) {
+            built.add(this.edgeUsers[i], this.edgeProducts[i]);
+        }
+        return built;
+    }
+
+    // squaring a uniform draw puts most likes on the low product ids
+    private int skewedProduct(final SplittableRandom random) {
+        final double u = random.nextDouble();
+        return (int) (u * u * this.products) + 1;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CoOccurrenceMatrixBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+}
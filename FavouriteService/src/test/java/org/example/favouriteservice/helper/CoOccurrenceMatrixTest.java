@@ -0,0 +1,51 @@
+package org.example.favouriteservice.helper;
+
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void shouldRankProductsLikedByTheSameUsers() {
+        // Given
+        final CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+        matrix.add(1, 10);
+        matrix.add(1, 20);
+        matrix.add(1, 30);
+        matrix.add(2, 10);
+        matrix.add(2, 20);
+        matrix.add(3, 10);
+        matrix.add(3, 40);
+
+        // When
+        final List<SimilarProductDTO> similar = matrix.topSimilar(10, 2);
+
+        // Then
+        assertThat(similar).extracting(SimilarProductDTO::getProductId).containsExactly(20, 30);
+        assertThat(similar).extracting(SimilarProductDTO::getCoLikeCount).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldCountRepeatedLikesOnceAndForgetRemovedOnes() {
+        // Given
+        final CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+        matrix.add(1, 10);
+        matrix.add(1, 20);
+        matrix.add(1, 20);
+
+        // When
+        matrix.remove(1, 20);
+        final List<SimilarProductDTO> afterFirstRemove = matrix.topSimilar(10, 5);
+        matrix.remove(1, 20);
+        final List<SimilarProductDTO> afterSecondRemove = matrix.topSimilar(10, 5);
+
+        // Then
+        assertThat(afterFirstRemove).extracting(SimilarProductDTO::getCoLikeCount).containsExactly(1L);
+        assertThat(afterSecondRemove).isEmpty();
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.example.favouriteservice.helper;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.favouriteservice.model.Favourite;
+import org.example.favouriteservice.repository.FavouriteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a real Hikari pool over H2, without the test-managed transaction, and counts the
+ * connections checked out while the enrichment step runs.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:enrichment;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false"
+})
+class EnrichmentConnectionPoolTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FavouriteRepository favouriteRepository;
+
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = dataSource.unwrap(HikariDataSource.class);
+        favouriteRepository.save(Favourite.builder()
+                .userId(1)
+                .productId(10)
+                .likeDate(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        favouriteRepository.deleteAll();
+    }
+
+    @Test
+    void shouldHoldNoConnectionWhileEnriching() {
+        // Given
+        EnrichmentTransactions transactions = new EnrichmentTransactions(transactionManager, true);
+        AtomicInteger activeDuringEnrichment = new AtomicInteger(-1);
+
+        // When
+        List<Favourite> favourites = transactions.loadThenEnrich(favouriteRepository::findAll, loaded -> {
+            activeDuringEnrichment.set(pool.getHikariPoolMXBean().getActiveConnections());
+            return loaded;
+        });
+
+        // Then
+        assertThat(favourites).hasSize(1);
+        assertThat(activeDuringEnrichment).hasValue(0);
+    }
+
+    @Test
+    void shouldHoldTheConnectionWhileEnrichingWhenReleaseIsDisabled() {
+        // Given
+        EnrichmentTransactions transactions = new EnrichmentTransactions(transactionManager, false);
+        AtomicInteger activeDuringEnrichment = new AtomicInteger(-1);
+
+        // When
+        transactions.loadThenEnrich(favouriteRepository::findAll, loaded -> {
+            activeDuringEnrichment.set(pool.getHikariPoolMXBean().getActiveConnections());
+            return loaded;
+        });
+
+        // Then
+        assertThat(activeDuringEnrichment).hasValue(1);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.favouriteservice.helper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnrichmentTransactionsTest {
+
+    /**
+     * Transaction manager without a resource, enough to make transaction boundaries observable.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    @Test
+    void shouldEndReadTransactionBeforeEnrichment() {
+        // Given
+        EnrichmentTransactions transactions = new EnrichmentTransactions(new NoOpTransactionManager(), true);
+        AtomicBoolean loadedInReadOnlyTransaction = new AtomicBoolean();
+        AtomicBoolean enrichedInTransaction = new AtomicBoolean(true);
+
+        // When
+        String result = transactions.loadThenEnrich(
+                () -> {
+                    loadedInReadOnlyTransaction.set(TransactionSynchronizationManager.isActualTransactionActive()
+                            && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                    return "favourites";
+                },
+                loaded -> {
+                    enrichedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+                    return loaded + " enriched";
+                });
+
+        // Then
+        assertThat(result).isEqualTo("favourites enriched");
+        assertThat(loadedInReadOnlyTransaction).isTrue();
+        assertThat(enrichedInTransaction).isFalse();
+    }
+
+    @Test
+    void shouldKeepOneTransactionWhenReleaseIsDisabled() {
+        // Given
+        EnrichmentTransactions transactions = new EnrichmentTransactions(new NoOpTransactionManager(), false);
+        AtomicBoolean enrichedInTransaction = new AtomicBoolean();
+
+        // When
+        transactions.loadThenEnrich(() -> "favourites", loaded -> {
+            enrichedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return loaded;
+        });
+
+        // Then
+        assertThat(enrichedInTransaction).isTrue();
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.favouriteservice.helper;
+
+import org.example.favouriteservice.dtos.ProductLikeCountDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private static final long BUCKET = 1_000L;
+    private static final long NOW = 10 * BUCKET;
+    private static final int CAPACITY = 10;
+
+    @Test
+    void shouldRankByCountAndBreakTiesByLowerProductId() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, CAPACITY);
+        counter.add(30, NOW, 1, NOW);
+        counter.add(20, NOW, 2, NOW);
+        counter.add(10, NOW, 1, NOW);
+        counter.add(40, NOW, 1, NOW);
+
+        // When
+        final List<ProductLikeCountDTO> top = counter.top(3, NOW);
+
+        // Then
+        assertThat(top).extracting(ProductLikeCountDTO::getProductId).containsExactly(20, 10, 30);
+        assertThat(top).extracting(ProductLikeCountDTO::getLikeCount).containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    void shouldReorderWhenCountsChange() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, CAPACITY);
+        counter.add(10, NOW, 3, NOW);
+        counter.add(20, NOW, 2, NOW);
+
+        // When
+        counter.add(20, NOW, 2, NOW);
+        counter.add(10, NOW, -1, NOW);
+
+        // Then
+        assertThat(counter.top(5, NOW)).extracting(ProductLikeCountDTO::getProductId).containsExactly(20, 10);
+    }
+
+    @Test
+    void shouldDropBucketsThatSlideOutOfTheWindow() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, CAPACITY);
+        counter.add(10, NOW, 2, NOW);
+        counter.add(20, NOW + BUCKET, 1, NOW + BUCKET);
+
+        // When
+        final List<ProductLikeCountDTO> stillInWindow = counter.top(5, NOW + 2 * BUCKET);
+        final List<ProductLikeCountDTO> afterExpiry = counter.top(5, NOW + 3 * BUCKET);
+
+        // Then
+        assertThat(stillInWindow).extracting(ProductLikeCountDTO::getProductId).containsExactly(10, 20);
+        assertThat(afterExpiry).extracting(ProductLikeCountDTO::getProductId).containsExactly(20);
+    }
+
+    @Test
+    void shouldForgetProductsWhoseCountDropsToZero() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, CAPACITY);
+        counter.add(10, NOW, 1, NOW);
+
+        // When
+        counter.add(10, NOW, -1, NOW);
+
+        // Then
+        assertThat(counter.top(5, NOW)).isEmpty();
+    }
+
+    @Test
+    void shouldCountFutureEventsInTheCurrentBucketAndIgnoreExpiredOnes() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, CAPACITY);
+
+        // When
+        counter.add(10, NOW + 5 * BUCKET, 1, NOW);
+        counter.add(20, NOW - 3 * BUCKET, 1, NOW);
+
+        // Then
+        assertThat(counter.top(5, NOW)).extracting(ProductLikeCountDTO::getProductId).containsExactly(10);
+        assertThat(counter.top(5, NOW + 2 * BUCKET)).extracting(ProductLikeCountDTO::getProductId).containsExactly(10);
+        assertThat(counter.top(5, NOW + 3 * BUCKET)).isEmpty();
+    }
+
+    @Test
+    void shouldRankOnlyTheBestProductsUpToCapacity() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, 2);
+        counter.add(10, NOW, 3, NOW);
+        counter.add(20, NOW, 2, NOW);
+
+        // When
+        counter.add(30, NOW, 1, NOW);
+        counter.add(40, NOW, 4, NOW);
+
+        // Then
+        assertThat(counter.top(5, NOW)).extracting(ProductLikeCountDTO::getProductId).containsExactly(40, 10);
+    }
+
+    @Test
+    void shouldBringBackAnUnrankedProductWhenARankedOneFallsBelowIt() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, 2);
+        counter.add(10, NOW, 3, NOW);
+        counter.add(20, NOW, 2, NOW);
+        counter.add(30, NOW, 1, NOW);
+
+        // When
+        counter.add(20, NOW, -2, NOW);
+
+        // Then
+        assertThat(counter.top(5, NOW)).extracting(ProductLikeCountDTO::getProductId).containsExactly(10, 30);
+    }
+
+    @Test
+    void shouldReRankAfterABucketExpiresWhenOverCapacity() {
+        // Given
+        final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, 3, 1);
+        counter.add(10, NOW, 5, NOW);
+        counter.add(20, NOW + BUCKET, 1, NOW + BUCKET);
+
+        // When
+        final List<ProductLikeCountDTO> afterExpiry = counter.top(5, NOW + 3 * BUCKET);
+
+        // Then
+        assertThat(afterExpiry).extracting(ProductLikeCountDTO::getProductId).containsExactly(20);
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.example.favouriteservice.repository;
+
+import org.example.favouriteservice.model.Favourite;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false"
+})
+class FavouriteRepositoryTest {
+
+    private static final LocalDateTime LIKED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FavouriteRepository favouriteRepository;
+
+    @Test
+    void shouldCountDistinctUsersPerProduct() {
+        // Given
+        persist(1, 10, LIKED_AT);
+        persist(1, 10, LIKED_AT.plusDays(1));
+        persist(2, 10, LIKED_AT);
+        persist(3, 11, LIKED_AT);
+
+        // When
+        long count = favouriteRepository.countByProductId(10);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(favouriteRepository.countByProductId(12)).isZero();
+    }
+
+    @Test
+    void shouldPageFavouritesByUser() {
+        // Given
+        persist(1, 10, LIKED_AT);
+        persist(1, 11, LIKED_AT);
+        persist(1, 12, LIKED_AT);
+        persist(2, 10, LIKED_AT);
+
+        // When
+        Page<Favourite> page = favouriteRepository.findByUserId(1, PageRequest.of(0, 2, Sort.by("productId")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Favourite::getProductId).containsExactly(10, 11);
+    }
+
+    @Test
+    void shouldLockAllFavouritesOfTheUser() {
+        // Given
+        persist(1, 10, LIKED_AT);
+        persist(1, 10, LIKED_AT.plusDays(1));
+        persist(2, 11, LIKED_AT);
+
+        // When
+        List<Favourite> favourites = favouriteRepository.findByUserIdForUpdate(1);
+
+        // Then
+        assertThat(favourites).extracting(Favourite::getLikeDate).containsExactlyInAnyOrder(LIKED_AT, LIKED_AT.plusDays(1));
+    }
+
+    @Test
+    void shouldPageFavouritesByProduct() {
+        // Given
+        persist(1, 10, LIKED_AT);
+        persist(2, 10, LIKED_AT);
+        persist(3, 11, LIKED_AT);
+
+        // When
+        Page<Favourite> page = favouriteRepository.findByProductId(10, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).extracting(Favourite::getUserId).containsExactlyInAnyOrder(1, 2);
+    }
+
+    private void persist(final int userId, final int productId, final LocalDateTime likeDate) {
+        this.entityManager.persistAndFlush(Favourite.builder()
+                .userId(userId)
+                .productId(productId)
+                .likeDate(likeDate)
+                .build());
+    }
+
+}
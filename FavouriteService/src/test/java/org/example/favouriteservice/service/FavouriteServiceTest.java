@@ -0,0 +1,151 @@
+package org.example.favouriteservice.service;
+
+import org.example.favouriteservice.dtos.FavouriteDTO;
+import org.example.favouriteservice.dtos.WishlistItemDTO;
+import org.example.favouriteservice.event.FavouriteChangedEvent;
+import org.example.favouriteservice.implementation.FavServiceImpl;
+import org.example.favouriteservice.model.Favourite;
+import org.example.favouriteservice.model.FavouriteId;
+import org.example.favouriteservice.repository.FavouriteBatchRepository;
+import org.example.favouriteservice.repository.FavouriteRepository;
+import org.example.favouriteservice.response.WishlistSyncResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteServiceTest {
+
+    private static final LocalDateTime LIKED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Mock
+    private FavouriteRepository favouriteRepository;
+
+    @Mock
+    private FavouriteBatchRepository favouriteBatchRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FavServiceImpl favouriteService;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldApplyOnlyTheDiffAgainstTheLockedRows() {
+        // Given
+        when(favouriteRepository.findByUserIdForUpdate(1)).thenReturn(List.of(favourite(10), favourite(11)));
+        List<WishlistItemDTO> wishlist = Arrays.asList(item(10, null), item(12, LIKED_AT), item(12, null));
+
+        // When
+        WishlistSyncResponse result = favouriteService.syncWishlist(1, wishlist);
+
+        // Then
+        ArgumentCaptor<List<Favourite>> deleted = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Favourite>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(favouriteBatchRepository).deleteAll(deleted.capture());
+        verify(favouriteBatchRepository).insertAll(inserted.capture());
+        assertThat(deleted.getValue()).extracting(Favourite::getProductId).containsExactly(11);
+        assertThat(inserted.getValue()).extracting(Favourite::getProductId).containsExactly(12);
+        assertThat(result.getAdded()).isEqualTo(1);
+        assertThat(result.getRemoved()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldTruncateLikeDatesToSeconds() {
+        // Given
+        when(favouriteRepository.findByUserIdForUpdate(1)).thenReturn(List.of());
+        List<WishlistItemDTO> wishlist = Arrays.asList(item(10, LIKED_AT.withNano(123_456_789)), item(11, null));
+
+        // When
+        favouriteService.syncWishlist(1, wishlist);
+
+        // Then
+        ArgumentCaptor<List<Favourite>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(favouriteBatchRepository).insertAll(inserted.capture());
+        assertThat(inserted.getValue().get(0).getLikeDate()).isEqualTo(LIKED_AT);
+        assertThat(inserted.getValue().get(1).getLikeDate().getNano()).isZero();
+    }
+
+    @Test
+    void shouldPublishOneEventPerAppliedChange() {
+        // Given
+        when(favouriteRepository.findByUserIdForUpdate(1)).thenReturn(List.of(favourite(10), favourite(11)));
+
+        // When
+        favouriteService.syncWishlist(1, List.of(item(11, null), item(12, LIKED_AT)));
+
+        // Then
+        ArgumentCaptor<FavouriteChangedEvent> events = ArgumentCaptor.forClass(FavouriteChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(FavouriteChangedEvent::getProductId, FavouriteChangedEvent::getDelta,
+                        FavouriteChangedEvent::getLikerDelta)
+                .containsExactly(tuple(10, -1, -1), tuple(12, 1, 1));
+    }
+
+    @Test
+    void shouldNotCountASecondLikeOfTheSameProductAsANewLiker() {
+        // Given
+        when(favouriteRepository.findByUserIdAndProductIdForUpdate(1, 10)).thenReturn(List.of(favourite(10)));
+        when(favouriteRepository.save(any(Favourite.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        favouriteService.save(FavouriteDTO.builder()
+                .userId(1)
+                .productId(10)
+                .likeDate(LIKED_AT.plusDays(1))
+                .build());
+
+        // Then
+        ArgumentCaptor<FavouriteChangedEvent> event = ArgumentCaptor.forClass(FavouriteChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getDelta()).isEqualTo(1);
+        assertThat(event.getValue().getLikerDelta()).isZero();
+    }
+
+    @Test
+    void shouldCountRemovalOfTheLastLikeAsALostLiker() {
+        // Given
+        when(favouriteRepository.findByUserIdAndProductIdForUpdate(1, 10)).thenReturn(List.of(favourite(10)));
+
+        // When
+        favouriteService.deleteById(new FavouriteId(1, 10, LIKED_AT));
+
+        // Then
+        ArgumentCaptor<FavouriteChangedEvent> event = ArgumentCaptor.forClass(FavouriteChangedEvent.class);
+        verify(favouriteRepository).delete(favourite(10));
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getLikerDelta()).isEqualTo(-1);
+    }
+
+    private static Favourite favourite(final int productId) {
+        return Favourite.builder()
+                .userId(1)
+                .productId(productId)
+                .likeDate(LIKED_AT)
+                .build();
+    }
+
+    private static WishlistItemDTO item(final int productId, final LocalDateTime likeDate) {
+        return WishlistItemDTO.builder()
+                .productId(productId)
+                .likeDate(likeDate)
+                .build();
+    }
+
+}
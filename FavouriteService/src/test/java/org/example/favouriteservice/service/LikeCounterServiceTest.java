@@ -0,0 +1,310 @@
+package org.example.favouriteservice.service;
+
+import org.example.favouriteservice.event.FavouriteChangedEvent;
+import org.example.favouriteservice.implementation.LikeCounterServiceImpl;
+import org.example.favouriteservice.repository.ProductLikeCountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class LikeCounterServiceTest {
+
+    private static final int PRODUCT_ID = 1;
+    private static final int WRITERS = 4;
+
+    /**
+     * Stands in for the favourites table: a favourite change only becomes visible to the
+     * rebuild when its transaction commits.
+     */
+    private final AtomicLong committedFavourites = new AtomicLong();
+    private final ThreadLocal<Long> uncommitted = ThreadLocal.withInitial(() -> 0L);
+    private final InMemoryLikeCounts likeCounts = new InMemoryLikeCounts();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new CommittingTransactionManager());
+
+    private LikeCounterServiceImpl likeCounterService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.likeCounterService = new LikeCounterServiceImpl(this.likeCounts, this.transactionTemplate);
+        this.executor = Executors.newFixedThreadPool(WRITERS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void shouldNotLoseIncrementsThatRaceWithFlush() throws Exception {
+        // Given
+        int likesPerWriter = 20_000;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Future<?> flusher = this.executor.submit(() -> {
+            while (writing.get()) {
+                this.likeCounterService.flush();
+            }
+        });
+
+        // When
+        runWriters(() -> {
+            for (int i = 0; i < likesPerWriter; i++) {
+                this.likeCounterService.onFavouriteChanged(event(1));
+            }
+            return null;
+        });
+        writing.set(false);
+        flusher.get(10, TimeUnit.SECONDS);
+        this.likeCounterService.flush();
+
+        // Then
+        assertThat(this.likeCounts.stored.get(PRODUCT_ID)).isEqualTo((long) WRITERS * likesPerWriter);
+        assertThat(likeCount()).isEqualTo((long) WRITERS * likesPerWriter);
+    }
+
+    @Test
+    void shouldNotDoubleCountLikesCommittedDuringReconcile() throws Exception {
+        // Given
+        int transactionsPerWriter = 2_000;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Future<?> reconciler = this.executor.submit(() -> {
+            while (writing.get()) {
+                this.likeCounterService.reconcile();
+                this.likeCounterService.flush();
+            }
+        });
+
+        // When
+        runWriters(() -> {
+            for (int i = 0; i < transactionsPerWriter; i++) {
+                this.transactionTemplate.executeWithoutResult(status -> {
+                    this.uncommitted.set(this.uncommitted.get() + 1);
+                    this.likeCounterService.onFavouriteChanged(event(1));
+                });
+            }
+            return null;
+        });
+        writing.set(false);
+        reconciler.get(10, TimeUnit.SECONDS);
+        this.likeCounterService.flush();
+
+        // Then
+        assertThat(this.committedFavourites.get()).isEqualTo((long) WRITERS * transactionsPerWriter);
+        assertThat(this.likeCounts.stored.get(PRODUCT_ID)).isEqualTo(this.committedFavourites.get());
+    }
+
+    @Test
+    void shouldNotDoubleCountDeltasAnotherInstanceFlushesAfterReconcile() {
+        // Given
+        LikeCounterServiceImpl otherInstance = new LikeCounterServiceImpl(this.likeCounts, this.transactionTemplate);
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.uncommitted.set(this.uncommitted.get() + 1);
+            otherInstance.onFavouriteChanged(event(1));
+        });
+
+        // When
+        this.likeCounterService.reconcile();
+        otherInstance.flush();
+
+        // Then
+        assertThat(this.likeCounts.stored.get(PRODUCT_ID)).isEqualTo(1L);
+        assertThat(otherInstance.findByProductIds(List.of(PRODUCT_ID)).get(0).getLikeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldOnlyCountChangesThatAddOrRemoveALiker() {
+        // Given
+        this.likeCounterService.onFavouriteChanged(event(1));
+        this.likeCounterService.onFavouriteChanged(
+                new FavouriteChangedEvent(7, PRODUCT_ID, LocalDateTime.of(2024, 3, 2, 10, 0), 1, 0));
+
+        // When
+        this.likeCounterService.flush();
+
+        // Then
+        assertThat(this.likeCounts.stored.get(PRODUCT_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldKeepPendingDeltasWhenRebuildFails() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            this.likeCounterService.onFavouriteChanged(event(1));
+        }
+        this.likeCounts.failRebuild = true;
+
+        // When
+        assertThatThrownBy(() -> this.likeCounterService.reconcile()).isInstanceOf(IllegalStateException.class);
+        this.likeCounterService.flush();
+
+        // Then
+        assertThat(this.likeCounts.stored.get(PRODUCT_ID)).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldIgnoreRolledBackChangesAndReleaseTheLock() {
+        // Given
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.likeCounterService.onFavouriteChanged(event(1));
+            status.setRollbackOnly();
+        });
+
+        // When & Then
+        assertThat(likeCount()).isZero();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> this.likeCounterService.reconcile());
+    }
+
+    @Test
+    void shouldDropFlushedProductsFromPending() {
+        // Given
+        this.likeCounterService.onFavouriteChanged(event(1));
+        this.likeCounterService.onFavouriteChanged(event(-1));
+
+        // When
+        this.likeCounterService.flush();
+
+        // Then
+        assertThat(this.likeCounts.applied).isEmpty();
+        assertThat(likeCount()).isZero();
+    }
+
+    private void runWriters(final Callable<Void> writer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            writers.add(this.executor.submit(() -> {
+                start.await();
+                return writer.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : writers) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private long likeCount() {
+        return this.likeCounterService.findByProductIds(List.of(PRODUCT_ID)).get(0).getLikeCount();
+    }
+
+    private static FavouriteChangedEvent event(final int delta) {
+        return new FavouriteChangedEvent(7, PRODUCT_ID, LocalDateTime.of(2024, 3, 1, 10, 0), delta, delta);
+    }
+
+    /**
+     * Stands in for {@code product_like_counts} and its generation row, whose shared and
+     * exclusive row locks last until the transaction that took them completes.
+     */
+    private final class InMemoryLikeCounts extends ProductLikeCountRepository {
+
+        private final Map<Integer, Long> stored = new ConcurrentHashMap<>();
+        private final List<Map<Integer, Long>> applied = new CopyOnWriteArrayList<>();
+        private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+        private volatile long generation;
+        private volatile boolean failRebuild;
+
+        private InMemoryLikeCounts() {
+            super(null);
+        }
+
+        @Override
+        public Map<Integer, Long> findByProductIds(final Collection<Integer> productIds) {
+            return new HashMap<>(this.stored);
+        }
+
+        @Override
+        public void applyDeltas(final Map<Integer, Long> deltas) {
+            this.applied.add(deltas);
+            deltas.forEach((productId, delta) -> this.stored.merge(productId, delta, Long::sum));
+        }
+
+        @Override
+        public long currentGeneration() {
+            return this.generation;
+        }
+
+        @Override
+        public long lockGeneration() {
+            holdUntilCompletion(this.generationLock.readLock());
+            return this.generation;
+        }
+
+        @Override
+        public void rebuildFromFavourites() {
+            if (this.failRebuild) {
+                throw new IllegalStateException("rebuild failed");
+            }
+            holdUntilCompletion(this.generationLock.writeLock());
+            this.stored.put(PRODUCT_ID, committedFavourites.get());
+            this.generation++;
+        }
+
+        private void holdUntilCompletion(final Lock lock) {
+            lock.lock();
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                lock.unlock();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+
+    private final class CommittingTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            uncommitted.set(0L);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committedFavourites.addAndGet(uncommitted.get());
+            uncommitted.set(0L);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            uncommitted.set(0L);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.example.favouriteservice.service;
+
+import org.example.favouriteservice.dtos.SimilarProductDTO;
+import org.example.favouriteservice.event.FavouriteChangedEvent;
+import org.example.favouriteservice.implementation.RecommendationServiceImpl;
+import org.example.favouriteservice.repository.FavouriteGraphRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RecommendationServiceTest {
+
+    private final ScannedGraph graph = new ScannedGraph();
+
+    private RecommendationServiceImpl recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        this.recommendationService = new RecommendationServiceImpl(this.graph);
+    }
+
+    @Test
+    void shouldReplayLikesCommittedWhileScanning() {
+        // Given
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(1, 10));
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(1, 11));
+        this.graph.duringScan = () -> {
+            this.recommendationService.onFavouriteChanged(event(2, 10, 1));
+            this.recommendationService.onFavouriteChanged(event(2, 11, 1));
+        };
+
+        // When
+        this.recommendationService.rebuild();
+
+        // Then
+        assertThat(this.recommendationService.findSimilar(10, 5))
+                .extracting(SimilarProductDTO::getProductId, SimilarProductDTO::getCoLikeCount)
+                .containsExactly(tuple(11, 2L));
+    }
+
+    @Test
+    void shouldReplayRemovalsCommittedWhileScanning() {
+        // Given
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(1, 10));
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(1, 11));
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(2, 10));
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(2, 11));
+        this.graph.duringScan = () -> this.recommendationService.onFavouriteChanged(event(2, 11, -1));
+
+        // When
+        this.recommendationService.rebuild();
+
+        // Then
+        assertThat(this.recommendationService.findSimilar(10, 5))
+                .extracting(SimilarProductDTO::getProductId, SimilarProductDTO::getCoLikeCount)
+                .containsExactly(tuple(11, 1L));
+    }
+
+    @Test
+    void shouldNotReplayLikesAlreadyInTheSnapshot() {
+        // Given
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(1, 10));
+        this.graph.edges.add(new FavouriteGraphRepository.Edge(1, 11));
+        this.recommendationService.onFavouriteChanged(event(1, 10, 1));
+        this.recommendationService.onFavouriteChanged(event(1, 11, 1));
+
+        // When
+        this.recommendationService.rebuild();
+        this.recommendationService.rebuild();
+
+        // Then
+        assertThat(this.recommendationService.findSimilar(10, 5))
+                .extracting(SimilarProductDTO::getProductId, SimilarProductDTO::getCoLikeCount)
+                .containsExactly(tuple(11, 1L));
+    }
+
+    private static FavouriteChangedEvent event(final int userId, final int productId, final int delta) {
+        return new FavouriteChangedEvent(userId, productId, LocalDateTime.of(2024, 3, 1, 10, 0), delta, delta);
+    }
+
+    /**
+     * Serves the edges committed before the scan started and runs {@code duringScan} once the
+     * first edge has been read, standing in for commits that land while the rows stream in.
+     */
+    private static final class ScannedGraph extends FavouriteGraphRepository {
+
+        private final List<Edge> edges = new ArrayList<>();
+        private Runnable duringScan = () -> { };
+
+        private ScannedGraph() {
+            super(null);
+        }
+
+        @Override
+        public Stream<Edge> streamEdges() {
+            final List<Edge> snapshot = List.copyOf(this.edges);
+            return snapshot.stream().peek(edge -> {
+                final Runnable commits = this.duringScan;
+                this.duringScan = () -> { };
+                commits.run();
+            });
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.example.orderservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.orderservice.constant.AppConstant;
+import org.example.orderservice.domain.dtos.OrderDailySummaryDTO;
+import org.example.orderservice.domain.response.ResponseDtoCollection;
+import org.example.orderservice.service.OrderSummaryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@Slf4j
+@RequestMapping("/api/orders/summary")
+@RequiredArgsConstructor
+public class OrderSummaryController {
+
+    private final OrderSummaryService orderSummaryService;
+
+    @GetMapping("/daily")
+    public ResponseEntity<ResponseDtoCollection<OrderDailySummaryDTO>> findDaily(
+            @RequestParam("from") @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_FORMAT) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_FORMAT) LocalDate to) {
+        log.info("OrderSummaryController, Retrieve the daily revenue summaries");
+        return ResponseEntity.ok(new ResponseDtoCollection<>(this.orderSummaryService.findDaily(from, to)));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Boolean> rebuild() {
+        log.info("OrderSummaryController, Rebuild the daily revenue summaries");
+        this.orderSummaryService.rebuild();
+        return ResponseEntity.ok(true);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.orderservice.domain.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.orderservice.constant.AppConstant;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderDailySummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonFormat(pattern = AppConstant.LOCAL_DATE_FORMAT, shape = JsonFormat.Shape.STRING)
+    private LocalDate summaryDate;
+    private Long orderCount;
+    private Double totalRevenue;
+
+}
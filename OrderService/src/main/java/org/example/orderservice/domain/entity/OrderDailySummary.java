@@ -0,0 +1,39 @@
+package org.example.orderservice.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated revenue for one calendar day, kept current by
+ * {@link org.example.orderservice.service.OrderSummaryService} on every order write.
+ */
+@Entity
+@Table(name = "order_daily_summaries")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrderDailySummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "summary_date", unique = true, nullable = false, updatable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "total_revenue", columnDefinition = "decimal")
+    private Double totalRevenue;
+
+}
@@ -0,0 +1,15 @@
+package org.example.orderservice.mappers;
+
+import org.example.orderservice.domain.dtos.OrderDailySummaryDTO;
+import org.example.orderservice.domain.entity.OrderDailySummary;
+
+public interface OrderDailySummaryMapping {
+
+    public static OrderDailySummaryDTO map(OrderDailySummary summary) {
+        return OrderDailySummaryDTO.builder()
+                .summaryDate(summary.getSummaryDate())
+                .orderCount(summary.getOrderCount())
+                .totalRevenue(summary.getTotalRevenue())
+                .build();
+    }
+}
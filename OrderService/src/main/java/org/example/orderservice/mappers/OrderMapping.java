@@ -11,6 +11,7 @@ public interface OrderMapping {
                 .orderId(order.getOrderId())
                 .orderDate(order.getOrderDate())
                 .orderDesc(order.getOrderDesc())
+                .orderFee(order.getOrderFee())
                 .cartDTO(CartDTO.builder()
                         .cartId(order.getCart().getCartId())
                         .build())
@@ -22,6 +23,7 @@ public interface OrderMapping {
                 .orderId(orderDTO.getOrderId())
                 .orderDate(orderDTO.getOrderDate())
                 .orderDesc(orderDTO.getOrderDesc())
+                .orderFee(orderDTO.getOrderFee())
                 .cart(Cart.builder()
                         .cartId(orderDTO.getCartDTO().getCartId())
                         .build())
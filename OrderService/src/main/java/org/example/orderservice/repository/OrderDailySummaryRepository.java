@@ -0,0 +1,38 @@
+package org.example.orderservice.repository;
+
+import org.example.orderservice.domain.entity.OrderDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Both the incremental upsert and the rebuild bucket orders with {@code CAST(order_date AS DATE)}
+ * in the database, so the two paths always agree on which day an order belongs to.
+ */
+@Repository
+public interface OrderDailySummaryRepository extends JpaRepository<OrderDailySummary, LocalDate> {
+
+    List<OrderDailySummary> findBySummaryDateBetweenOrderBySummaryDateAsc(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_daily_summaries (summary_date, order_count, total_revenue) " +
+            "VALUES (CAST(:orderDate AS DATE), :orders, :revenue) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + :orders, " +
+            "total_revenue = total_revenue + :revenue", nativeQuery = true)
+    int applyDelta(@Param("orderDate") LocalDateTime orderDate,
+                   @Param("orders") long orders,
+                   @Param("revenue") double revenue);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_daily_summaries (summary_date, order_count, total_revenue) " +
+            "SELECT CAST(order_date AS DATE), COUNT(*), COALESCE(SUM(order_fee), 0) " +
+            "FROM orders WHERE order_date IS NOT NULL " +
+            "GROUP BY CAST(order_date AS DATE)", nativeQuery = true)
+    int rebuildFromOrders();
+}
@@ -0,0 +1,16 @@
+package org.example.orderservice.service;
+
+import org.example.orderservice.domain.dtos.OrderDailySummaryDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderSummaryService {
+
+    void record(LocalDateTime orderDate, Double orderFee);
+    void retract(LocalDateTime orderDate, Double orderFee);
+
+    List<OrderDailySummaryDTO> findDaily(LocalDate from, LocalDate to);
+    void rebuild();
+}
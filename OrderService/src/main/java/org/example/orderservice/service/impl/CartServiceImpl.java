@@ -1,19 +1,28 @@
 package org.example.orderservice.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.orderservice.constant.AppConstant;
 import org.example.orderservice.domain.dtos.CartDTO;
 import org.example.orderservice.domain.dtos.UserDTO;
+import org.example.orderservice.domain.response.ResponseDtoCollection;
 import org.example.orderservice.exception.CartNotFoundException;
+import org.example.orderservice.helper.EnrichmentTransactions;
 import org.example.orderservice.mappers.CartMapping;
 import org.example.orderservice.repository.CartRepository;
 import org.example.orderservice.service.CartService;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,40 +31,68 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CartServiceImpl implements CartService {
 
-    private CartRepository cartRepository;
+    private final CartRepository cartRepository;
     private final RestTemplate restTemplate;
+    private final EnrichmentTransactions enrichmentTransactions;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CartDTO> findAll() {
 
         log.info("CartServiceImplementation, find all the CartDTOS");
-        return this.cartRepository.findAll()
-                .stream()
-                .map(CartMapping::map)
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.cartRepository.findAll()
+                        .stream()
+                        .map(CartMapping::map)
+                        .collect(Collectors.toList()),
+                this::enrich);
+    }
+
+    private List<CartDTO> enrich(final List<CartDTO> carts) {
+        final Map<Integer, UserDTO> users = this.findUsers(carts.stream()
+                .map(CartDTO::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return carts.stream()
                 .map(cart -> {
-                    // Capture restTemplate in a local variable
-                    cart.setUserDTO(this.restTemplate.getForObject(
-                            AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/" + cart.getUserDTO().getUserId(),
-                            UserDTO.class));
+                    cart.setUserDTO(users.getOrDefault(cart.getUserId(), cart.getUserDTO()));
                     return cart;
                 })
                 .distinct()
                 .collect(Collectors.toUnmodifiableList());
     }
 
+    private Map<Integer, UserDTO> findUsers(final Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        final String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        final ResponseDtoCollection<UserDTO> response = this.restTemplate.exchange(
+                        AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=" + ids,
+                        HttpMethod.GET, null, new ParameterizedTypeReference<ResponseDtoCollection<UserDTO>>() {})
+                .getBody();
+        if (response == null || response.getCollection() == null) {
+            return Map.of();
+        }
+        return response.getCollection()
+                .stream()
+                .collect(Collectors.toMap(UserDTO::getUserId, Function.identity(), (a, b) -> a));
+    }
+
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CartDTO findById(Integer cartId) {
         log.info("CartServiceImplementation,Find the CartDTo by using cart Id");
-        return this.cartRepository.findById(cartId)
-                .map(CartMapping::map)
-                .map(cart -> {
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.cartRepository.findById(cartId)
+                        .map(CartMapping::map)
+                        .orElseThrow(() -> new CartNotFoundException(String.format("Cart with id: %d is not found", cartId))),
+                cart -> {
                     cart.setUserDTO(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
                             .USER_SERVICE_API_URL + "/" + cart.getUserDTO().getUserId(), UserDTO.class));
                     return cart;
-
-                })
-                .orElseThrow(() -> new CartNotFoundException(String.format("Cart with id: %d is not found", cartId)));
+                });
 
     }
 
@@ -1,16 +1,19 @@
 package org.example.orderservice.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.orderservice.domain.dtos.OrderDTO;
+import org.example.orderservice.domain.entity.Order;
 import org.example.orderservice.exception.OrderNotFoundException;
 import org.example.orderservice.mappers.OrderMapping;
 import org.example.orderservice.repository.OrderRepository;
 import org.example.orderservice.service.OrderService;
+import org.example.orderservice.service.OrderSummaryService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,11 +24,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
-    private OrderRepository orderRepository;
+    private final OrderRepository orderRepository;
+    private final OrderSummaryService orderSummaryService;
     private RestTemplate restTemplate;
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDTO> findAll()  {
         log.info("*** OrderDto List, service; fetch all orders *");
         return this.orderRepository.findAll()
@@ -36,6 +41,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderDTO findById(Integer orderId) {
         log.info("*** OrderDto, service; fetch order by id *");
         return this.orderRepository.findById(orderId)
@@ -47,15 +53,29 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public OrderDTO save(OrderDTO orderDTO) {
         log.info("*** OrderDto, service; save order *");
-        return OrderMapping.map(this.orderRepository
-                .save(OrderMapping.map(orderDTO)));
+        if (orderDTO.getOrderDate() == null) {
+            orderDTO.setOrderDate(LocalDateTime.now());
+        }
+        final Order saved = this.orderRepository.save(OrderMapping.map(orderDTO));
+        this.orderSummaryService.record(saved.getOrderDate(), saved.getOrderFee());
+        return OrderMapping.map(saved);
     }
 
     @Override
     public OrderDTO update(OrderDTO orderDTO) {
         log.info("*** OrderDto, service; update order *");
-        return OrderMapping.map(this.orderRepository
-                .save(OrderMapping.map(orderDTO)));
+        if (orderDTO.getOrderId() != null) {
+            this.orderRepository.findById(orderDTO.getOrderId())
+                    .ifPresent(previous -> {
+                        if (orderDTO.getOrderDate() == null) {
+                            orderDTO.setOrderDate(previous.getOrderDate());
+                        }
+                        this.orderSummaryService.retract(previous.getOrderDate(), previous.getOrderFee());
+                    });
+        }
+        final Order saved = this.orderRepository.save(OrderMapping.map(orderDTO));
+        this.orderSummaryService.record(saved.getOrderDate(), saved.getOrderFee());
+        return OrderMapping.map(saved);
     }
 
     @Override
@@ -68,6 +88,8 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public void deleteById(Integer orderId) {
         log.info("*** Void, service; delete order by id *");
-        this.orderRepository.delete(OrderMapping.map(this.findById(orderId)));
+        final OrderDTO orderDTO = this.findById(orderId);
+        this.orderRepository.delete(OrderMapping.map(orderDTO));
+        this.orderSummaryService.retract(orderDTO.getOrderDate(), orderDTO.getOrderFee());
     }
 }
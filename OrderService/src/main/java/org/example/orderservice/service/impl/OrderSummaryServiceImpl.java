@@ -0,0 +1,60 @@
+package org.example.orderservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.orderservice.domain.dtos.OrderDailySummaryDTO;
+import org.example.orderservice.mappers.OrderDailySummaryMapping;
+import org.example.orderservice.repository.OrderDailySummaryRepository;
+import org.example.orderservice.service.OrderSummaryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@code order_daily_summaries} inside the caller's transaction so that
+ * reports never have to scan {@code orders}.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSummaryServiceImpl implements OrderSummaryService {
+
+    private final OrderDailySummaryRepository summaryRepository;
+
+    @Override
+    public void record(LocalDateTime orderDate, Double orderFee) {
+        applyDelta(orderDate, 1L, orderFee == null ? 0.0 : orderFee);
+    }
+
+    @Override
+    public void retract(LocalDateTime orderDate, Double orderFee) {
+        applyDelta(orderDate, -1L, orderFee == null ? 0.0 : -orderFee);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderDailySummaryDTO> findDaily(LocalDate from, LocalDate to) {
+        log.info("*** OrderDailySummaryDto List, service; fetch daily revenue *");
+        return this.summaryRepository.findBySummaryDateBetweenOrderBySummaryDateAsc(from, to)
+                .stream()
+                .map(OrderDailySummaryMapping::map)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public void rebuild() {
+        log.info("*** Void, service; rebuild daily revenue from orders *");
+        this.summaryRepository.deleteAllInBatch();
+        this.summaryRepository.rebuildFromOrders();
+    }
+
+    private void applyDelta(LocalDateTime orderDate, long orders, double revenue) {
+        // a single upsert, so two first writes for the same day cannot collide on the primary key
+        this.summaryRepository.applyDelta(orderDate == null ? LocalDateTime.now() : orderDate, orders, revenue);
+    }
+}
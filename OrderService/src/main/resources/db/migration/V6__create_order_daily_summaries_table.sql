@@ -0,0 +1,13 @@
+
+CREATE TABLE order_daily_summaries (
+                        summary_date DATE NOT NULL PRIMARY KEY,
+                        order_count BIGINT NOT NULL DEFAULT 0,
+                        total_revenue DECIMAL(15, 2) NOT NULL DEFAULT 0
+);
+
+INSERT INTO order_daily_summaries
+(summary_date, order_count, total_revenue)
+SELECT CAST(order_date AS DATE), COUNT(*), COALESCE(SUM(order_fee), 0)
+FROM orders
+WHERE order_date IS NOT NULL
+GROUP BY CAST(order_date AS DATE);
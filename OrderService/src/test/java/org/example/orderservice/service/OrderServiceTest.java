@@ -1,6 +1,8 @@
 package org.example.orderservice.service;
 
+import org.example.orderservice.domain.dtos.CartDTO;
 import org.example.orderservice.domain.dtos.OrderDTO;
+import org.example.orderservice.domain.entity.Cart;
 import org.example.orderservice.domain.entity.Order;
 
 import org.example.orderservice.repository.OrderRepository;
@@ -11,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +29,9 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderSummaryService orderSummaryService;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -61,4 +67,20 @@ class OrderServiceTest {
         // When
         verify(orderRepository, never()).save(any(Order.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRecordRevenueWhenOrderSaved() {
+        // Given
+        LocalDateTime orderDate = LocalDateTime.of(2024, 3, 1, 10, 0);
+        Order saved = Order.builder().orderId(1).orderDate(orderDate).orderFee(99.99)
+                .cart(Cart.builder().cartId(1).build()).build();
+        when(orderRepository.save(any(Order.class))).thenReturn(saved);
+
+        // When
+        orderService.save(OrderDTO.builder().orderDate(orderDate).orderFee(99.99)
+                .cartDTO(CartDTO.builder().cartId(1).build()).build());
+
+        // Then
+        verify(orderSummaryService).record(orderDate, 99.99);
+    }
+}
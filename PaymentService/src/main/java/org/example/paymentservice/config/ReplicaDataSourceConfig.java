@@ -0,0 +1,76 @@
+package org.example.paymentservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Primary/replica data sources, active once {@code spring.datasource.replica.url} is set;
+ * without it the single auto-configured pool is used as before. The replica defaults to the
+ * primary's credentials and driver and takes its pool settings from
+ * {@code spring.datasource.replica.hikari.*}. Scheduling is switched on here for the lag check.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(final DataSourceProperties properties,
+                                              @Value("${spring.datasource.replica.url}") final String url,
+                                              @Value("${spring.datasource.replica.username:#{null}}") final String username,
+                                              @Value("${spring.datasource.replica.password:#{null}}") final String password) {
+        final HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username != null ? username : properties.determineUsername())
+                .password(password != null ? password : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                               final MeterRegistry meterRegistry,
+                                               @Value("${spring.datasource.replica.max-lag:5s}") final Duration maxLag) {
+        final ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, ReplicaLagMonitor.Probe.mysql(),
+                maxLag, meterRegistry);
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                 final ReplicaLagMonitor replicaLagMonitor) {
+        return ReplicaRoutingDataSource.lazy(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+}
@@ -0,0 +1,95 @@
+package org.example.paymentservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Tracks how far the replica is behind the primary. The replica is only handed out while the
+ * last probe succeeded and reported a lag within {@code spring.datasource.replica.max-lag};
+ * a failed probe, a stopped replication thread or a server that reports no replication
+ * status at all sends every read back to the primary until the next successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final Probe probe;
+    private final Duration maxLag;
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(final DataSource replicaDataSource, final Probe probe, final Duration maxLag,
+                             final MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.probe = probe;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return this.replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean usable;
+        try (Connection connection = this.replicaDataSource.getConnection()) {
+            final Duration lag = this.probe.measure(connection);
+            this.lagSeconds = lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+            usable = lag != null && lag.compareTo(this.maxLag) <= 0;
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Replica lag probe failed", e);
+            this.lagSeconds = Double.NaN;
+            usable = false;
+        }
+        if (usable != this.replicaUsable) {
+            if (usable) {
+                log.info("Routing read-only transactions to the replica again");
+            } else {
+                log.warn("Replica unavailable or more than {} behind; routing reads to the primary", this.maxLag);
+            }
+        }
+        this.replicaUsable = usable;
+    }
+
+    /**
+     * Measures replication lag on a replica connection; {@code null} means replication is broken.
+     */
+    @FunctionalInterface
+    public interface Probe {
+
+        Duration measure(Connection connection) throws SQLException;
+
+        /**
+         * MySQL 8.0.22+ probe reading {@code Seconds_Behind_Source}. No status row means the
+         * server is not a replica at all (replication was reset, or the url points at the
+         * wrong server), so its data cannot be trusted to follow the primary.
+         */
+        static Probe mysql() {
+            return connection -> {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    final long seconds = rs.getLong("Seconds_Behind_Source");
+                    return rs.wasNull() ? null : Duration.ofSeconds(seconds);
+                }
+            };
+        }
+    }
+
+}
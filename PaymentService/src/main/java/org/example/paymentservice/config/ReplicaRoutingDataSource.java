@@ -0,0 +1,48 @@
+package org.example.paymentservice.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of {@code @Transactional(readOnly = true)} work to the replica while
+ * {@link ReplicaLagMonitor} reports it usable, and everything else to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource(final DataSource primary, final DataSource replica,
+                                     final ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        this.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        this.setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Builds the routing data source behind a {@link LazyConnectionDataSourceProxy}. The proxy
+     * is required: the transaction manager asks for a connection before it publishes the
+     * read-only flag, so the physical connection must only be chosen at the first statement.
+     */
+    public static DataSource lazy(final DataSource primary, final DataSource replica,
+                                  final ReplicaLagMonitor lagMonitor) {
+        final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && this.lagMonitor.isReplicaUsable()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.example.paymentservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.paymentservice.constant.AppConstant;
+import org.example.paymentservice.dtos.PaymentDailySummaryDTO;
+import org.example.paymentservice.response.DTOCollectionResponse;
+import org.example.paymentservice.service.PaymentSummaryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/payments/summary")
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentSummaryController {
+
+    private final PaymentSummaryService paymentSummaryService;
+
+    @GetMapping("/daily")
+    public ResponseEntity<DTOCollectionResponse<PaymentDailySummaryDTO>> findDaily(
+            @RequestParam("from") @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_FORMAT) final LocalDate from,
+            @RequestParam("to") @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_FORMAT) final LocalDate to) {
+        log.info("*** PaymentDailySummaryDto List, controller; fetch daily payment summaries *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.paymentSummaryService.findDaily(from, to)));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Boolean> rebuild() {
+        log.info("*** Boolean, resource; rebuild daily payment summaries *");
+        this.paymentSummaryService.rebuild();
+        return ResponseEntity.ok(true);
+    }
+}
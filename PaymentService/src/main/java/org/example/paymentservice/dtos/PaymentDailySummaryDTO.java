@@ -0,0 +1,28 @@
+package org.example.paymentservice.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.paymentservice.constant.AppConstant;
+import org.example.paymentservice.model.PaymentStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class PaymentDailySummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonFormat(pattern = AppConstant.LOCAL_DATE_FORMAT, shape = JsonFormat.Shape.STRING)
+    private LocalDate summaryDate;
+    private PaymentStatus paymentStatus;
+    private Long paymentCount;
+    private Long payedCount;
+
+}
@@ -0,0 +1,16 @@
+package org.example.paymentservice.helper;
+
+import org.example.paymentservice.dtos.PaymentDailySummaryDTO;
+import org.example.paymentservice.model.PaymentDailySummary;
+
+public interface PaymentDailySummaryMapping {
+    public static PaymentDailySummaryDTO map(final PaymentDailySummary summary) {
+        return PaymentDailySummaryDTO.builder()
+                .summaryDate(summary.getSummaryDate())
+                .paymentStatus(summary.getPaymentStatus())
+                .paymentCount(summary.getPaymentCount())
+                .payedCount(summary.getPayedCount())
+                .build();
+    }
+
+}
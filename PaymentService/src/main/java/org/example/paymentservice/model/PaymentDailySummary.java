@@ -0,0 +1,39 @@
+package org.example.paymentservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated payment counts per creation day and status, kept current by
+ * {@link org.example.paymentservice.service.PaymentSummaryService} on every payment write.
+ */
+@Entity
+@Table(name = "payment_daily_summaries")
+@IdClass(PaymentDailySummaryId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class PaymentDailySummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false)
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount;
+
+    @Column(name = "payed_count", nullable = false)
+    private Long payedCount;
+
+}
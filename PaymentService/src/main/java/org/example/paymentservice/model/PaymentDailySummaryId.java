@@ -0,0 +1,24 @@
+package org.example.paymentservice.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class PaymentDailySummaryId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotNull
+    private LocalDate summaryDate;
+
+    @NotNull
+    private PaymentStatus paymentStatus;
+
+}
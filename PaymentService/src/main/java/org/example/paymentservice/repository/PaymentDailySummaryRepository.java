@@ -0,0 +1,39 @@
+package org.example.paymentservice.repository;
+
+import org.example.paymentservice.model.PaymentDailySummary;
+import org.example.paymentservice.model.PaymentDailySummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Both the incremental upsert and the rebuild bucket payments with {@code CAST(created_at AS DATE)}
+ * in the database and count a NULL status as {@code NOT_STARTED}, matching the V3 backfill.
+ */
+public interface PaymentDailySummaryRepository extends JpaRepository<PaymentDailySummary, PaymentDailySummaryId> {
+
+    List<PaymentDailySummary> findBySummaryDateBetweenOrderBySummaryDateAsc(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_summaries (summary_date, payment_status, payment_count, payed_count) " +
+            "VALUES (CAST(:createdAt AS DATE), :status, :payments, :payed) " +
+            "ON DUPLICATE KEY UPDATE payment_count = payment_count + :payments, " +
+            "payed_count = payed_count + :payed", nativeQuery = true)
+    int applyDelta(@Param("createdAt") Instant createdAt,
+                   @Param("status") String status,
+                   @Param("payments") long payments,
+                   @Param("payed") long payed);
+
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_summaries (summary_date, payment_status, payment_count, payed_count) " +
+            "SELECT CAST(created_at AS DATE), COALESCE(payment_status, 'NOT_STARTED'), COUNT(*), " +
+            "SUM(CASE WHEN is_payed THEN 1 ELSE 0 END) " +
+            "FROM payments WHERE created_at IS NOT NULL " +
+            "GROUP BY CAST(created_at AS DATE), COALESCE(payment_status, 'NOT_STARTED')", nativeQuery = true)
+    int rebuildFromPayments();
+}
@@ -0,0 +1,16 @@
+package org.example.paymentservice.service;
+
+import org.example.paymentservice.dtos.PaymentDailySummaryDTO;
+import org.example.paymentservice.model.PaymentStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PaymentSummaryService {
+    void record(final Instant createdAt, final PaymentStatus paymentStatus, final Boolean isPayed);
+    void retract(final Instant createdAt, final PaymentStatus paymentStatus, final Boolean isPayed);
+    List<PaymentDailySummaryDTO> findDaily(final LocalDate from, final LocalDate to);
+    void rebuild();
+
+}
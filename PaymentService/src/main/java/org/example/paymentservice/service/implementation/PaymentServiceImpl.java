@@ -1,18 +1,23 @@
 package org.example.paymentservice.service.implementation;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.paymentservice.constant.AppConstant;
 import org.example.paymentservice.dtos.OrderDTO;
 import org.example.paymentservice.dtos.PaymentDTO;
 import org.example.paymentservice.exception.PaymentNotFoundException;
+import org.example.paymentservice.helper.EnrichmentTransactions;
 import org.example.paymentservice.helper.PaymentMapping;
+import org.example.paymentservice.model.Payment;
 import org.example.paymentservice.repository.PaymentRepository;
 import org.example.paymentservice.service.PaymentService;
+import org.example.paymentservice.service.PaymentSummaryService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,53 +29,76 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final RestTemplate restTemplate;
+    private final PaymentSummaryService paymentSummaryService;
+    private final EnrichmentTransactions enrichmentTransactions;
 
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<PaymentDTO> findAll() {
         log.info("*** PaymentDto List, service; fetch all payments *");
-        return this.paymentRepository.findAll()
-                .stream()
-                .map(PaymentMapping::map)
-                .map(p -> {
-                    p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-                            .ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDTO.class));
-                    return p;
-                })
-                .distinct()
-                .collect(Collectors.toUnmodifiableList());
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.paymentRepository.findAll()
+                        .stream()
+                        .map(PaymentMapping::map)
+                        .collect(Collectors.toList()),
+                payments -> payments.stream()
+                        .map(this::withOrder)
+                        .distinct()
+                        .collect(Collectors.toUnmodifiableList()));
     }
 
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentDTO findById(final Integer paymentId) {
         log.info("*** PaymentDto, service; fetch payment by id *");
-        return this.paymentRepository.findById(paymentId)
-                .map(PaymentMapping::map)
-                .map(p -> {
-                    p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-                            .ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDTO.class));
-                    return p;
-                })
-                .orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.paymentRepository.findById(paymentId)
+                        .map(PaymentMapping::map)
+                        .orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId))),
+                this::withOrder);
+    }
+
+    private PaymentDTO withOrder(final PaymentDTO payment) {
+        payment.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+                .ORDER_SERVICE_API_URL + "/" + payment.getOrderDto().getOrderId(), OrderDTO.class));
+        return payment;
     }
 
 
     public PaymentDTO save(final PaymentDTO paymentDto) {
         log.info("*** PaymentDto, service; save payment *");
-        return PaymentMapping.map(this.paymentRepository
-                .save(PaymentMapping.map(paymentDto)));
+        final Payment saved = this.paymentRepository.save(PaymentMapping.map(paymentDto));
+        this.paymentSummaryService.record(saved.getCreatedAt(), saved.getPaymentStatus(), saved.getIsPayed());
+        return PaymentMapping.map(saved);
     }
 
 
     public PaymentDTO update(final PaymentDTO paymentDto) {
         log.info("*** PaymentDto, service; update payment *");
-        return PaymentMapping.map(this.paymentRepository
-                .save(PaymentMapping.map(paymentDto)));
+        // created_at is not updatable, so the stored value decides which day the payment is counted on
+        final Instant createdAt = paymentDto.getPaymentId() == null ? null : this.paymentRepository
+                .findById(paymentDto.getPaymentId())
+                .map(previous -> {
+                    this.paymentSummaryService.retract(previous.getCreatedAt(),
+                            previous.getPaymentStatus(), previous.getIsPayed());
+                    return previous.getCreatedAt();
+                })
+                .orElse(null);
+        final Payment saved = this.paymentRepository.save(PaymentMapping.map(paymentDto));
+        this.paymentSummaryService.record(createdAt != null ? createdAt : saved.getCreatedAt(),
+                saved.getPaymentStatus(), saved.getIsPayed());
+        return PaymentMapping.map(saved);
     }
 
 
     public void deleteById(final Integer paymentId) {
         log.info("*** Void, service; delete payment by id *");
-        this.paymentRepository.deleteById(paymentId);
+        this.paymentRepository.findById(paymentId)
+                .ifPresent(payment -> {
+                    this.paymentSummaryService.retract(payment.getCreatedAt(),
+                            payment.getPaymentStatus(), payment.getIsPayed());
+                    this.paymentRepository.delete(payment);
+                });
     }
 
 
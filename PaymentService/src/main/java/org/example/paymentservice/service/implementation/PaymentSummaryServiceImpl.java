@@ -0,0 +1,68 @@
+package org.example.paymentservice.service.implementation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.paymentservice.dtos.PaymentDailySummaryDTO;
+import org.example.paymentservice.helper.PaymentDailySummaryMapping;
+import org.example.paymentservice.model.PaymentStatus;
+import org.example.paymentservice.repository.PaymentDailySummaryRepository;
+import org.example.paymentservice.service.PaymentSummaryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@code payment_daily_summaries} inside the caller's transaction so that
+ * reports never have to scan {@code payments}. Payments without a status are counted
+ * as {@link PaymentStatus#NOT_STARTED} here, in the V3 backfill and in {@link #rebuild()}.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentSummaryServiceImpl implements PaymentSummaryService {
+
+    private final PaymentDailySummaryRepository summaryRepository;
+
+
+    public void record(final Instant createdAt, final PaymentStatus paymentStatus, final Boolean isPayed) {
+        applyDelta(createdAt, paymentStatus, 1L, Boolean.TRUE.equals(isPayed) ? 1L : 0L);
+    }
+
+
+    public void retract(final Instant createdAt, final PaymentStatus paymentStatus, final Boolean isPayed) {
+        applyDelta(createdAt, paymentStatus, -1L, Boolean.TRUE.equals(isPayed) ? -1L : 0L);
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<PaymentDailySummaryDTO> findDaily(final LocalDate from, final LocalDate to) {
+        log.info("*** PaymentDailySummaryDto List, service; fetch daily payment summaries *");
+        return this.summaryRepository.findBySummaryDateBetweenOrderBySummaryDateAsc(from, to)
+                .stream()
+                .map(PaymentDailySummaryMapping::map)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+
+    public void rebuild() {
+        log.info("*** Void, service; rebuild daily payment summaries from payments *");
+        this.summaryRepository.deleteAllInBatch();
+        this.summaryRepository.rebuildFromPayments();
+    }
+
+
+    private void applyDelta(final Instant createdAt, final PaymentStatus paymentStatus,
+                            final long payments, final long payed) {
+        // a single upsert, so two first writes for the same day and status cannot collide on the primary key
+        final PaymentStatus status = paymentStatus == null ? PaymentStatus.NOT_STARTED : paymentStatus;
+        this.summaryRepository.applyDelta(createdAt == null ? Instant.now() : createdAt,
+                status.name(), payments, payed);
+    }
+
+
+}
@@ -0,0 +1,16 @@
+
+CREATE TABLE payment_daily_summaries (
+                          summary_date DATE NOT NULL,
+                          payment_status VARCHAR(255) NOT NULL,
+                          payment_count BIGINT NOT NULL DEFAULT 0,
+                          payed_count BIGINT NOT NULL DEFAULT 0,
+                          PRIMARY KEY (summary_date, payment_status)
+);
+
+INSERT INTO payment_daily_summaries
+(summary_date, payment_status, payment_count, payed_count)
+SELECT CAST(created_at AS DATE), COALESCE(payment_status, 'NOT_STARTED'), COUNT(*),
+       SUM(CASE WHEN is_payed THEN 1 ELSE 0 END)
+FROM payments
+WHERE created_at IS NOT NULL
+GROUP BY CAST(created_at AS DATE), COALESCE(payment_status, 'NOT_STARTED');
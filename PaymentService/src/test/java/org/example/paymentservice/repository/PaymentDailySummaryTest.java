@@ -0,0 +1,131 @@
+package org.example.paymentservice.repository;
+
+import org.example.paymentservice.dtos.OrderDTO;
+import org.example.paymentservice.dtos.PaymentDTO;
+import org.example.paymentservice.dtos.PaymentDailySummaryDTO;
+import org.example.paymentservice.helper.EnrichmentTransactions;
+import org.example.paymentservice.model.PaymentStatus;
+import org.example.paymentservice.service.implementation.PaymentServiceImpl;
+import org.example.paymentservice.service.implementation.PaymentSummaryServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the native upsert and rebuild of {@code payment_daily_summaries} against H2 in MySQL
+ * mode, so the counts come from the rows actually written rather than from stubbed calls.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaymentServiceImpl.class, PaymentSummaryServiceImpl.class, EnrichmentTransactions.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:summaries;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false"
+})
+class PaymentDailySummaryTest {
+
+    private static final LocalDate ALL_DAYS_FROM = LocalDate.of(2000, 1, 1);
+    private static final LocalDate ALL_DAYS_TO = LocalDate.of(2100, 1, 1);
+
+    @Autowired
+    private PaymentServiceImpl paymentService;
+
+    @Autowired
+    private PaymentSummaryServiceImpl paymentSummaryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private RestTemplate restTemplate;
+
+    @Test
+    void shouldAddToTheExistingRowForTheSameDayAndStatus() {
+        // Given
+        paymentSummaryService.record(Instant.parse("2024-03-01T11:00:00Z"), PaymentStatus.COMPLETED, true);
+
+        // When
+        paymentSummaryService.record(Instant.parse("2024-03-01T12:00:00Z"), PaymentStatus.COMPLETED, false);
+        paymentSummaryService.record(Instant.parse("2024-03-01T12:30:00Z"), null, null);
+
+        // Then
+        assertThat(summaries()).extracting(PaymentDailySummaryDTO::getSummaryDate,
+                        PaymentDailySummaryDTO::getPaymentStatus,
+                        PaymentDailySummaryDTO::getPaymentCount,
+                        PaymentDailySummaryDTO::getPayedCount)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2024, 3, 1), PaymentStatus.COMPLETED, 2L, 1L),
+                        tuple(LocalDate.of(2024, 3, 1), PaymentStatus.NOT_STARTED, 1L, 0L));
+    }
+
+    @Test
+    void shouldMoveThePaymentBetweenStatusRowsWhenItsStatusChanges() {
+        // Given
+        PaymentDTO saved = paymentService.save(payment(null, false, PaymentStatus.IN_PROGRESS));
+        paymentService.save(payment(null, false, PaymentStatus.IN_PROGRESS));
+
+        // When
+        paymentService.update(payment(saved.getPaymentId(), true, PaymentStatus.COMPLETED));
+
+        // Then
+        assertThat(summaries()).extracting(PaymentDailySummaryDTO::getPaymentStatus,
+                        PaymentDailySummaryDTO::getPaymentCount,
+                        PaymentDailySummaryDTO::getPayedCount)
+                .containsExactlyInAnyOrder(
+                        tuple(PaymentStatus.IN_PROGRESS, 1L, 0L),
+                        tuple(PaymentStatus.COMPLETED, 1L, 1L));
+    }
+
+    @Test
+    void shouldRebuildTheSameSummariesAsTheIncrementalPath() {
+        // Given
+        PaymentDTO first = paymentService.save(payment(null, false, PaymentStatus.NOT_STARTED));
+        PaymentDTO second = paymentService.save(payment(null, false, PaymentStatus.IN_PROGRESS));
+        paymentService.save(payment(null, null, null));
+        paymentService.save(payment(null, true, PaymentStatus.COMPLETED));
+        paymentService.update(payment(first.getPaymentId(), false, PaymentStatus.IN_PROGRESS));
+        paymentService.update(payment(second.getPaymentId(), true, PaymentStatus.COMPLETED));
+        List<PaymentDailySummaryDTO> incremental = summaries();
+        // the rebuild writes natively; drop the summary entities loaded above so they are read again
+        entityManager.clear();
+
+        // When
+        paymentSummaryService.rebuild();
+
+        // Then
+        assertThat(summaries()).containsExactlyInAnyOrderElementsOf(incremental);
+    }
+
+    private List<PaymentDailySummaryDTO> summaries() {
+        entityManager.flush();
+        return paymentSummaryService.findDaily(ALL_DAYS_FROM, ALL_DAYS_TO);
+    }
+
+    private static PaymentDTO payment(Integer paymentId, Boolean isPayed, PaymentStatus status) {
+        return PaymentDTO.builder()
+                .paymentId(paymentId)
+                .isPayed(isPayed)
+                .paymentStatus(status)
+                .orderDto(OrderDTO.builder().orderId(7).build())
+                .build();
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.example.paymentservice.service;
+
+import org.example.paymentservice.dtos.OrderDTO;
+import org.example.paymentservice.dtos.PaymentDTO;
+import org.example.paymentservice.helper.EnrichmentTransactions;
+import org.example.paymentservice.model.Payment;
+import org.example.paymentservice.model.PaymentStatus;
+import org.example.paymentservice.repository.PaymentDailySummaryRepository;
+import org.example.paymentservice.repository.PaymentRepository;
+import org.example.paymentservice.service.implementation.PaymentServiceImpl;
+import org.example.paymentservice.service.implementation.PaymentSummaryServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSummaryServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-03-01T11:00:00Z");
+
+    @Mock
+    private PaymentDailySummaryRepository summaryRepository;
+
+    @InjectMocks
+    private PaymentSummaryServiceImpl paymentSummaryService;
+
+    @Test
+    void shouldAddOnePaymentToItsDayAndStatus() {
+        // When
+        paymentSummaryService.record(CREATED_AT, PaymentStatus.COMPLETED, true);
+        paymentSummaryService.record(CREATED_AT.plusSeconds(3600), PaymentStatus.COMPLETED, false);
+
+        // Then
+        verify(summaryRepository).applyDelta(CREATED_AT, "COMPLETED", 1L, 1L);
+        verify(summaryRepository).applyDelta(CREATED_AT.plusSeconds(3600), "COMPLETED", 1L, 0L);
+    }
+
+    @Test
+    void shouldCountPaymentsWithoutStatusAsNotStarted() {
+        // When
+        paymentSummaryService.record(CREATED_AT, null, null);
+        paymentSummaryService.retract(CREATED_AT, null, null);
+
+        // Then
+        verify(summaryRepository).applyDelta(CREATED_AT, "NOT_STARTED", 1L, 0L);
+        verify(summaryRepository).applyDelta(CREATED_AT, "NOT_STARTED", -1L, 0L);
+    }
+
+    @Test
+    void shouldRetractAPaidPaymentFromItsDayAndStatus() {
+        // When
+        paymentSummaryService.retract(CREATED_AT, PaymentStatus.COMPLETED, true);
+
+        // Then
+        verify(summaryRepository).applyDelta(CREATED_AT, "COMPLETED", -1L, -1L);
+    }
+
+    @Test
+    void shouldMoveThePaymentToItsNewStatusOnTheStoredDayWhenUpdated() {
+        // Given
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+        PaymentSummaryService summaryService = mock(PaymentSummaryService.class);
+        PaymentServiceImpl paymentService = new PaymentServiceImpl(paymentRepository, mock(RestTemplate.class),
+                summaryService, mock(EnrichmentTransactions.class));
+        Payment previous = Payment.builder().paymentId(1).orderId(7).isPayed(false)
+                .paymentStatus(PaymentStatus.IN_PROGRESS).build();
+        previous.setCreatedAt(CREATED_AT);
+        // created_at is not updatable, so the merged entity comes back without it
+        Payment saved = Payment.builder().paymentId(1).orderId(7).isPayed(true)
+                .paymentStatus(PaymentStatus.COMPLETED).build();
+        when(paymentRepository.findById(1)).thenReturn(Optional.of(previous));
+        when(paymentRepository.save(any(Payment.class))).thenReturn(saved);
+
+        // When
+        paymentService.update(PaymentDTO.builder().paymentId(1).isPayed(true)
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .orderDto(OrderDTO.builder().orderId(7).build())
+                .build());
+
+        // Then
+        InOrder inOrder = inOrder(summaryService);
+        inOrder.verify(summaryService).retract(CREATED_AT, PaymentStatus.IN_PROGRESS, false);
+        inOrder.verify(summaryService).record(CREATED_AT, PaymentStatus.COMPLETED, true);
+    }
+
+    @Test
+    void shouldReplaceEverySummaryRowOnRebuild() {
+        // When
+        paymentSummaryService.rebuild();
+
+        // Then
+        InOrder inOrder = inOrder(summaryRepository);
+        inOrder.verify(summaryRepository).deleteAllInBatch();
+        inOrder.verify(summaryRepository).rebuildFromPayments();
+    }
+
+}
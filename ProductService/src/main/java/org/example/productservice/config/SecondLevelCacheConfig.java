@@ -0,0 +1,64 @@
+package org.example.productservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * JCache (Caffeine) backed Hibernate second-level and query cache. Every region is created
+ * up front from {@code second-level-cache.regions.*} with its own size bound and TTL, and
+ * Hibernate is told to fail on any region that is not configured, so no cache grows
+ * unbounded by accident. The caches are local to each instance; the TTL bounds how long
+ * another instance's update to a cached entity can go unseen.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(final SecondLevelCacheProperties properties) {
+        final CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        properties.getRegions().forEach((name, region) -> {
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration(region));
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final CacheManager hibernateCacheManager,
+                                                                    final SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            if (properties.isStatistics()) {
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(final SecondLevelCacheProperties.Region region) {
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+        if (region.getTtl() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
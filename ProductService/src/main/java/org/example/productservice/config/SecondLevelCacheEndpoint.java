@@ -0,0 +1,81 @@
+package org.example.productservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/cacheregions}: hit, miss and put counts and the current size of every
+ * configured second-level cache region, next to its TTL and size bound. Only registered
+ * with {@code second-level-cache.statistics=true}, since the counts come from Hibernate
+ * statistics.
+ */
+@Component
+@ConditionalOnProperty(prefix = "second-level-cache", name = "statistics", havingValue = "true")
+@Endpoint(id = "cacheregions")
+@RequiredArgsConstructor
+public class SecondLevelCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SecondLevelCacheProperties properties;
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        final Statistics statistics = this.statistics();
+        final Map<String, RegionStatistics> regions = new LinkedHashMap<>();
+        this.properties.getRegions().forEach((name, region) -> regions.put(name, regionStatistics(statistics, name, region)));
+        return regions;
+    }
+
+    @ReadOperation
+    public RegionStatistics region(@Selector final String name) {
+        final SecondLevelCacheProperties.Region region = this.properties.getRegions().get(name);
+        return region == null ? null : regionStatistics(this.statistics(), name, region);
+    }
+
+    private Statistics statistics() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static RegionStatistics regionStatistics(final Statistics statistics, final String name,
+                                                     final SecondLevelCacheProperties.Region region) {
+        final CacheRegionStatistics regionStatistics = lookup(statistics, name);
+        if (regionStatistics == null) {
+            return new RegionStatistics(region.getTtl(), region.getMaxSize(), 0, 0, 0, 0);
+        }
+        return new RegionStatistics(region.getTtl(), region.getMaxSize(),
+                regionStatistics.getHitCount(), regionStatistics.getMissCount(), regionStatistics.getPutCount(),
+                regionStatistics.getElementCountInMemory());
+    }
+
+    /**
+     * Entity and timestamps regions are domain regions; query result regions have their own
+     * lookup. A region Hibernate has not touched yet has no statistics.
+     */
+    private static CacheRegionStatistics lookup(final Statistics statistics, final String name) {
+        try {
+            return statistics.getCacheRegionStatistics(name);
+        } catch (IllegalArgumentException notDomainRegion) {
+            try {
+                return statistics.getQueryRegionStatistics(name);
+            } catch (IllegalArgumentException unknownRegion) {
+                return null;
+            }
+        }
+    }
+
+    public record RegionStatistics(Duration ttl, long maxSize, long hitCount, long missCount, long putCount,
+                                   long elementCountInMemory) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.productservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache regions, keyed by region name. A region without {@code ttl}
+ * never expires and is only bounded by {@code max-size}.
+ */
+@Data
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * Turns on Hibernate statistics, which {@code /actuator/cacheregions} reads. They count
+     * every statement and cache access of every session, so they are off unless asked for.
+     */
+    private boolean statistics;
+
+    @Data
+    public static class Region {
+        private Duration ttl;
+        private long maxSize = 10_000;
+    }
+}
@@ -12,6 +12,8 @@ import org.example.productservice.service.ProductService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @Slf4j
 @RequiredArgsConstructor
@@ -38,6 +40,14 @@ public class ProductController {
         return ResponseEntity.ok(new DTOCollectionResponse<>(this.productService.findAll()));
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<DTOCollectionResponse<ProductDTO>> findAllByIds(
+            @RequestParam("ids")
+            @NotNull(message = "Input must be not null") final List<Integer> productIds) {
+        log.info("ProductDTO, Controller, fetch a batch of products by ids");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.productService.findAllByIds(productIds)));
+    }
+
     @GetMapping("/productId")
     public ResponseEntity<ProductDTO> findById(
             @PathVariable("productId")
@@ -4,12 +4,15 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.productservice.audit.BaseEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.Set;
 
 @Entity
 @Table(name = "categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Category.CACHE_REGION)
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true, exclude = {"subCategories", "parentCategory", "products"})
@@ -17,6 +20,9 @@ import java.util.Set;
 @Builder
 public class Category extends BaseEntity implements Serializable {
 
+    public static final String CACHE_REGION = "categories";
+    public static final String QUERY_CACHE_REGION = "category-queries";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "category_id", unique = true, nullable = false, updatable = false)
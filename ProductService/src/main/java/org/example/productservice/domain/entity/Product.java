@@ -36,7 +36,11 @@ public class Product extends BaseEntity implements Serializable {
     @Column(name = "product_quantity")
     private Integer quantity;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // LAZY so the category is resolved by id from the second-level cache. ProductMapping reads
+    // it, so a product must be mapped inside the transaction that loaded it, as the class-level
+    // @Transactional on ProductServiceImplementation does; a detached product throws
+    // LazyInitializationException.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
 }
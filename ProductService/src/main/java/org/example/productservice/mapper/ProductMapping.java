@@ -7,6 +7,7 @@ import org.example.productservice.domain.dto.ProductDTO;
 
 public interface ProductMapping {
 
+    // reads the LAZY category: call while the product's session is still open
     public static ProductDTO map(final Product product) {
         return ProductDTO.builder().
                 productId(product.getProductId())
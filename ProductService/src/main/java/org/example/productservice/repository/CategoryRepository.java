@@ -1,9 +1,21 @@
 package org.example.productservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.productservice.domain.entity.Category;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category,Integer> {
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Category.QUERY_CACHE_REGION)
+    })
+    List<Category> findAll();
 }
@@ -2,11 +2,13 @@ package org.example.productservice.service;
 
 import org.example.productservice.domain.dto.ProductDTO;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductService {
     List<ProductDTO> findAll();
     ProductDTO findById(final Integer productId);
+    List<ProductDTO> findAllByIds(final Collection<Integer> productIds);
     ProductDTO save(final ProductDTO productDTO);
     ProductDTO update(final ProductDTO productDTO);
     ProductDTO update(final Integer productId,final ProductDTO productDTO);
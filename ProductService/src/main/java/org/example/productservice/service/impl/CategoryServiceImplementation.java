@@ -1,6 +1,5 @@
 package org.example.productservice.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.example.productservice.domain.entity.Category;
 import org.example.productservice.domain.dto.CategoryDTO;
@@ -10,6 +9,7 @@ import org.example.productservice.repository.CategoryRepository;
 import org.example.productservice.service.CategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,6 +31,7 @@ public class CategoryServiceImplementation implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryDTO> findAll() {
         log.info("CategoryDTO, Fetch all the categories");
         return this.categoryRepository.findAll()
@@ -40,6 +41,7 @@ public class CategoryServiceImplementation implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CategoryDTO findById(Integer categoryId) {
         log.info("CategoryDTO, Fetch the categories by using categoryId");
         return this.categoryRepository.findById(categoryId)
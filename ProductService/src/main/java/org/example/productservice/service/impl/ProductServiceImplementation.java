@@ -1,6 +1,5 @@
 package org.example.productservice.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.productservice.domain.dto.ProductDTO;
@@ -10,7 +9,9 @@ import org.example.productservice.repository.ProductRepository;
 import org.example.productservice.service.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +24,7 @@ public class ProductServiceImplementation implements ProductService {
     @Autowired
     private ProductRepository productRepository;
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDTO> findAll() {
         log.info("ProductDTO, Fetch all the products");
         return this.productRepository.findAll()
@@ -30,6 +32,7 @@ public class ProductServiceImplementation implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProductDTO findById(Integer productId) {
         log.info("ProductDTO, Fetch the products using productId");
         return this.productRepository.findById(productId)
@@ -38,6 +41,14 @@ public class ProductServiceImplementation implements ProductService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductDTO> findAllByIds(Collection<Integer> productIds) {
+        log.info("ProductDTO, Fetch the products using a batch of productIds");
+        return this.productRepository.findAllById(productIds)
+                .stream().map(ProductMapping::map).collect(Collectors.toList());
+    }
+
     @Override
     public ProductDTO save(ProductDTO productDTO) {
         log.info("ProductDTO, save the products");
@@ -0,0 +1,95 @@
+package org.example.productservice.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.productservice.config.SecondLevelCacheConfig;
+import org.example.productservice.domain.entity.Category;
+import org.example.productservice.domain.entity.Product;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without the test-managed transaction so that inserts commit and reach the cache the
+ * way they do in production.
+ */
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "second-level-cache.statistics=true"
+})
+class CategorySecondLevelCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldResolveProductCategoryFromCache() {
+        // Given
+        Category category = categoryRepository.save(Category.builder().categoryName("Electronics").build());
+        Product product = productRepository.save(Product.builder().productName("Laptop").category(category).build());
+        statistics.clear();
+
+        // When
+        String categoryName = new TransactionTemplate(transactionManager).execute(status ->
+                productRepository.findById(product.getProductId()).orElseThrow().getCategory().getCategoryName());
+
+        // Then
+        assertThat(categoryName).isEqualTo("Electronics");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics(Category.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeRepeatedCategoryListFromQueryCache() {
+        // Given
+        categoryRepository.save(Category.builder().categoryName("Electronics").build());
+        categoryRepository.save(Category.builder().categoryName("Books").build());
+        statistics.clear();
+
+        // When
+        categoryRepository.findAll();
+        categoryRepository.findAll();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -98,4 +98,21 @@ class ProductServiceTest {
         // Then
         verify(productRepository).deleteById(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindProductsByIdsInOneQuery() {
+        // Given
+        Category category = Category.builder().categoryId(1).categoryName("Electronics").build();
+        List<Product> products = Arrays.asList(
+                Product.builder().productId(1).productName("Laptop").category(category).build(),
+                Product.builder().productId(3).productName("Tablet").category(category).build());
+        when(productRepository.findAllById(List.of(1, 3))).thenReturn(products);
+
+        // When
+        List<ProductDTO> result = productService.findAllByIds(List.of(1, 3));
+
+        // Then
+        assertThat(result).extracting(ProductDTO::getProductId).containsExactly(1, 3);
+        verify(productRepository).findAllById(List.of(1, 3));
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.proxyclient.bussiness.auth.model.request.AuthenticationRequest;
+import org.example.proxyclient.bussiness.auth.model.request.RefreshTokenRequest;
 import org.example.proxyclient.bussiness.auth.model.response.AuthenticationResponse;
 import org.example.proxyclient.bussiness.auth.service.AuthenticationService;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +28,15 @@ public class AuthenticationController {
         return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @RequestBody
+            @NotNull(message = "")
+            @Valid final RefreshTokenRequest refreshTokenRequest) {
+        log.info("**Authentication controller, refresh the token pair*\n");
+        return ResponseEntity.ok(this.authenticationService.refresh(refreshTokenRequest));
+    }
+
     @GetMapping("/jwt/{jwt}")
     public ResponseEntity<Boolean> authenticate(@PathVariable("jwt") final String jwt) {
         log.info("**Authentication controller, proceed with the request*\n");
@@ -0,0 +1,27 @@
+package org.example.proxyclient.bussiness.auth.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.proxyclient.bussiness.auth.service.UserDetailsCacheService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Reachable on the internal port only. Called by UserService after a credential change so
+ * the next request reloads it.
+ */
+@RestController
+@RequestMapping("/internal/cache")
+@Slf4j
+@RequiredArgsConstructor
+public class UserDetailsCacheController {
+
+    private final UserDetailsCacheService userDetailsCacheService;
+
+    @DeleteMapping("/{username}")
+    public ResponseEntity<Boolean> evict(@PathVariable("username") final String username) {
+        log.info("**UserDetails cache controller, evict cached user details*\n");
+        this.userDetailsCacheService.evict(username);
+        return ResponseEntity.ok(true);
+    }
+}
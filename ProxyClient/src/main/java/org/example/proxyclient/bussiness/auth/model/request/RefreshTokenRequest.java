@@ -0,0 +1,22 @@
+package org.example.proxyclient.bussiness.auth.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RefreshTokenRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank(message = "*Refresh token must not be empty!**")
+    private String refreshToken;
+
+}
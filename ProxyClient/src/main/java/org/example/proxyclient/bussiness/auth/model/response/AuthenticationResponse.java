@@ -15,5 +15,6 @@ public class AuthenticationResponse implements Serializable {
 
     private static final long serialVersionUID = 1L;
     private String jwtToken;
+    private String refreshToken;
 
 }
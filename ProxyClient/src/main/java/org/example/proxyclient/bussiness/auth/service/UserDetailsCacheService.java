@@ -0,0 +1,7 @@
+package org.example.proxyclient.bussiness.auth.service;
+
+public interface UserDetailsCacheService {
+
+    void evict(final String username);
+
+}
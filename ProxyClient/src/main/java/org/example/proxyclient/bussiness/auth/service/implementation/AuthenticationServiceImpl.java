@@ -3,24 +3,31 @@ package org.example.proxyclient.bussiness.auth.service.implementation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.proxyclient.bussiness.auth.model.request.AuthenticationRequest;
+import org.example.proxyclient.bussiness.auth.model.request.RefreshTokenRequest;
 import org.example.proxyclient.bussiness.auth.model.response.AuthenticationResponse;
 import org.example.proxyclient.bussiness.auth.service.AuthenticationService;
+import org.example.proxyclient.constant.AppConstant;
+import org.example.proxyclient.exception.AuthenticationServiceUnavailableException;
 import org.example.proxyclient.exception.IllegalAuthenticationCredentialsException;
-import org.example.proxyclient.jwt.service.JwtService;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
 
+/**
+ * Tokens are issued by UserService, which owns the signing keys; this service only forwards
+ * the login and refresh calls and verifies the resulting tokens against the published JWKS.
+ * A 4xx from UserService means the credentials were refused; a 5xx or an unreachable
+ * UserService is reported as 503 so clients retry instead of treating it as a bad login.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
 
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
-    private final JwtService jwtService;
+    private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/auth";
+    private final RestTemplate restTemplate;
 
     @Override
     public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest) {
@@ -28,15 +35,35 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         log.info("** AuthenticationResponse, authenticate user service*\n");
 
         try {
-            this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
-                    authenticationRequest.getUsername(), authenticationRequest.getPassword()));
+            return this.restTemplate.postForObject(API_URL + "/token", authenticationRequest, AuthenticationResponse.class);
         }
-        catch (BadCredentialsException e) {
+        catch (HttpClientErrorException e) {
             throw new IllegalAuthenticationCredentialsException("#### Bad credentials! ####");
         }
+        catch (HttpServerErrorException | ResourceAccessException e) {
+            throw new AuthenticationServiceUnavailableException("#### Authentication service unavailable! ####", e);
+        }
+    }
+
+    /**
+     * Exchanges a valid refresh token for a new token pair. UserService re-reads the account
+     * state, so a disabled or locked account stops getting access tokens within one
+     * access-token lifetime.
+     */
+    @Override
+    public AuthenticationResponse refresh(final RefreshTokenRequest refreshTokenRequest) {
+
+        log.info("** AuthenticationResponse, refresh token service*\n");
 
-        return new AuthenticationResponse(this.jwtService.generateToken(this.userDetailsService
-                .loadUserByUsername(authenticationRequest.getUsername())));
+        try {
+            return this.restTemplate.postForObject(API_URL + "/refresh", refreshTokenRequest, AuthenticationResponse.class);
+        }
+        catch (HttpClientErrorException e) {
+            throw new IllegalAuthenticationCredentialsException("#### Invalid refresh token! ####");
+        }
+        catch (HttpServerErrorException | ResourceAccessException e) {
+            throw new AuthenticationServiceUnavailableException("#### Authentication service unavailable! ####", e);
+        }
     }
 
     @Override
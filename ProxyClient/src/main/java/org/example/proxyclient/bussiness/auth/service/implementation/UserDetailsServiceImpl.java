@@ -1,27 +1,67 @@
 package org.example.proxyclient.bussiness.auth.service.implementation;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.example.proxyclient.bussiness.auth.service.UserDetailsCacheService;
 import org.example.proxyclient.bussiness.user.model.CredentialDTO;
 import org.example.proxyclient.bussiness.user.model.UserDetailsImpl;
 import org.example.proxyclient.constant.AppConstant;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Loads credentials from UserService, keeping a bounded, short-lived copy per username so
+ * that the JWT filter does not pay a network hop on every request. Entries are dropped
+ * explicitly when UserService reports a credential change; the TTL bounds staleness if
+ * such a notification is lost. A zero TTL disables the cache.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsCacheService {
 
     private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credential";
     private final RestTemplate restTemplate;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsServiceImpl(final RestTemplate restTemplate,
+                                  final MeterRegistry meterRegistry,
+                                  @Value("${proxy.user-details-cache.ttl:30s}") final Duration ttl,
+                                  @Value("${proxy.user-details-cache.max-size:10000}") final long maxSize) {
+        this.restTemplate = restTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(ttl.isZero() ? 0 : maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "userDetails");
+    }
 
     @Override
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
         log.info("**UserDetails, load user by username*\n");
-        return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDTO.class));
+        return this.cache.get(username, this::fetch);
+    }
+
+    @Override
+    public void evict(final String username) {
+        log.info("**Void, evict cached user details by username*\n");
+        this.cache.invalidate(username);
+    }
+
+    private UserDetails fetch(final String username) {
+        final CredentialDTO credential = this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDTO.class);
+        if (credential == null) {
+            throw new UsernameNotFoundException(String.format("#### Credential with username: %s not found! ####", username));
+        }
+        return new UserDetailsImpl(credential);
     }
 }
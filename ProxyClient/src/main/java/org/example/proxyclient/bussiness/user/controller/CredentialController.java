@@ -1,6 +1,7 @@
 package org.example.proxyclient.bussiness.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.proxyclient.bussiness.auth.service.UserDetailsCacheService;
 import org.example.proxyclient.bussiness.user.model.CredentialDTO;
 import org.example.proxyclient.bussiness.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import org.example.proxyclient.bussiness.user.service.CredentialClientService;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 public class CredentialController {
 
     private final CredentialClientService credentialClientService;
+    private final UserDetailsCacheService userDetailsCacheService;
 
     @GetMapping
     public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
@@ -37,17 +39,24 @@ public class CredentialController {
 
     @PutMapping
     public ResponseEntity<CredentialDTO> update(@RequestBody final CredentialDTO credentialDto) {
+        this.userDetailsCacheService.evict(credentialDto.getUsername());
         return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
     }
 
     @PutMapping("/{credentialId}")
     public ResponseEntity<CredentialDTO> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDTO credentialDto) {
+        this.userDetailsCacheService.evict(credentialDto.getUsername());
         return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
     }
 
     @DeleteMapping("/{credentialId}")
     public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-        return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+        final CredentialDTO credential = this.credentialClientService.findById(credentialId).getBody();
+        final Boolean deleted = this.credentialClientService.deleteById(credentialId).getBody();
+        if (credential != null) {
+            this.userDetailsCacheService.evict(credential.getUsername());
+        }
+        return ResponseEntity.ok(deleted);
     }
 
 }
@@ -0,0 +1,27 @@
+package org.example.proxyclient.config.connector;
+
+import org.apache.catalina.connector.Connector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opens a second HTTP port for service-to-service calls. It is advertised to other services
+ * through the Eureka metadata only and is never published or routed by the gateway;
+ * {@code /internal/**} is served on this port alone (see SecurityConfig).
+ */
+@Configuration
+public class InternalConnectorConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> internalConnector(
+            @Value("${proxy.internal-port:8501}") final int internalPort) {
+        return factory -> {
+            final Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(internalPort);
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.proxyclient.config.filter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.proxyclient.jwt.service.JwtService;
+import org.example.proxyclient.jwt.util.JwtClaimNames;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
@@ -40,12 +42,11 @@ import java.io.IOException;
 
             final var authorizationHeader = request.getHeader("Authorization");
 
-            String username = null;
-            String jwt = null;
+            // verified once per request; repeated tokens are served from the claims cache
+            Claims claims = null;
 
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-                jwt = authorizationHeader.substring(7);
-                username = jwtService.extractUsername(jwt);
+                claims = this.jwtService.extractValidClaims(authorizationHeader.substring(7)).orElse(null);
             }
 
             try {
@@ -58,11 +59,20 @@ import java.io.IOException;
                     return;
                 }
 
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // access tokens carry roles and account state; tokens issued before the typ claim
+                // existed fall back to UserService; refresh and verification tokens are refused
+                final Object tokenType = claims == null ? null : claims.get(JwtClaimNames.TOKEN_TYPE);
+                if (claims != null && claims.getSubject() != null
+                        && (tokenType == null || JwtClaimNames.ACCESS_TOKEN.equals(tokenType))
+                        && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                    final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                    final String username = claims.getSubject();
+                    final UserDetails userDetails = this.jwtService.extractUserDetails(claims)
+                            .orElseGet(() -> this.userDetailsService.loadUserByUsername(username));
 
-                    if (this.jwtService.validateToken(jwt, userDetails)) {
+                    if (username.equals(userDetails.getUsername()) && userDetails.isEnabled()
+                            && userDetails.isAccountNonLocked() && userDetails.isAccountNonExpired()
+                            && userDetails.isCredentialsNonExpired()) {
                         final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                         usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -56,11 +56,27 @@ public class ApiExceptionHandler {
                         .build(), badRequest);
     }
 
+    @ExceptionHandler(AuthenticationServiceUnavailableException.class)
+    public ResponseEntity<ExceptionMsg> handleAuthenticationServiceUnavailable(final AuthenticationServiceUnavailableException e) {
+
+        log.info("**ApiExceptionHandler controller, handle unavailable authentication service*\n");
+        final var serviceUnavailable = HttpStatus.SERVICE_UNAVAILABLE;
+
+        return new ResponseEntity<>(
+                ExceptionMsg.builder()
+                        .msg(e.getMessage())
+                        .httpStatus(serviceUnavailable)
+                        .timestamp(ZonedDateTime
+                                .now(ZoneId.systemDefault()))
+                        .build(), serviceUnavailable);
+    }
+
     @ExceptionHandler(value = {
             UserObjectNotFoundException.class,
             CredentialNotFoundException.class,
             VerificationTokenNotFoundException.class,
             FavouriteNotFoundException.class,
+            IllegalAuthenticationCredentialsException.class,
             IllegalStateException.class,
     })
     public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
@@ -0,0 +1,23 @@
+package org.example.proxyclient.exception;
+
+public class AuthenticationServiceUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AuthenticationServiceUnavailableException() {
+        super();
+    }
+
+    public AuthenticationServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AuthenticationServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public AuthenticationServiceUnavailableException(Throwable cause) {
+        super(cause);
+    }
+
+}
@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 
@@ -12,7 +13,8 @@ public interface JwtService {
     String extractUsername(final String token);
     Date extractExpiration(final String token);
     <T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
-    String generateToken(final UserDetails userDetails);
+    Optional<Claims> extractValidClaims(final String token);
+    Optional<UserDetails> extractUserDetails(final Claims claims);
     Boolean validateToken(final String token, final UserDetails userDetails);
 
 }
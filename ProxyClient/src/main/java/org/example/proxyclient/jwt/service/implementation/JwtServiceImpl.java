@@ -9,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Service
@@ -37,9 +38,13 @@ public class JwtServiceImpl implements JwtService {
     }
 
     @Override
-    public String generateToken(final UserDetails userDetails) {
-        log.info("**String, jwt service generate token from given userDetails!*");
-        return this.jwtUtil.generateToken(userDetails);
+    public Optional<Claims> extractValidClaims(final String token) {
+        return this.jwtUtil.extractValidClaims(token);
+    }
+
+    @Override
+    public Optional<UserDetails> extractUserDetails(final Claims claims) {
+        return this.jwtUtil.extractUserDetails(claims);
     }
 
     @Override
@@ -0,0 +1,18 @@
+package org.example.proxyclient.jwt.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtClaimNames {
+
+    public static final String TOKEN_TYPE = "typ";
+    public static final String ROLES = "roles";
+    public static final String ENABLED = "enabled";
+    public static final String ACCOUNT_NON_EXPIRED = "accountNonExpired";
+    public static final String ACCOUNT_NON_LOCKED = "accountNonLocked";
+    public static final String CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+}
@@ -0,0 +1,111 @@
+package org.example.proxyclient.jwt.util.implementation;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.proxyclient.constant.AppConstant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the RS256 verification key for a token from UserService's JWKS document. Keys are
+ * cached by {@code kid} and the document is re-fetched when it is older than
+ * {@code proxy.jwks.refresh-interval}, or when a token names a key we have not seen yet
+ * (at most once per {@code proxy.jwks.min-refresh-interval}), so a key rotated in
+ * UserService is picked up without a redeploy and forged kids cannot hammer UserService.
+ */
+@Component
+@Slf4j
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final String JWKS_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/.well-known/jwks.json";
+
+    private final RestTemplate restTemplate;
+    private final long refreshIntervalMillis;
+    private final long minRefreshIntervalMillis;
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long fetchedAt;
+
+    public JwksKeyResolver(final RestTemplate restTemplate,
+                           @Value("${proxy.jwks.refresh-interval:10m}") final Duration refreshInterval,
+                           @Value("${proxy.jwks.min-refresh-interval:30s}") final Duration minRefreshInterval) {
+        this.restTemplate = restTemplate;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+    }
+
+    @Override
+    public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+        final String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedJwtException("Token has no key id");
+        }
+        if (System.currentTimeMillis() - this.fetchedAt > this.refreshIntervalMillis) {
+            this.refresh(this.refreshIntervalMillis);
+        }
+        PublicKey key = this.keys.get(kid);
+        if (key == null) {
+            this.refresh(this.minRefreshIntervalMillis);
+            key = this.keys.get(kid);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Re-fetches the key set unless another thread already did so within {@code minAgeMillis}.
+     * A failed fetch keeps the previous keys so a UserService outage does not reject tokens
+     * signed with keys we already know. While no keys are known at all, fetches are retried
+     * but still at most once per {@code proxy.jwks.min-refresh-interval}.
+     */
+    private synchronized void refresh(final long minAgeMillis) {
+        final long now = System.currentTimeMillis();
+        final long minAge = this.keys.isEmpty() ? Math.min(minAgeMillis, this.minRefreshIntervalMillis) : minAgeMillis;
+        if (this.fetchedAt != 0 && now - this.fetchedAt <= minAge) {
+            return;
+        }
+        try {
+            log.info("**Void, refresh jwks from user service*\n");
+            final Map<?, ?> document = this.restTemplate.getForObject(JWKS_URL, Map.class);
+            this.keys = parse(document);
+        } catch (RestClientException | GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("**Void, could not refresh jwks: {}*\n", e.getMessage());
+        }
+        this.fetchedAt = now;
+    }
+
+    static Map<String, PublicKey> parse(final Map<?, ?> document) throws GeneralSecurityException {
+        final Map<String, PublicKey> parsed = new HashMap<>();
+        if (document == null || !(document.get("keys") instanceof List<?> entries)) {
+            return parsed;
+        }
+        final KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (final Object entry : entries) {
+            if (entry instanceof Map<?, ?> jwk && "RSA".equals(jwk.get("kty"))) {
+                final BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("n")));
+                final BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("e")));
+                parsed.put((String) jwk.get("kid"), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            }
+        }
+        return parsed;
+    }
+
+}
@@ -1,21 +1,60 @@
 package org.example.proxyclient.jwt.util.implementation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.proxyclient.jwt.util.JwtClaimNames;
 import org.example.proxyclient.jwt.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
-
+import java.util.stream.Collectors;
+
+/**
+ * RS256 token verification. Tokens are issued and signed by UserService; this side only
+ * holds public keys, resolved by {@code kid} through {@link JwksKeyResolver}. Access tokens
+ * carry the user's roles and account-state flags as signed claims, so requests can be
+ * authenticated from the token alone. Verified claims are cached under the SHA-256 of the
+ * token until the token expires (capped by {@code proxy.jwt-cache.max-ttl}), so repeated
+ * requests with the same bearer token skip signature verification and JSON parsing. A zero
+ * max size disables the cache.
+ */
 @Component
 public class JwtUtilImpl implements JwtUtil {
 
-    private static final String SECRET_KEY = "secret";
+    private final SigningKeyResolver signingKeyResolver;
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtUtilImpl(final SigningKeyResolver signingKeyResolver,
+                       final MeterRegistry meterRegistry,
+                       @Value("${proxy.jwt-cache.max-size:10000}") final long maxSize,
+                       @Value("${proxy.jwt-cache.max-ttl:5m}") final Duration maxTtl) {
+        this.signingKeyResolver = signingKeyResolver;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedClaims, "jwtClaims");
+    }
 
     @Override
     public String extractUsername(final String token) {
@@ -33,39 +72,93 @@ public class JwtUtilImpl implements JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    @Override
+    public Optional<Claims> extractValidClaims(final String token) {
+        final String key = hash(token);
+        final Claims cached = this.verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            return isExpired(cached) ? Optional.empty() : Optional.of(cached);
+        }
+        try {
+            final Claims claims = this.extractAllClaims(token);
+            this.verifiedClaims.put(key, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     private Claims extractAllClaims(final String token) {
-        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+        return Jwts.parser().setSigningKeyResolver(this.signingKeyResolver).parseClaimsJws(token).getBody();
 
     }
 
-    private Boolean isTokenExpired(final String token) {
-        return this.extractExpiration(token).before(new Date());
+    private static boolean isExpired(final Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
     @Override
-    public String generateToken(final UserDetails userDetails) {
-        final Map<String, Object> claims = new HashMap<>();
-        return this.createToken(claims, userDetails.getUsername());
+    public Optional<UserDetails> extractUserDetails(final Claims claims) {
+        if (!JwtClaimNames.ACCESS_TOKEN.equals(claims.get(JwtClaimNames.TOKEN_TYPE))
+                || !(claims.get(JwtClaimNames.ROLES) instanceof List<?> roles)) {
+            return Optional.empty();
+        }
+        return Optional.of(new User(claims.getSubject(), "",
+                flag(claims, JwtClaimNames.ENABLED),
+                flag(claims, JwtClaimNames.ACCOUNT_NON_EXPIRED),
+                flag(claims, JwtClaimNames.CREDENTIALS_NON_EXPIRED),
+                flag(claims, JwtClaimNames.ACCOUNT_NON_LOCKED),
+                roles.stream()
+                        .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                        .collect(Collectors.toList())));
     }
 
-    private String createToken(final Map<String, Object> claims, final String subject) {
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
-                .compact();
+    private static boolean flag(final Claims claims, final String name) {
+        return Boolean.TRUE.equals(claims.get(name, Boolean.class));
     }
 
     @Override
     public Boolean validateToken(final String token, final UserDetails userDetails) {
-        final String username = this.extractUsername(token);
-        return (
-                username.equals(userDetails.getUsername()) && !isTokenExpired(token)
-        );
+        return this.extractValidClaims(token)
+                .map(claims -> userDetails.getUsername().equals(claims.getSubject()))
+                .orElse(false);
+    }
+
+    private static String hash(final String token) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private UntilTokenExpiry(final Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
 
+        @Override
+        public long expireAfterCreate(final String key, final Claims claims, final long currentTime) {
+            if (claims.getExpiration() == null) {
+                return this.maxTtlNanos;
+            }
+            final long untilExpiry = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, this.maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Claims claims, final long currentTime, final long currentDuration) {
+            return this.expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Claims claims, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
 
 }
@@ -3,6 +3,7 @@ package org.example.proxyclient.security;
 import lombok.RequiredArgsConstructor;
 import org.example.proxyclient.bussiness.user.model.RoleBasedAuthority;
 import org.example.proxyclient.config.filter.JwtRequestFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,6 +18,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.stereotype.Component;
 
 
@@ -36,10 +38,16 @@ public class SecurityConfig  {
 
 
     @Bean
-    protected SecurityFilterChain filterChain(final HttpSecurity http) throws Exception {
+    protected SecurityFilterChain filterChain(final HttpSecurity http,
+                                              @Value("${proxy.internal-port:8501}") final int internalPort) throws Exception {
+        final AntPathRequestMatcher internalPaths = new AntPathRequestMatcher("/internal/**");
         http.cors().disable()
                 .csrf().disable()
                 .authorizeRequests()
+                // service-to-service endpoints: open on the internal port, refused on the public one
+                .requestMatchers(request -> request.getLocalPort() == internalPort && internalPaths.matches(request))
+                .permitAll()
+                .requestMatchers(internalPaths).denyAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers( "/app/**").permitAll()
                 .requestMatchers("/api/users/**").permitAll()
@@ -0,0 +1,117 @@
+package org.example.proxyclient.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.proxyclient.config.filter.JwtRequestFilter;
+import org.example.proxyclient.jwt.service.implementation.JwtServiceImpl;
+import org.example.proxyclient.jwt.util.JwtClaimNames;
+import org.example.proxyclient.jwt.util.implementation.JwtUtilImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.io.IOException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot path of {@link JwtRequestFilter} for an authenticated GET with a bearer token, with
+ * the verified-claims cache disabled ({@code cacheSize=0}) and enabled. Tokens are RS256-signed
+ * and carry their roles, so no UserDetails lookup happens and only token handling is measured;
+ * the uncached case shows the cost of the public-key signature check.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtRequestFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    private JwtRequestFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        final KeyPair keyPair = generator.generateKeyPair();
+        final SigningKeyResolver resolver = new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+                return keyPair.getPublic();
+            }
+        };
+        final JwtUtilImpl jwtUtil = new JwtUtilImpl(resolver, new SimpleMeterRegistry(), this.cacheSize, Duration.ofMinutes(5));
+        this.filter = new JwtRequestFilter(username -> {
+            throw new UsernameNotFoundException(username);
+        }, new JwtServiceImpl(jwtUtil));
+
+        final long now = System.currentTimeMillis();
+        final String token = Jwts.builder()
+                .setHeaderParam("kid", "bench")
+                .claim(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.ACCESS_TOKEN)
+                .claim(JwtClaimNames.ROLES, List.of("ROLE_USER"))
+                .claim(JwtClaimNames.ENABLED, true)
+                .claim(JwtClaimNames.ACCOUNT_NON_EXPIRED, true)
+                .claim(JwtClaimNames.ACCOUNT_NON_LOCKED, true)
+                .claim(JwtClaimNames.CREDENTIALS_NON_EXPIRED, true)
+                .setSubject("john")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + Duration.ofMinutes(15).toMillis()))
+                .signWith(SignatureAlgorithm.RS256, keyPair.getPrivate())
+                .compact();
+        this.request = new MockHttpServletRequest("GET", "/api/orders");
+        this.request.addHeader("Authorization", "Bearer " + token);
+        this.response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        this.filter.doFilter(this.request, this.response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtRequestFilterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+}
@@ -0,0 +1,96 @@
+package org.example.proxyclient.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.proxyclient.bussiness.auth.service.implementation.UserDetailsServiceImpl;
+import org.example.proxyclient.bussiness.user.model.CredentialDTO;
+import org.example.proxyclient.bussiness.user.model.RoleBasedAuthority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-request cost of resolving {@link UserDetails} in the JWT filter with the cache
+ * disabled ({@code ttl=0s}, every call goes to UserService) and enabled. The UserService
+ * hop is simulated by a RestTemplate that parks for {@code remoteLatencyMicros}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserDetailsCacheBenchmark {
+
+    @Param({"0s", "30s"})
+    private String ttl;
+
+    @Param("1000")
+    private int remoteLatencyMicros;
+
+    @Param("1000")
+    private int activeUsers;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Setup
+    public void setUp() {
+        this.userDetailsService = new UserDetailsServiceImpl(new SimulatedUserServiceTemplate(this.remoteLatencyMicros),
+                new SimpleMeterRegistry(), Duration.parse("PT" + this.ttl.toUpperCase()), 10_000);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return this.userDetailsService.loadUserByUsername("user" + ThreadLocalRandom.current().nextInt(this.activeUsers));
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserDetailsCacheBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static final class SimulatedUserServiceTemplate extends RestTemplate {
+
+        private final long latencyNanos;
+
+        private SimulatedUserServiceTemplate(final int latencyMicros) {
+            this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        }
+
+        @Override
+        public <T> T getForObject(final String url, final Class<T> responseType, final Object... uriVariables) {
+            LockSupport.parkNanos(this.latencyNanos);
+            return responseType.cast(CredentialDTO.builder()
+                    .username(url.substring(url.lastIndexOf('/') + 1))
+                    .password("{noop}secret")
+                    .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                    .isEnabled(true)
+                    .isAccountNonExpired(true)
+                    .isAccountNonLocked(true)
+                    .isCredentialsNonExpired(true)
+                    .build());
+        }
+    }
+
+}
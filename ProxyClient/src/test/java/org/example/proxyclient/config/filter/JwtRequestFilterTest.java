@@ -0,0 +1,153 @@
+package org.example.proxyclient.config.filter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.proxyclient.jwt.service.implementation.JwtServiceImpl;
+import org.example.proxyclient.jwt.util.JwtClaimNames;
+import org.example.proxyclient.jwt.util.implementation.JwtUtilImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private KeyPair keyPair;
+    private JwtRequestFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        JwtUtilImpl jwtUtil = new JwtUtilImpl(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+                return keyPair.getPublic();
+            }
+        }, new SimpleMeterRegistry(), 0, Duration.ofMinutes(5));
+        filter = new JwtRequestFilter(userDetailsService, new JwtServiceImpl(jwtUtil));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldBuildPrincipalFromAccessTokenClaims() throws Exception {
+        // Given
+        String token = accessToken(true).compact();
+
+        // When
+        Authentication authentication = filter(token);
+
+        // Then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("john");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldRejectAccessTokenWithExpiredCredentials() throws Exception {
+        // Given
+        String token = accessToken(false).compact();
+
+        // When & Then
+        assertThat(filter(token)).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldFallBackToUserDetailsForLegacyToken() throws Exception {
+        // Given
+        String token = signed(Jwts.builder()).compact();
+        when(userDetailsService.loadUserByUsername("john"))
+                .thenReturn(new User("john", "", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        // When
+        Authentication authentication = filter(token);
+
+        // Then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void shouldRejectRefreshToken() throws Exception {
+        // Given
+        String token = signed(Jwts.builder().claim(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.REFRESH_TOKEN)).compact();
+
+        // When & Then
+        assertThat(filter(token)).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void shouldRejectVerificationToken() throws Exception {
+        // Given
+        String token = signed(Jwts.builder().claim(JwtClaimNames.TOKEN_TYPE, "verification")).compact();
+
+        // When & Then
+        assertThat(filter(token)).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private JwtBuilder accessToken(final boolean credentialsNonExpired) {
+        return signed(Jwts.builder()
+                .claim(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.ACCESS_TOKEN)
+                .claim(JwtClaimNames.ROLES, List.of("ROLE_USER"))
+                .claim(JwtClaimNames.ENABLED, true)
+                .claim(JwtClaimNames.ACCOUNT_NON_EXPIRED, true)
+                .claim(JwtClaimNames.ACCOUNT_NON_LOCKED, true)
+                .claim(JwtClaimNames.CREDENTIALS_NON_EXPIRED, credentialsNonExpired));
+    }
+
+    private JwtBuilder signed(final JwtBuilder builder) {
+        long now = System.currentTimeMillis();
+        return builder
+                .setHeaderParam("kid", "test")
+                .setSubject("john")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + Duration.ofMinutes(15).toMillis()))
+                .signWith(SignatureAlgorithm.RS256, keyPair.getPrivate());
+    }
+
+    private Authentication filter(final String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
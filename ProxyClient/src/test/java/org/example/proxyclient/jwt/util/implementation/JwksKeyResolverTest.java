@@ -0,0 +1,124 @@
+package org.example.proxyclient.jwt.util.implementation;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwksKeyResolverTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private JwsHeader header;
+
+    @Test
+    void shouldResolveKnownKidFromTheJwks() throws Exception {
+        // Given
+        RSAPublicKey key = rsaPublicKey();
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(jwks("k1", key));
+        when(header.getKeyId()).thenReturn("k1");
+
+        // When & Then
+        assertThat(resolver(Duration.ofSeconds(30)).resolveSigningKey(header, null)).isEqualTo(key);
+    }
+
+    @Test
+    void shouldRejectUnknownKidAndRefetchAtMostOncePerMinInterval() throws Exception {
+        // Given
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(jwks("k1", rsaPublicKey()));
+        when(header.getKeyId()).thenReturn("forged");
+        JwksKeyResolver resolver = resolver(Duration.ofSeconds(30));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> resolver.resolveSigningKey(header, null))
+                    .isInstanceOf(UnsupportedJwtException.class);
+        }
+
+        // Then
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+    }
+
+    @Test
+    void shouldRateLimitRefetchesWhileNoKeysAreKnown() {
+        // Given
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenThrow(new ResourceAccessException("down"));
+        when(header.getKeyId()).thenReturn("k1");
+        JwksKeyResolver resolver = resolver(Duration.ofSeconds(30));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> resolver.resolveSigningKey(header, null))
+                    .isInstanceOf(UnsupportedJwtException.class);
+        }
+
+        // Then
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+    }
+
+    @Test
+    void shouldPickUpRotatedKeyOnceMinIntervalHasPassed() throws Exception {
+        // Given
+        RSAPublicKey rotated = rsaPublicKey();
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenReturn(jwks("k1", rsaPublicKey()))
+                .thenReturn(jwks("k2", rotated));
+        JwksKeyResolver resolver = resolver(Duration.ZERO);
+        when(header.getKeyId()).thenReturn("k1", "k2");
+        resolver.resolveSigningKey(header, null);
+        Thread.sleep(5);
+
+        // When & Then
+        assertThat(resolver.resolveSigningKey(header, null)).isEqualTo(rotated);
+    }
+
+    private JwksKeyResolver resolver(final Duration minRefreshInterval) {
+        return new JwksKeyResolver(restTemplate, Duration.ofMinutes(10), minRefreshInterval);
+    }
+
+    private static RSAPublicKey rsaPublicKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        return (RSAPublicKey) keyPair.getPublic();
+    }
+
+    private static Map<String, Object> jwks(final String kid, final RSAPublicKey key) {
+        return Map.of("keys", List.of(Map.of(
+                "kty", "RSA",
+                "kid", kid,
+                "n", base64Url(key.getModulus()),
+                "e", base64Url(key.getPublicExponent()))));
+    }
+
+    private static String base64Url(final BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
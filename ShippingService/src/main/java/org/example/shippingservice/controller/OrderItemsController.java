@@ -6,10 +6,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.shippingservice.domain.entity.OrderItemId;
 import org.example.shippingservice.domain.dtos.OrderItemsDTO;
+import org.example.shippingservice.response.BulkOperationResponse;
 import org.example.shippingservice.response.DTOCollectionResponse;
 import org.example.shippingservice.service.OrderItemService;
+import org.example.shippingservice.service.PickingListService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/shippings")
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderItemsController {
     private final OrderItemService orderItemService;
+    private final PickingListService pickingListService;
 
     @GetMapping
     public ResponseEntity<DTOCollectionResponse<OrderItemsDTO>> findAll() {
@@ -33,6 +40,21 @@ public class OrderItemsController {
                 new OrderItemId(Integer.parseInt(orderId), Integer.parseInt(productId))));
     }
 
+    @GetMapping("/orders/{orderId}/items")
+    public ResponseEntity<DTOCollectionResponse<OrderItemsDTO>> findByOrderId(
+            @PathVariable("orderId") final String orderId) {
+        log.info("*** OrderItemDto List, resource; fetch orderItems by orderId *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.orderItemService.findByOrderId(Integer.parseInt(orderId))));
+    }
+
+    @GetMapping(value = "/picking-list", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> pickingList() {
+        log.info("*** StreamingResponseBody, resource; stream picking list *");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(this.pickingListService::writePickingList);
+    }
+
     @GetMapping("/find")
     public ResponseEntity<OrderItemsDTO> findById(
             @RequestBody
@@ -79,4 +101,25 @@ public class OrderItemsController {
         return ResponseEntity.ok(true);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> saveAll(
+            @RequestBody final List<OrderItemsDTO> orderItemDtos) {
+        log.info("*** BulkOperationResponse, resource; bulk save orderItems *");
+        return ResponseEntity.ok(this.orderItemService.saveAll(orderItemDtos));
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> upsertAll(
+            @RequestBody final List<OrderItemsDTO> orderItemDtos) {
+        log.info("*** BulkOperationResponse, resource; bulk upsert orderItems *");
+        return ResponseEntity.ok(this.orderItemService.upsertAll(orderItemDtos));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> deleteAll(
+            @RequestBody final List<OrderItemId> orderItemIds) {
+        log.info("*** BulkOperationResponse, resource; bulk delete orderItems *");
+        return ResponseEntity.ok(this.orderItemService.deleteAll(orderItemIds));
+    }
+
 }
@@ -0,0 +1,65 @@
+package org.example.shippingservice.controller;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.shippingservice.domain.dtos.ShipmentDTO;
+import org.example.shippingservice.domain.dtos.ShipmentStatusEventDTO;
+import org.example.shippingservice.response.DTOCollectionResponse;
+import org.example.shippingservice.service.ShipmentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/shipments")
+@Slf4j
+@RequiredArgsConstructor
+public class ShipmentController {
+    private final ShipmentService shipmentService;
+
+    @GetMapping("/{shipmentId}")
+    public ResponseEntity<ShipmentDTO> findById(@PathVariable("shipmentId") final String shipmentId) {
+        log.info("*** ShipmentDto, resource; fetch shipment by id *");
+        return ResponseEntity.ok(this.shipmentService.findById(Integer.parseInt(shipmentId)));
+    }
+
+    @GetMapping("/{shipmentId}/events")
+    public ResponseEntity<DTOCollectionResponse<ShipmentStatusEventDTO>> findEvents(
+            @PathVariable("shipmentId") final String shipmentId) {
+        log.info("*** ShipmentStatusEventDto List, resource; fetch shipment status history *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.shipmentService.findEvents(Integer.parseInt(shipmentId))));
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<DTOCollectionResponse<ShipmentDTO>> findByOrderId(@PathVariable("orderId") final String orderId) {
+        log.info("*** ShipmentDto List, resource; fetch shipments by orderId *");
+        return ResponseEntity.ok(new DTOCollectionResponse<>(this.shipmentService.findByOrderId(Integer.parseInt(orderId))));
+    }
+
+    @GetMapping("/tracking/{orderId}")
+    public ResponseEntity<ShipmentDTO> track(@PathVariable("orderId") final String orderId) {
+        log.info("*** ShipmentDto, resource; track latest shipment status by orderId *");
+        return ResponseEntity.ok(this.shipmentService.track(Integer.parseInt(orderId)));
+    }
+
+    @PostMapping
+    public ResponseEntity<ShipmentDTO> save(
+            @RequestBody
+            @NotNull(message = "Input must not be NULL")
+            @Valid final ShipmentDTO shipmentDto) {
+        log.info("*** ShipmentDto, resource; save shipment *");
+        return ResponseEntity.ok(this.shipmentService.save(shipmentDto));
+    }
+
+    @PutMapping("/{shipmentId}/status")
+    public ResponseEntity<ShipmentDTO> changeStatus(
+            @PathVariable("shipmentId") final String shipmentId,
+            @RequestBody
+            @NotNull(message = "Input must not be NULL")
+            @Valid final ShipmentStatusEventDTO statusEventDto) {
+        log.info("*** ShipmentDto, resource; change shipment status *");
+        return ResponseEntity.ok(this.shipmentService.changeStatus(Integer.parseInt(shipmentId), statusEventDto));
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.example.shippingservice.domain.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.shippingservice.constant.AppConstant;
+import org.example.shippingservice.domain.entity.ShipmentStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ShipmentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer shipmentId;
+
+    @NotNull(message = "orderId must not be NULL")
+    private Integer orderId;
+    private String carrier;
+    private String trackingNumber;
+    private ShipmentStatus status;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT, shape = JsonFormat.Shape.STRING)
+    @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT)
+    private LocalDateTime statusChangedAt;
+
+}
@@ -7,7 +7,9 @@ import org.example.shippingservice.audit.BaseEntity;
 import java.io.Serializable;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order_id", columnList = "order_id")
+})
 @IdClass(OrderItemId.class)
 @NoArgsConstructor
 @AllArgsConstructor
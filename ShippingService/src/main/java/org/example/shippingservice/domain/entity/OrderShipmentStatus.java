@@ -0,0 +1,54 @@
+package org.example.shippingservice.domain.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.shippingservice.constant.AppConstant;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Read model holding the latest shipment status per order, rewritten in the same
+ * transaction as every {@link Shipment} change so tracking is a primary-key read.
+ */
+@Entity
+@Table(name = "order_shipment_statuses")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderShipmentStatus implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "order_id", unique = true, nullable = false, updatable = false)
+    private Integer orderId;
+
+    @Column(name = "shipment_id", nullable = false)
+    private Integer shipmentId;
+
+    @Column(name = "carrier")
+    private String carrier;
+
+    @Column(name = "tracking_number")
+    private String trackingNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shipment_status", nullable = false)
+    private ShipmentStatus status;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT, shape = JsonFormat.Shape.STRING)
+    @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT)
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt;
+
+}
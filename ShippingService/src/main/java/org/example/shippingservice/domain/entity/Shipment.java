@@ -0,0 +1,69 @@
+package org.example.shippingservice.domain.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.shippingservice.audit.BaseEntity;
+import org.example.shippingservice.constant.AppConstant;
+import org.example.shippingservice.exception.InvalidShipmentTransitionException;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "shipments", indexes = {
+        @Index(name = "idx_shipments_order_id", columnList = "order_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Data
+@Builder
+public class Shipment extends BaseEntity implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "shipment_id", unique = true, nullable = false, updatable = false)
+    private Integer shipmentId;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Integer orderId;
+
+    @Column(name = "carrier")
+    private String carrier;
+
+    @Column(name = "tracking_number")
+    private String trackingNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shipment_status", nullable = false)
+    private ShipmentStatus status;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT, shape = JsonFormat.Shape.STRING)
+    @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT)
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt;
+
+    /**
+     * Moves the shipment to {@code next} if {@link ShipmentStatus#canTransitionTo} allows it;
+     * going backwards, repeating the current status or leaving a terminal status is rejected.
+     */
+    public void transitionTo(final ShipmentStatus next, final LocalDateTime changedAt) {
+        if (next == null || !this.status.canTransitionTo(next)) {
+            throw new InvalidShipmentTransitionException(String.format("Shipment with id: %d cannot move from %s to %s",
+                    this.shipmentId, this.status.getStatus(), next == null ? null : next.getStatus()));
+        }
+        this.status = next;
+        this.statusChangedAt = changedAt;
+    }
+
+}
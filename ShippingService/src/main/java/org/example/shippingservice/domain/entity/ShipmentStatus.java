@@ -0,0 +1,40 @@
+package org.example.shippingservice.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Shipment lifecycle. A shipment only moves forward: CREATED -> PICKED -> DISPATCHED ->
+ * IN_TRANSIT -> DELIVERED, may skip IN_TRANSIT on direct delivery, and can be CANCELLED
+ * until it has been dispatched.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ShipmentStatus {
+
+    CREATED("created", false),
+    PICKED("picked", false),
+    DISPATCHED("dispatched", false),
+    IN_TRANSIT("in_transit", false),
+    DELIVERED("delivered", true),
+    CANCELLED("cancelled", true);
+
+    private final String status;
+    private final boolean terminal;
+
+    public boolean canTransitionTo(final ShipmentStatus next) {
+        switch (this) {
+            case CREATED:
+                return next == PICKED || next == CANCELLED;
+            case PICKED:
+                return next == DISPATCHED || next == CANCELLED;
+            case DISPATCHED:
+                return next == IN_TRANSIT || next == DELIVERED;
+            case IN_TRANSIT:
+                return next == DELIVERED;
+            default:
+                return false;
+        }
+    }
+
+}
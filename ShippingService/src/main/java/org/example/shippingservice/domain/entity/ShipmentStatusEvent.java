@@ -0,0 +1,56 @@
+package org.example.shippingservice.domain.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.shippingservice.constant.AppConstant;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only history of {@link Shipment} status changes. Rows are inserted, never updated.
+ */
+@Entity
+@Table(name = "shipment_status_events", indexes = {
+        @Index(name = "idx_shipment_status_events_shipment_id", columnList = "shipment_id, occurred_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ShipmentStatusEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id", unique = true, nullable = false, updatable = false)
+    private Long eventId;
+
+    @Column(name = "shipment_id", nullable = false, updatable = false)
+    private Integer shipmentId;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Integer orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shipment_status", nullable = false, updatable = false)
+    private ShipmentStatus status;
+
+    @Column(name = "note", updatable = false)
+    private String note;
+
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT, shape = JsonFormat.Shape.STRING)
+    @DateTimeFormat(pattern = AppConstant.LOCAL_DATE_TIME_FORMAT)
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+}
@@ -1,5 +1,6 @@
 package org.example.shippingservice.exception;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -36,8 +37,24 @@ public class ApiExceptionHandler {
                         .build(), badRequest);
     }
 
+    @ExceptionHandler(value = ConstraintViolationException.class)
+    public ResponseEntity<ExceptionMsg> handleConstraintViolationException(final ConstraintViolationException e) {
+
+        log.info("**ApiExceptionHandler controller, handle constraint violation*\n");
+        final var badRequest = HttpStatus.BAD_REQUEST;
+
+        return new ResponseEntity<>(
+                ExceptionMsg.builder()
+                        .msg("*" + e.getMessage() + "!**")
+                        .httpStatus(badRequest)
+                        .timestamp(ZonedDateTime
+                                .now(ZoneId.systemDefault()))
+                        .build(), badRequest);
+    }
+
     @ExceptionHandler(value = {
             IllegalStateException.class,
+            ShipmentNotFoundException.class,
     })
     public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 
@@ -53,6 +70,21 @@ public class ApiExceptionHandler {
                         .build(), badRequest);
     }
 
+    @ExceptionHandler(value = InvalidShipmentTransitionException.class)
+    public ResponseEntity<ExceptionMsg> handleInvalidShipmentTransitionException(final InvalidShipmentTransitionException e) {
+
+        log.info("**ApiExceptionHandler controller, handle invalid shipment transition*\n");
+        final var conflict = HttpStatus.CONFLICT;
+
+        return new ResponseEntity<>(
+                ExceptionMsg.builder()
+                        .msg("#### " + e.getMessage() + "! ####")
+                        .httpStatus(conflict)
+                        .timestamp(ZonedDateTime
+                                .now(ZoneId.systemDefault()))
+                        .build(), conflict);
+    }
+
 
 
 }
@@ -0,0 +1,25 @@
+package org.example.shippingservice.exception;
+
+public class InvalidShipmentTransitionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidShipmentTransitionException() {
+        super();
+    }
+
+    public InvalidShipmentTransitionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidShipmentTransitionException(String message) {
+        super(message);
+    }
+
+    public InvalidShipmentTransitionException(Throwable cause) {
+        super(cause);
+    }
+
+
+
+}
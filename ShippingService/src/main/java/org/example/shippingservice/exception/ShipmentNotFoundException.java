@@ -0,0 +1,25 @@
+package org.example.shippingservice.exception;
+
+public class ShipmentNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ShipmentNotFoundException() {
+        super();
+    }
+
+    public ShipmentNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ShipmentNotFoundException(String message) {
+        super(message);
+    }
+
+    public ShipmentNotFoundException(Throwable cause) {
+        super(cause);
+    }
+
+
+
+}
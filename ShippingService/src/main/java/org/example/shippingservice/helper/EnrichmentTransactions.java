@@ -0,0 +1,40 @@
+package org.example.shippingservice.helper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read that is followed by remote enrichment. With {@code enrichment.release-connection}
+ * on (the default) the read runs in its own read-only transaction that commits, and hands its
+ * connection back to the pool, before the remote calls start; off, both phases share one
+ * transaction, so the connection stays checked out for as long as the slowest remote call takes.
+ * The release needs {@code spring.jpa.open-in-view=false}: an open-in-view session holds its
+ * connection until the request ends, whatever the transactions do.
+ */
+@Component
+public class EnrichmentTransactions {
+
+    private final TransactionTemplate readOnly;
+    private final boolean releaseConnection;
+
+    public EnrichmentTransactions(final PlatformTransactionManager transactionManager,
+                                  @Value("${enrichment.release-connection:true}") final boolean releaseConnection) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.releaseConnection = releaseConnection;
+    }
+
+    public <T, R> R loadThenEnrich(final Supplier<T> load, final Function<T, R> enrich) {
+        if (this.releaseConnection) {
+            final T loaded = this.readOnly.execute(status -> load.get());
+            return enrich.apply(loaded);
+        }
+        return this.readOnly.execute(status -> enrich.apply(load.get()));
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.example.shippingservice.mapper;
+
+import org.example.shippingservice.domain.dtos.ShipmentDTO;
+import org.example.shippingservice.domain.dtos.ShipmentStatusEventDTO;
+import org.example.shippingservice.domain.entity.OrderShipmentStatus;
+import org.example.shippingservice.domain.entity.Shipment;
+import org.example.shippingservice.domain.entity.ShipmentStatusEvent;
+
+public class ShipmentMapping {
+    public static ShipmentDTO map(final Shipment shipment) {
+        return ShipmentDTO.builder()
+                .shipmentId(shipment.getShipmentId())
+                .orderId(shipment.getOrderId())
+                .carrier(shipment.getCarrier())
+                .trackingNumber(shipment.getTrackingNumber())
+                .status(shipment.getStatus())
+                .statusChangedAt(shipment.getStatusChangedAt())
+                .build();
+    }
+
+    public static ShipmentDTO map(final OrderShipmentStatus orderShipmentStatus) {
+        return ShipmentDTO.builder()
+                .shipmentId(orderShipmentStatus.getShipmentId())
+                .orderId(orderShipmentStatus.getOrderId())
+                .carrier(orderShipmentStatus.getCarrier())
+                .trackingNumber(orderShipmentStatus.getTrackingNumber())
+                .status(orderShipmentStatus.getStatus())
+                .statusChangedAt(orderShipmentStatus.getStatusChangedAt())
+                .build();
+    }
+
+    public static ShipmentStatusEventDTO map(final ShipmentStatusEvent event) {
+        return ShipmentStatusEventDTO.builder()
+                .eventId(event.getEventId())
+                .shipmentId(event.getShipmentId())
+                .status(event.getStatus())
+                .note(event.getNote())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    public static OrderShipmentStatus toReadModel(final Shipment shipment) {
+        return OrderShipmentStatus.builder()
+                .orderId(shipment.getOrderId())
+                .shipmentId(shipment.getShipmentId())
+                .carrier(shipment.getCarrier())
+                .trackingNumber(shipment.getTrackingNumber())
+                .status(shipment.getStatus())
+                .statusChangedAt(shipment.getStatusChangedAt())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.shippingservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shippingservice.domain.entity.OrderItem;
+import org.example.shippingservice.domain.entity.OrderItemId;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC batch writes for {@code order_items}, joining the caller's transaction. The
+ * datasource rewrites batches into multi-row statements, so the per-row update counts are
+ * meaningless; callers find out which lines exist with {@link #lockExisting} first and
+ * classify the lines from that. The locking read takes next-key locks on InnoDB's default
+ * isolation, so a concurrent writer of the same keys waits until this transaction ends.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderItemBatchRepository {
+
+    private static final int LOCK_CHUNK_SIZE = 500;
+
+    private static final String LOCK_EXISTING_SQL = "SELECT product_id, order_id FROM order_items " +
+            "WHERE (product_id, order_id) IN (:ids) FOR UPDATE";
+    private static final String INSERT_SQL = "INSERT INTO order_items " +
+            "(order_id, product_id, ordered_quantity, created_at) " +
+            "VALUES (:orderId, :productId, :orderedQuantity, :now)";
+    private static final String UPSERT_SQL = "INSERT INTO order_items " +
+            "(order_id, product_id, ordered_quantity, created_at) " +
+            "VALUES (:orderId, :productId, :orderedQuantity, :now) " +
+            "ON DUPLICATE KEY UPDATE ordered_quantity = :orderedQuantity, updated_at = :now";
+    private static final String DELETE_SQL = "DELETE FROM order_items " +
+            "WHERE order_id = :orderId AND product_id = :productId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns those of the given ids that exist, locking their rows and the gaps around the
+     * missing ones until the transaction ends.
+     */
+    public Set<OrderItemId> lockExisting(final Collection<OrderItemId> orderItemIds) {
+        final List<Object[]> keys = new ArrayList<>(orderItemIds.size());
+        for (final OrderItemId id : orderItemIds) {
+            keys.add(new Object[]{id.getProductId(), id.getOrderId()});
+        }
+        final Set<OrderItemId> existing = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += LOCK_CHUNK_SIZE) {
+            existing.addAll(this.jdbcTemplate.query(LOCK_EXISTING_SQL,
+                    Map.of("ids", keys.subList(from, Math.min(from + LOCK_CHUNK_SIZE, keys.size()))),
+                    (rs, rowNum) -> new OrderItemId(rs.getInt("product_id"), rs.getInt("order_id"))));
+        }
+        return existing;
+    }
+
+    public void insertAll(final List<OrderItem> orderItems) {
+        batch(INSERT_SQL, orderItems);
+    }
+
+    public void upsertAll(final List<OrderItem> orderItems) {
+        batch(UPSERT_SQL, orderItems);
+    }
+
+    public void deleteAll(final List<OrderItemId> orderItemIds) {
+        if (orderItemIds.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(DELETE_SQL, orderItemIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("orderId", id.getOrderId())
+                        .addValue("productId", id.getProductId()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private void batch(final String sql, final List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        final Timestamp now = Timestamp.from(Instant.now());
+        this.jdbcTemplate.batchUpdate(sql, orderItems.stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("orderId", item.getOrderId())
+                        .addValue("productId", item.getProductId())
+                        .addValue("orderedQuantity", item.getOrderedQuantity())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+}
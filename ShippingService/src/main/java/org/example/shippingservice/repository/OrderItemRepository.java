@@ -5,6 +5,10 @@ import org.example.shippingservice.domain.entity.OrderItem;
 import org.example.shippingservice.domain.entity.OrderItemId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 
+    List<OrderItem> findByOrderId(Integer orderId);
+
 }
@@ -0,0 +1,8 @@
+package org.example.shippingservice.repository;
+
+import org.example.shippingservice.domain.entity.OrderShipmentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderShipmentStatusRepository extends JpaRepository<OrderShipmentStatus, Integer> {
+
+}
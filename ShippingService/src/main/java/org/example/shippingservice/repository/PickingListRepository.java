@@ -0,0 +1,50 @@
+package org.example.shippingservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shippingservice.domain.entity.ShipmentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Forward-only scan over the line items of orders that still need picking, i.e. orders
+ * with no shipment yet or whose latest shipment is still {@link ShipmentStatus#CREATED}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PickingListRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String OPEN_ORDER_ITEMS_SQL = "SELECT oi.product_id, oi.ordered_quantity " +
+            "FROM order_items oi " +
+            "LEFT JOIN order_shipment_statuses s ON s.order_id = oi.order_id " +
+            "WHERE s.order_id IS NULL OR s.shipment_status = '" + ShipmentStatus.CREATED.name() + "'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Streams every open line to the consumer without materialising the result set;
+     * a NULL quantity is reported as zero. Read-only, so the scan runs on the replica when
+     * one is configured.
+     */
+    @Transactional(readOnly = true)
+    public void scanOpenOrderItems(final OrderItemQuantityConsumer consumer) {
+        this.jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(OPEN_ORDER_ITEMS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getInt(1), rs.getInt(2));
+        });
+    }
+
+    @FunctionalInterface
+    public interface OrderItemQuantityConsumer {
+        void accept(int productId, int orderedQuantity);
+    }
+
+}
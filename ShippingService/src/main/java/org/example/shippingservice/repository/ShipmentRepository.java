@@ -0,0 +1,12 @@
+package org.example.shippingservice.repository;
+
+import org.example.shippingservice.domain.entity.Shipment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ShipmentRepository extends JpaRepository<Shipment, Integer> {
+
+    List<Shipment> findByOrderId(Integer orderId);
+
+}
@@ -0,0 +1,12 @@
+package org.example.shippingservice.repository;
+
+import org.example.shippingservice.domain.entity.ShipmentStatusEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ShipmentStatusEventRepository extends JpaRepository<ShipmentStatusEvent, Long> {
+
+    List<ShipmentStatusEvent> findByShipmentIdOrderByOccurredAtAscEventIdAsc(Integer shipmentId);
+
+}
@@ -0,0 +1,22 @@
+package org.example.shippingservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BulkLineError implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer line;
+    private Integer orderId;
+    private Integer productId;
+    private String msg;
+}
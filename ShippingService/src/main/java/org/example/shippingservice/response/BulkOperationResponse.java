@@ -0,0 +1,30 @@
+package org.example.shippingservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk write: how many lines were applied and why the others were rejected.
+ * Line numbers are zero-based positions in the request body.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BulkOperationResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int inserted;
+    private int updated;
+    private int deleted;
+
+    @Builder.Default
+    private List<BulkLineError> errors = new ArrayList<>();
+}
@@ -2,13 +2,18 @@ package org.example.shippingservice.service;
 
 import org.example.shippingservice.domain.entity.OrderItemId;
 import org.example.shippingservice.domain.dtos.OrderItemsDTO;
+import org.example.shippingservice.response.BulkOperationResponse;
 
 import java.util.List;
 
 public interface OrderItemService {
     List<OrderItemsDTO> findAll();
     OrderItemsDTO findById(final OrderItemId orderItemId);
+    List<OrderItemsDTO> findByOrderId(final Integer orderId);
     OrderItemsDTO save(final OrderItemsDTO orderItemDto);
     OrderItemsDTO update(final OrderItemsDTO orderItemDto);
     void deleteById(final OrderItemId orderItemId);
+    BulkOperationResponse saveAll(final List<OrderItemsDTO> orderItemDtos);
+    BulkOperationResponse upsertAll(final List<OrderItemsDTO> orderItemDtos);
+    BulkOperationResponse deleteAll(final List<OrderItemId> orderItemIds);
 }
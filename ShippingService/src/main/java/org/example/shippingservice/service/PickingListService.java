@@ -0,0 +1,8 @@
+package org.example.shippingservice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PickingListService {
+    void writePickingList(final OutputStream outputStream) throws IOException;
+}
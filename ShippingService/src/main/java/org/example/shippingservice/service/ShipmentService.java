@@ -0,0 +1,15 @@
+package org.example.shippingservice.service;
+
+import org.example.shippingservice.domain.dtos.ShipmentDTO;
+import org.example.shippingservice.domain.dtos.ShipmentStatusEventDTO;
+
+import java.util.List;
+
+public interface ShipmentService {
+    ShipmentDTO findById(final Integer shipmentId);
+    List<ShipmentDTO> findByOrderId(final Integer orderId);
+    ShipmentDTO track(final Integer orderId);
+    List<ShipmentStatusEventDTO> findEvents(final Integer shipmentId);
+    ShipmentDTO save(final ShipmentDTO shipmentDto);
+    ShipmentDTO changeStatus(final Integer shipmentId, final ShipmentStatusEventDTO statusEventDto);
+}
@@ -1,21 +1,36 @@
 package org.example.shippingservice.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.shippingservice.constant.AppConstant;
+import org.example.shippingservice.domain.entity.OrderItem;
 import org.example.shippingservice.domain.entity.OrderItemId;
 import org.example.shippingservice.domain.dtos.OrderDTO;
 import org.example.shippingservice.domain.dtos.OrderItemsDTO;
 import org.example.shippingservice.domain.dtos.ProductDTO;
 import org.example.shippingservice.exception.OrderItemNotFoundException;
 import org.example.shippingservice.mapper.OrderItemMapping;
+import org.example.shippingservice.repository.OrderItemBatchRepository;
 import org.example.shippingservice.repository.OrderItemRepository;
+import org.example.shippingservice.response.BulkLineError;
+import org.example.shippingservice.response.BulkOperationResponse;
+import org.example.shippingservice.response.DTOCollectionResponse;
 import org.example.shippingservice.service.OrderItemService;
+import org.example.shippingservice.helper.EnrichmentTransactions;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,38 +39,86 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderItemServiceImpl implements OrderItemService {
     private final OrderItemRepository orderItemRepository;
+    private final OrderItemBatchRepository orderItemBatchRepository;
     private final RestTemplate restTemplate;
+    private final EnrichmentTransactions enrichmentTransactions;
 
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<OrderItemsDTO> findAll() {
         log.info("*** OrderItemDto List, service; fetch all orderItems *");
-        return this.orderItemRepository.findAll()
-                .stream()
-                .map(OrderItemMapping::map)
-                .map(o -> {
-                    o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-                            .PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDTO.class));
-                    o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-                            .ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDTO.class));
-                    return o;
-                })
-                .distinct()
-                .collect(Collectors.toUnmodifiableList());
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.orderItemRepository.findAll()
+                        .stream()
+                        .map(OrderItemMapping::map)
+                        .collect(Collectors.toList()),
+                orderItems -> orderItems.stream()
+                        .map(this::withProductAndOrder)
+                        .distinct()
+                        .collect(Collectors.toUnmodifiableList()));
     }
 
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderItemsDTO findById(final OrderItemId orderItemId) {
         log.info("*** OrderItemDto, service; fetch orderItem by id *");
-        return this.orderItemRepository.findById(null)
-                .map(OrderItemMapping::map)
-                .map(o -> {
-                    o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-                            .PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDTO.class));
-                    o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-                            .ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDTO.class));
-                    return o;
-                })
-                .orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.orderItemRepository.findById(null)
+                        .map(OrderItemMapping::map)
+                        .orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId))),
+                this::withProductAndOrder);
+    }
+
+    private OrderItemsDTO withProductAndOrder(final OrderItemsDTO o) {
+        o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+                .PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDTO.class));
+        o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+                .ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDTO.class));
+        return o;
+    }
+
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderItemsDTO> findByOrderId(final Integer orderId) {
+        log.info("*** OrderItemDto List, service; fetch orderItems by orderId *");
+        return this.enrichmentTransactions.loadThenEnrich(
+                () -> this.orderItemRepository.findByOrderId(orderId)
+                        .stream()
+                        .map(OrderItemMapping::map)
+                        .collect(Collectors.toList()),
+                orderItems -> this.enrich(orderId, orderItems));
+    }
+
+    private List<OrderItemsDTO> enrich(final Integer orderId, final List<OrderItemsDTO> orderItems) {
+        if (orderItems.isEmpty()) {
+            return List.of();
+        }
+
+        final OrderDTO orderDto = this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+                .ORDER_SERVICE_API_URL + "/" + orderId, OrderDTO.class);
+        final Map<Integer, ProductDTO> products = this.findProducts(orderItems.stream()
+                .map(OrderItemsDTO::getProductId)
+                .collect(Collectors.toSet()));
+        orderItems.forEach(o -> {
+            o.setOrderDto(orderDto);
+            o.setProductDto(products.getOrDefault(o.getProductId(), o.getProductDto()));
+        });
+        return Collections.unmodifiableList(orderItems);
+    }
+
+
+    private Map<Integer, ProductDTO> findProducts(final Set<Integer> productIds) {
+        final String ids = productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        final DTOCollectionResponse<ProductDTO> response = this.restTemplate.exchange(
+                        AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch?ids=" + ids,
+                        HttpMethod.GET, null, new ParameterizedTypeReference<DTOCollectionResponse<ProductDTO>>() {})
+                .getBody();
+        if (response == null || response.getCollection() == null) {
+            return Map.of();
+        }
+        return response.getCollection()
+                .stream()
+                .collect(Collectors.toMap(ProductDTO::getProductId, Function.identity(), (a, b) -> a));
     }
 
 
@@ -79,4 +142,93 @@ public class OrderItemServiceImpl implements OrderItemService {
     }
 
 
+    public BulkOperationResponse saveAll(final List<OrderItemsDTO> orderItemDtos) {
+        log.info("*** BulkOperationResponse, service; bulk save orderItems *");
+        final BulkOperationResponse response = new BulkOperationResponse();
+        final Map<OrderItemId, Integer> lines = validateLines(orderItemDtos, response);
+        final Set<OrderItemId> existing = this.orderItemBatchRepository.lockExisting(lines.keySet());
+        final List<OrderItem> inserts = new ArrayList<>();
+        lines.forEach((id, line) -> {
+            if (existing.contains(id)) {
+                reject(response, line, id, "OrderItem already exists");
+            } else {
+                inserts.add(OrderItemMapping.map(orderItemDtos.get(line)));
+            }
+        });
+        this.orderItemBatchRepository.insertAll(inserts);
+        response.setInserted(inserts.size());
+        return response;
+    }
+
+
+    public BulkOperationResponse upsertAll(final List<OrderItemsDTO> orderItemDtos) {
+        log.info("*** BulkOperationResponse, service; bulk upsert orderItems *");
+        final BulkOperationResponse response = new BulkOperationResponse();
+        final Map<OrderItemId, Integer> lines = validateLines(orderItemDtos, response);
+        final Set<OrderItemId> existing = this.orderItemBatchRepository.lockExisting(lines.keySet());
+        this.orderItemBatchRepository.upsertAll(lines.values().stream()
+                .map(line -> OrderItemMapping.map(orderItemDtos.get(line)))
+                .collect(Collectors.toList()));
+        response.setUpdated(existing.size());
+        response.setInserted(lines.size() - existing.size());
+        return response;
+    }
+
+
+    public BulkOperationResponse deleteAll(final List<OrderItemId> orderItemIds) {
+        log.info("*** BulkOperationResponse, service; bulk delete orderItems *");
+        final BulkOperationResponse response = new BulkOperationResponse();
+        final Map<OrderItemId, Integer> lines = new LinkedHashMap<>();
+        for (int line = 0; line < orderItemIds.size(); line++) {
+            final OrderItemId id = orderItemIds.get(line);
+            if (id == null || id.getOrderId() == null || id.getProductId() == null) {
+                reject(response, line, id, "orderId and productId are required");
+            } else if (lines.putIfAbsent(id, line) != null) {
+                reject(response, line, id, "Duplicate line for the same OrderItem");
+            }
+        }
+
+        final Set<OrderItemId> existing = this.orderItemBatchRepository.lockExisting(lines.keySet());
+        final List<OrderItemId> deletes = new ArrayList<>();
+        lines.forEach((id, line) -> {
+            if (existing.contains(id)) {
+                deletes.add(id);
+            } else {
+                reject(response, line, id, "OrderItem not found");
+            }
+        });
+        this.orderItemBatchRepository.deleteAll(deletes);
+        response.setDeleted(deletes.size());
+        return response;
+    }
+
+
+    private Map<OrderItemId, Integer> validateLines(final List<OrderItemsDTO> orderItemDtos,
+                                                    final BulkOperationResponse response) {
+        final Map<OrderItemId, Integer> lines = new LinkedHashMap<>();
+        for (int line = 0; line < orderItemDtos.size(); line++) {
+            final OrderItemsDTO dto = orderItemDtos.get(line);
+            final OrderItemId id = dto == null ? null : new OrderItemId(dto.getProductId(), dto.getOrderId());
+            if (id == null || id.getOrderId() == null || id.getProductId() == null) {
+                reject(response, line, id, "orderId and productId are required");
+            } else if (dto.getOrderedQuantity() == null || dto.getOrderedQuantity() <= 0) {
+                reject(response, line, id, "orderedQuantity must be greater than zero");
+            } else if (lines.putIfAbsent(id, line) != null) {
+                reject(response, line, id, "Duplicate line for the same OrderItem");
+            }
+        }
+        return lines;
+    }
+
+    private static void reject(final BulkOperationResponse response, final int line,
+                               final OrderItemId id, final String msg) {
+        response.getErrors().add(BulkLineError.builder()
+                .line(line)
+                .orderId(id == null ? null : id.getOrderId())
+                .productId(id == null ? null : id.getProductId())
+                .msg(msg)
+                .build());
+    }
+
+
 }
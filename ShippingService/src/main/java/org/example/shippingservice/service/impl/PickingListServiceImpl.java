@@ -0,0 +1,45 @@
+package org.example.shippingservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.shippingservice.repository.PickingListRepository;
+import org.example.shippingservice.service.PickingListService;
+import org.example.shippingservice.util.IntLongHashMap;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the warehouse picking list: total ordered quantity per product across all open
+ * orders. Memory is bounded by the number of distinct products, not by the number of lines.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PickingListServiceImpl implements PickingListService {
+    private final PickingListRepository pickingListRepository;
+
+
+    public void writePickingList(final OutputStream outputStream) throws IOException {
+        log.info("*** Void, service; stream picking list *");
+        final IntLongHashMap totals = new IntLongHashMap();
+        this.pickingListRepository.scanOpenOrderItems(totals::addTo);
+
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("product_id,ordered_quantity\n");
+        for (final int productId : totals.sortedKeys()) {
+            writer.write(Integer.toString(productId));
+            writer.write(',');
+            writer.write(Long.toString(totals.get(productId)));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+
+}
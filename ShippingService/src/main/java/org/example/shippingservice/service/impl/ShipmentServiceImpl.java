@@ -0,0 +1,107 @@
+package org.example.shippingservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.shippingservice.domain.dtos.ShipmentDTO;
+import org.example.shippingservice.domain.dtos.ShipmentStatusEventDTO;
+import org.example.shippingservice.domain.entity.Shipment;
+import org.example.shippingservice.domain.entity.ShipmentStatus;
+import org.example.shippingservice.domain.entity.ShipmentStatusEvent;
+import org.example.shippingservice.exception.ShipmentNotFoundException;
+import org.example.shippingservice.mapper.ShipmentMapping;
+import org.example.shippingservice.repository.OrderShipmentStatusRepository;
+import org.example.shippingservice.repository.ShipmentRepository;
+import org.example.shippingservice.repository.ShipmentStatusEventRepository;
+import org.example.shippingservice.service.ShipmentService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class ShipmentServiceImpl implements ShipmentService {
+    private final ShipmentRepository shipmentRepository;
+    private final ShipmentStatusEventRepository shipmentStatusEventRepository;
+    private final OrderShipmentStatusRepository orderShipmentStatusRepository;
+
+
+    @Transactional(readOnly = true)
+    public ShipmentDTO findById(final Integer shipmentId) {
+        log.info("*** ShipmentDto, service; fetch shipment by id *");
+        return this.shipmentRepository.findById(shipmentId)
+                .map(ShipmentMapping::map)
+                .orElseThrow(() -> new ShipmentNotFoundException(String.format("Shipment with id: %d not found", shipmentId)));
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<ShipmentDTO> findByOrderId(final Integer orderId) {
+        log.info("*** ShipmentDto List, service; fetch shipments by orderId *");
+        return this.shipmentRepository.findByOrderId(orderId)
+                .stream()
+                .map(ShipmentMapping::map)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+
+    @Transactional(readOnly = true)
+    public ShipmentDTO track(final Integer orderId) {
+        log.info("*** ShipmentDto, service; track latest shipment status by orderId *");
+        return this.orderShipmentStatusRepository.findById(orderId)
+                .map(ShipmentMapping::map)
+                .orElseThrow(() -> new ShipmentNotFoundException(String.format("No shipment for order with id: %d", orderId)));
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<ShipmentStatusEventDTO> findEvents(final Integer shipmentId) {
+        log.info("*** ShipmentStatusEventDto List, service; fetch status history by shipmentId *");
+        return this.shipmentStatusEventRepository.findByShipmentIdOrderByOccurredAtAscEventIdAsc(shipmentId)
+                .stream()
+                .map(ShipmentMapping::map)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+
+    public ShipmentDTO save(final ShipmentDTO shipmentDto) {
+        log.info("*** ShipmentDto, service; save shipment *");
+        final Shipment shipment = this.shipmentRepository.save(Shipment.builder()
+                .orderId(shipmentDto.getOrderId())
+                .carrier(shipmentDto.getCarrier())
+                .trackingNumber(shipmentDto.getTrackingNumber())
+                .status(ShipmentStatus.CREATED)
+                .statusChangedAt(LocalDateTime.now())
+                .build());
+        this.recordStatus(shipment, null);
+        return ShipmentMapping.map(shipment);
+    }
+
+
+    public ShipmentDTO changeStatus(final Integer shipmentId, final ShipmentStatusEventDTO statusEventDto) {
+        log.info("*** ShipmentDto, service; change shipment status *");
+        final Shipment shipment = this.shipmentRepository.findById(shipmentId)
+                .orElseThrow(() -> new ShipmentNotFoundException(String.format("Shipment with id: %d not found", shipmentId)));
+        shipment.transitionTo(statusEventDto.getStatus(), LocalDateTime.now());
+        this.recordStatus(this.shipmentRepository.save(shipment), statusEventDto.getNote());
+        return ShipmentMapping.map(shipment);
+    }
+
+
+    private void recordStatus(final Shipment shipment, final String note) {
+        this.shipmentStatusEventRepository.save(ShipmentStatusEvent.builder()
+                .shipmentId(shipment.getShipmentId())
+                .orderId(shipment.getOrderId())
+                .status(shipment.getStatus())
+                .note(note)
+                .occurredAt(shipment.getStatusChangedAt())
+                .build());
+        this.orderShipmentStatusRepository.save(ShipmentMapping.toReadModel(shipment));
+    }
+
+
+}
@@ -0,0 +1,93 @@
+package org.example.shippingservice.util;
+
+import java.util.Arrays;
+
+/**
+ * Minimal open-addressing {@code int -> long} map used for hot aggregation loops,
+ * avoiding the boxing and per-entry objects of {@code HashMap<Integer, Long>}.
+ * Not thread-safe.
+ */
+public class IntLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private long[] values;
+    private boolean[] filled;
+    private int size;
+
+    public IntLongHashMap() {
+        this(64);
+    }
+
+    public IntLongHashMap(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.values = new long[capacity];
+        this.filled = new boolean[capacity];
+    }
+
+    public void addTo(final int key, final long delta) {
+        final int slot = this.slotOf(key);
+        if (this.filled[slot]) {
+            this.values[slot] += delta;
+            return;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = delta;
+        this.filled[slot] = true;
+        if (++this.size > this.keys.length * LOAD_FACTOR) {
+            this.resize();
+        }
+    }
+
+    public long get(final int key) {
+        final int slot = this.slotOf(key);
+        return this.filled[slot] ? this.values[slot] : 0L;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return the keys in ascending order
+     */
+    public int[] sortedKeys() {
+        final int[] result = new int[this.size];
+        int i = 0;
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (this.filled[slot]) {
+                result[i++] = this.keys[slot];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int slotOf(final int key) {
+        final int mask = this.keys.length - 1;
+        final int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (this.filled[slot] && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        final int[] oldKeys = this.keys;
+        final long[] oldValues = this.values;
+        final boolean[] oldFilled = this.filled;
+        this.keys = new int[oldKeys.length << 1];
+        this.values = new long[oldKeys.length << 1];
+        this.filled = new boolean[oldKeys.length << 1];
+        this.size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldFilled[slot]) {
+                this.addTo(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+}
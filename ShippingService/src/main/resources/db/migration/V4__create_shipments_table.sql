@@ -0,0 +1,13 @@
+
+CREATE TABLE shipments (
+                             shipment_id INT(11) NOT NULL PRIMARY KEY AUTO_INCREMENT,
+                             order_id INT(11) NOT NULL,
+                             carrier VARCHAR(255),
+                             tracking_number VARCHAR(255),
+                             shipment_status VARCHAR(255) NOT NULL,
+                             status_changed_at TIMESTAMP NOT NULL,
+                             created_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL NULL_TO_DEFAULT,
+                             updated_at TIMESTAMP
+);
+
+CREATE INDEX idx_shipments_order_id ON shipments (order_id);
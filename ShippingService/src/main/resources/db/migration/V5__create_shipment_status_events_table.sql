@@ -0,0 +1,14 @@
+
+CREATE TABLE shipment_status_events (
+                             event_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+                             shipment_id INT(11) NOT NULL,
+                             order_id INT(11) NOT NULL,
+                             shipment_status VARCHAR(255) NOT NULL,
+                             note VARCHAR(255),
+                             occurred_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_shipment_status_events_shipment_id ON shipment_status_events (shipment_id, occurred_at);
+
+ALTER TABLE shipment_status_events
+    ADD CONSTRAINT fk_shipment_status_events_shipment FOREIGN KEY (shipment_id) REFERENCES shipments (shipment_id);
@@ -0,0 +1,9 @@
+
+CREATE TABLE order_shipment_statuses (
+                             order_id INT(11) NOT NULL PRIMARY KEY,
+                             shipment_id INT(11) NOT NULL,
+                             carrier VARCHAR(255),
+                             tracking_number VARCHAR(255),
+                             shipment_status VARCHAR(255) NOT NULL,
+                             status_changed_at TIMESTAMP NOT NULL
+);
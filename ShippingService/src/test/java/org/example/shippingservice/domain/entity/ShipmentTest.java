@@ -0,0 +1,111 @@
+package org.example.shippingservice.domain.entity;
+
+import org.example.shippingservice.exception.InvalidShipmentTransitionException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShipmentTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Test
+    void shouldWalkTheHappyPathToDelivered() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.CREATED);
+
+        // When
+        shipment.transitionTo(ShipmentStatus.PICKED, CREATED_AT.plusHours(1));
+        shipment.transitionTo(ShipmentStatus.DISPATCHED, CREATED_AT.plusHours(2));
+        shipment.transitionTo(ShipmentStatus.IN_TRANSIT, CREATED_AT.plusHours(3));
+        shipment.transitionTo(ShipmentStatus.DELIVERED, CREATED_AT.plusHours(4));
+
+        // Then
+        assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.DELIVERED);
+        assertThat(shipment.getStatusChangedAt()).isEqualTo(CREATED_AT.plusHours(4));
+    }
+
+    @Test
+    void shouldAllowCancellingBeforeDispatch() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.PICKED);
+
+        // When
+        shipment.transitionTo(ShipmentStatus.CANCELLED, CREATED_AT.plusHours(1));
+
+        // Then
+        assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.CANCELLED);
+    }
+
+    @Test
+    void shouldRejectMovingBackwards() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.IN_TRANSIT);
+
+        // When & Then
+        assertThatThrownBy(() -> shipment.transitionTo(ShipmentStatus.CREATED, CREATED_AT.plusHours(1)))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+        assertThat(shipment.getStatus()).isEqualTo(ShipmentStatus.IN_TRANSIT);
+        assertThat(shipment.getStatusChangedAt()).isEqualTo(CREATED_AT);
+    }
+
+    @Test
+    void shouldRejectRepeatingTheCurrentStatus() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.PICKED);
+
+        // When & Then
+        assertThatThrownBy(() -> shipment.transitionTo(ShipmentStatus.PICKED, CREATED_AT.plusHours(1)))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+    }
+
+    @Test
+    void shouldRejectCancellingAfterDispatch() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.DISPATCHED);
+
+        // When & Then
+        assertThatThrownBy(() -> shipment.transitionTo(ShipmentStatus.CANCELLED, CREATED_AT.plusHours(1)))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+    }
+
+    @Test
+    void shouldRejectAnyChangeFromTerminalStatus() {
+        // Given
+        Shipment delivered = shipment(ShipmentStatus.DELIVERED);
+        Shipment cancelled = shipment(ShipmentStatus.CANCELLED);
+
+        // When & Then
+        for (ShipmentStatus next : ShipmentStatus.values()) {
+            assertThat(ShipmentStatus.DELIVERED.canTransitionTo(next)).isFalse();
+            assertThat(ShipmentStatus.CANCELLED.canTransitionTo(next)).isFalse();
+        }
+        assertThatThrownBy(() -> delivered.transitionTo(ShipmentStatus.IN_TRANSIT, CREATED_AT))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+        assertThatThrownBy(() -> cancelled.transitionTo(ShipmentStatus.PICKED, CREATED_AT))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+    }
+
+    @Test
+    void shouldRejectMissingStatus() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.CREATED);
+
+        // When & Then
+        assertThatThrownBy(() -> shipment.transitionTo(null, CREATED_AT))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+    }
+
+    private static Shipment shipment(final ShipmentStatus status) {
+        return Shipment.builder()
+                .shipmentId(1)
+                .orderId(7)
+                .status(status)
+                .statusChangedAt(CREATED_AT)
+                .build();
+    }
+
+}
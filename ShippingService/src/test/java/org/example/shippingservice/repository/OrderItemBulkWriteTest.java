@@ -0,0 +1,113 @@
+package org.example.shippingservice.repository;
+
+import org.example.shippingservice.domain.dtos.OrderItemsDTO;
+import org.example.shippingservice.domain.entity.OrderItemId;
+import org.example.shippingservice.response.BulkLineError;
+import org.example.shippingservice.response.BulkOperationResponse;
+import org.example.shippingservice.service.impl.OrderItemServiceImpl;
+import org.example.shippingservice.helper.EnrichmentTransactions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the bulk endpoints' service methods against H2 in MySQL mode, so the per-line outcome
+ * comes from the rows actually in the table rather than from stubbed update counts.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderItemServiceImpl.class, OrderItemBatchRepository.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false"
+})
+class OrderItemBulkWriteTest {
+
+    @Autowired
+    private OrderItemServiceImpl orderItemService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RestTemplate restTemplate;
+
+    @MockBean
+    private EnrichmentTransactions enrichmentTransactions;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO order_items (product_id, order_id, ordered_quantity, created_at) " +
+                "VALUES (10, 1, 2, CURRENT_TIMESTAMP)");
+    }
+
+    @Test
+    void shouldInsertOnlyTheMissingLinesOnBulkSave() {
+        // When
+        BulkOperationResponse result = orderItemService.saveAll(List.of(line(1, 10, 5), line(1, 11, 1)));
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isZero();
+            assertThat(error.getMsg()).isEqualTo("OrderItem already exists");
+        });
+        assertThat(quantityOf(1, 10)).isEqualTo(2);
+        assertThat(quantityOf(1, 11)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTellInsertedFromUpdatedLinesOnBulkUpsert() {
+        // When
+        BulkOperationResponse result = orderItemService.upsertAll(List.of(line(1, 10, 5), line(1, 12, 3)));
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(quantityOf(1, 10)).isEqualTo(5);
+        assertThat(quantityOf(1, 12)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReportMissingLinesOnBulkDelete() {
+        // When
+        BulkOperationResponse result = orderItemService.deleteAll(
+                List.of(new OrderItemId(10, 1), new OrderItemId(99, 1)));
+
+        // Then
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BulkLineError::getLine).containsExactly(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Integer.class)).isZero();
+    }
+
+    private Integer quantityOf(final int orderId, final int productId) {
+        return jdbcTemplate.queryForObject("SELECT ordered_quantity FROM order_items " +
+                "WHERE order_id = ? AND product_id = ?", Integer.class, orderId, productId);
+    }
+
+    private static OrderItemsDTO line(final Integer orderId, final Integer productId, final Integer quantity) {
+        return OrderItemsDTO.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .orderedQuantity(quantity)
+                .build();
+    }
+
+}
@@ -0,0 +1,192 @@
+package org.example.shippingservice.service;
+
+import org.example.shippingservice.constant.AppConstant;
+import org.example.shippingservice.domain.dtos.OrderDTO;
+import org.example.shippingservice.domain.dtos.OrderItemsDTO;
+import org.example.shippingservice.domain.dtos.ProductDTO;
+import org.example.shippingservice.domain.entity.OrderItem;
+import org.example.shippingservice.domain.entity.OrderItemId;
+import org.example.shippingservice.repository.OrderItemBatchRepository;
+import org.example.shippingservice.repository.OrderItemRepository;
+import org.example.shippingservice.response.BulkLineError;
+import org.example.shippingservice.response.BulkOperationResponse;
+import org.example.shippingservice.response.DTOCollectionResponse;
+import org.example.shippingservice.service.impl.OrderItemServiceImpl;
+import org.example.shippingservice.helper.EnrichmentTransactions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderItemServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderItemBatchRepository orderItemBatchRepository;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Spy
+    private EnrichmentTransactions enrichmentTransactions = new EnrichmentTransactions(mock(PlatformTransactionManager.class), true);
+
+    @InjectMocks
+    private OrderItemServiceImpl orderItemService;
+
+    @Test
+    void shouldEnrichOrderItemsWithOneOrderCallAndOneBatchedProductCall() {
+        // Given
+        List<OrderItem> items = Arrays.asList(
+                OrderItem.builder().orderId(1).productId(10).orderedQuantity(2).build(),
+                OrderItem.builder().orderId(1).productId(11).orderedQuantity(1).build());
+        OrderDTO order = OrderDTO.builder().orderId(1).build();
+        ProductDTO product = ProductDTO.builder().productId(10).productTitle("Keyboard").build();
+
+        when(orderItemRepository.findByOrderId(1)).thenReturn(items);
+        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/1", OrderDTO.class))
+                .thenReturn(order);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DTOCollectionResponse<>(List.of(product))));
+
+        // When
+        List<OrderItemsDTO> result = orderItemService.findByOrderId(1);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).allSatisfy(o -> assertThat(o.getOrderDto()).isSameAs(order));
+        assertThat(result.get(0).getProductDto().getProductTitle()).isEqualTo("Keyboard");
+        assertThat(result.get(1).getProductDto().getProductId()).isEqualTo(11);
+        verify(restTemplate).exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch?ids=10,11"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).getForObject(anyString(), eq(ProductDTO.class));
+    }
+
+    @Test
+    void shouldNotCallRemoteServicesWhenOrderHasNoItems() {
+        // Given
+        when(orderItemRepository.findByOrderId(1)).thenReturn(List.of());
+
+        // When
+        List<OrderItemsDTO> result = orderItemService.findByOrderId(1);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void shouldInsertNewLinesAndRejectExistingAndInvalidOnBulkSave() {
+        // Given
+        List<OrderItemsDTO> lines = Arrays.asList(line(1, 10, 2), line(1, 11, 1), line(1, 12, 0));
+        when(orderItemBatchRepository.lockExisting(any())).thenReturn(Set.of(new OrderItemId(11, 1)));
+
+        // When
+        BulkOperationResponse result = orderItemService.saveAll(lines);
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BulkLineError::getLine).containsExactly(2, 1);
+        assertThat(result.getErrors().get(1).getMsg()).isEqualTo("OrderItem already exists");
+        verify(orderItemBatchRepository, never()).upsertAll(anyList());
+    }
+
+    @Test
+    void shouldCountInsertedAndUpdatedLinesFromLockedRowsOnBulkUpsert() {
+        // Given
+        List<OrderItemsDTO> lines = Arrays.asList(line(1, 10, 2), line(1, 11, 3), line(1, 12, 4));
+        when(orderItemBatchRepository.lockExisting(any())).thenReturn(Set.of(new OrderItemId(11, 1)));
+
+        // When
+        BulkOperationResponse result = orderItemService.upsertAll(lines);
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getErrors()).isEmpty();
+        verify(orderItemBatchRepository).upsertAll(argThat(items -> items.size() == 3));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSendOnlyValidDistinctLinesOnBulkUpsert() {
+        // Given
+        List<OrderItemsDTO> lines = Arrays.asList(line(1, 10, 2), null, line(null, 11, 1), line(1, 10, 5));
+        when(orderItemBatchRepository.lockExisting(any())).thenReturn(Set.of());
+
+        // When
+        BulkOperationResponse result = orderItemService.upsertAll(lines);
+
+        // Then
+        ArgumentCaptor<List<OrderItem>> sent = ArgumentCaptor.forClass(List.class);
+        verify(orderItemBatchRepository).upsertAll(sent.capture());
+        assertThat(sent.getValue()).singleElement()
+                .satisfies(item -> assertThat(item.getOrderedQuantity()).isEqualTo(2));
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BulkLineError::getLine).containsExactly(1, 2, 3);
+        assertThat(result.getErrors().get(2).getMsg()).isEqualTo("Duplicate line for the same OrderItem");
+    }
+
+    @Test
+    void shouldPropagateBatchFailureOnBulkUpsert() {
+        // Given
+        doThrow(new DataIntegrityViolationException("Data truncation"))
+                .when(orderItemBatchRepository).upsertAll(anyList());
+
+        // When & Then
+        assertThatThrownBy(() -> orderItemService.upsertAll(List.of(line(1, 10, 2))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldDeleteOnlyLockedRowsAndReportMissingLinesOnBulkDelete() {
+        // Given
+        List<OrderItemId> ids = Arrays.asList(new OrderItemId(10, 1), new OrderItemId(11, 1),
+                new OrderItemId(12, 1), new OrderItemId(null, 1));
+        when(orderItemBatchRepository.lockExisting(any()))
+                .thenReturn(Set.of(new OrderItemId(10, 1), new OrderItemId(12, 1)));
+
+        // When
+        BulkOperationResponse result = orderItemService.deleteAll(ids);
+
+        // Then
+        assertThat(result.getDeleted()).isEqualTo(2);
+        verify(orderItemBatchRepository).deleteAll(List.of(new OrderItemId(10, 1), new OrderItemId(12, 1)));
+        assertThat(result.getErrors()).extracting(BulkLineError::getLine).containsExactly(3, 1);
+        assertThat(result.getErrors().get(1).getMsg()).isEqualTo("OrderItem not found");
+    }
+
+    private static OrderItemsDTO line(final Integer orderId, final Integer productId, final Integer quantity) {
+        return OrderItemsDTO.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .orderedQuantity(quantity)
+                .build();
+    }
+
+}
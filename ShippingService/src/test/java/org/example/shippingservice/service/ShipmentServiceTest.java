@@ -0,0 +1,126 @@
+package org.example.shippingservice.service;
+
+import org.example.shippingservice.domain.dtos.ShipmentDTO;
+import org.example.shippingservice.domain.dtos.ShipmentStatusEventDTO;
+import org.example.shippingservice.domain.entity.OrderShipmentStatus;
+import org.example.shippingservice.domain.entity.Shipment;
+import org.example.shippingservice.domain.entity.ShipmentStatus;
+import org.example.shippingservice.domain.entity.ShipmentStatusEvent;
+import org.example.shippingservice.exception.InvalidShipmentTransitionException;
+import org.example.shippingservice.exception.ShipmentNotFoundException;
+import org.example.shippingservice.repository.OrderShipmentStatusRepository;
+import org.example.shippingservice.repository.ShipmentRepository;
+import org.example.shippingservice.repository.ShipmentStatusEventRepository;
+import org.example.shippingservice.service.impl.ShipmentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShipmentServiceTest {
+
+    @Mock
+    private ShipmentRepository shipmentRepository;
+
+    @Mock
+    private ShipmentStatusEventRepository shipmentStatusEventRepository;
+
+    @Mock
+    private OrderShipmentStatusRepository orderShipmentStatusRepository;
+
+    @InjectMocks
+    private ShipmentServiceImpl shipmentService;
+
+    @Test
+    void shouldCreateShipmentAndRecordInitialStatus() {
+        // Given
+        when(shipmentRepository.save(any(Shipment.class))).thenAnswer(invocation -> {
+            Shipment shipment = invocation.getArgument(0);
+            shipment.setShipmentId(1);
+            return shipment;
+        });
+
+        // When
+        ShipmentDTO result = shipmentService.save(ShipmentDTO.builder().orderId(7).carrier("DHL").build());
+
+        // Then
+        assertThat(result.getShipmentId()).isEqualTo(1);
+        assertThat(result.getStatus()).isEqualTo(ShipmentStatus.CREATED);
+        ArgumentCaptor<ShipmentStatusEvent> event = ArgumentCaptor.forClass(ShipmentStatusEvent.class);
+        verify(shipmentStatusEventRepository).save(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(ShipmentStatus.CREATED);
+        verify(orderShipmentStatusRepository).save(any(OrderShipmentStatus.class));
+    }
+
+    @Test
+    void shouldChangeStatusAndUpdateEventLogAndReadModel() {
+        // Given
+        Shipment shipment = shipment(ShipmentStatus.CREATED);
+        when(shipmentRepository.findById(1)).thenReturn(Optional.of(shipment));
+        when(shipmentRepository.save(shipment)).thenReturn(shipment);
+
+        // When
+        ShipmentDTO result = shipmentService.changeStatus(1, ShipmentStatusEventDTO.builder()
+                .status(ShipmentStatus.PICKED)
+                .note("picked at dock 3")
+                .build());
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(ShipmentStatus.PICKED);
+        ArgumentCaptor<ShipmentStatusEvent> event = ArgumentCaptor.forClass(ShipmentStatusEvent.class);
+        verify(shipmentStatusEventRepository).save(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(ShipmentStatus.PICKED);
+        assertThat(event.getValue().getNote()).isEqualTo("picked at dock 3");
+        ArgumentCaptor<OrderShipmentStatus> readModel = ArgumentCaptor.forClass(OrderShipmentStatus.class);
+        verify(orderShipmentStatusRepository).save(readModel.capture());
+        assertThat(readModel.getValue().getOrderId()).isEqualTo(7);
+        assertThat(readModel.getValue().getStatus()).isEqualTo(ShipmentStatus.PICKED);
+    }
+
+    @Test
+    void shouldRejectInvalidTransitionWithoutWriting() {
+        // Given
+        when(shipmentRepository.findById(1)).thenReturn(Optional.of(shipment(ShipmentStatus.IN_TRANSIT)));
+
+        // When & Then
+        assertThatThrownBy(() -> shipmentService.changeStatus(1, ShipmentStatusEventDTO.builder()
+                .status(ShipmentStatus.CREATED)
+                .build()))
+                .isInstanceOf(InvalidShipmentTransitionException.class);
+        verify(shipmentRepository, never()).save(any(Shipment.class));
+        verifyNoInteractions(shipmentStatusEventRepository, orderShipmentStatusRepository);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenShipmentNotFound() {
+        // Given
+        when(shipmentRepository.findById(1)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> shipmentService.changeStatus(1, ShipmentStatusEventDTO.builder()
+                .status(ShipmentStatus.PICKED)
+                .build()))
+                .isInstanceOf(ShipmentNotFoundException.class);
+    }
+
+    private static Shipment shipment(final ShipmentStatus status) {
+        return Shipment.builder()
+                .shipmentId(1)
+                .orderId(7)
+                .status(status)
+                .statusChangedAt(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.example.shippingservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntLongHashMapTest {
+
+    @Test
+    void shouldSumValuesPerKey() {
+        // Given
+        IntLongHashMap map = new IntLongHashMap(4);
+
+        // When
+        map.addTo(7, 2);
+        map.addTo(3, 1);
+        map.addTo(7, 5);
+
+        // Then
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(7)).isEqualTo(7L);
+        assertThat(map.get(3)).isEqualTo(1L);
+        assertThat(map.get(42)).isZero();
+    }
+
+    @Test
+    void shouldKeepAllKeysAcrossResizes() {
+        // Given
+        IntLongHashMap map = new IntLongHashMap(4);
+
+        // When
+        for (int productId = 100_000; productId > 0; productId--) {
+            map.addTo(productId, productId % 3);
+            map.addTo(productId, 1);
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(100_000);
+        assertThat(map.get(99_999)).isEqualTo(1L);
+        assertThat(map.get(100_000)).isEqualTo(2L);
+        int[] keys = map.sortedKeys();
+        assertThat(keys).hasSize(100_000);
+        assertThat(keys[0]).isEqualTo(1);
+        assertThat(keys[keys.length - 1]).isEqualTo(100_000);
+    }
+}
@@ -1,7 +1,10 @@
 package com.gfg.userservice.controller;
 
 import com.gfg.userservice.domain.dto.AddressDTO;
+import com.gfg.userservice.domain.dto.RegionSummaryDTO;
+import com.gfg.userservice.response.PageResponse;
 import com.gfg.userservice.response.ResponseCollectionDTO;
+import com.gfg.userservice.service.AddressRegionService;
 import com.gfg.userservice.service.AddressService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -9,6 +12,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,10 +25,12 @@ import org.springframework.web.bind.annotation.*;
 public class AddressController {
 
     private AddressService addressService;
+    private AddressRegionService addressRegionService;
 
     @Autowired
-    public AddressController(AddressService addressService) {
+    public AddressController(AddressService addressService, AddressRegionService addressRegionService) {
         this.addressService = addressService;
+        this.addressRegionService = addressRegionService;
     }
 
     @GetMapping
@@ -31,6 +39,30 @@ public class AddressController {
         return ResponseEntity.ok(new ResponseCollectionDTO<>(this.addressService.findAll()));
     }
 
+    @GetMapping(params = "postalCodePrefix")
+    public ResponseEntity<PageResponse<AddressDTO>> findByPostalCodePrefix(
+            @RequestParam("postalCodePrefix")
+            @NotBlank(message = "Input must not blank") final String postalCodePrefix,
+            @PageableDefault(size = 20, sort = "addressId", direction = Sort.Direction.ASC) final Pageable pageable) {
+        log.info("AddressDTO Page, fetch the addresses by postal code prefix");
+        return ResponseEntity.ok(PageResponse.of(this.addressService.findByPostalCodePrefix(postalCodePrefix.strip(), pageable)));
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<PageResponse<AddressDTO>> findByUserId(
+            @PathVariable("userId") @NotBlank(message = "Input must not blank") final String userId,
+            @PageableDefault(size = 20, sort = "addressId", direction = Sort.Direction.ASC) final Pageable pageable) {
+        log.info("AddressDTO Page, fetch the addresses of a user");
+        return ResponseEntity.ok(PageResponse.of(this.addressService.findByUserId(Integer.parseInt(userId.strip()), pageable)));
+    }
+
+    @GetMapping("/regions")
+    public ResponseEntity<ResponseCollectionDTO<RegionSummaryDTO>> findRegions(
+            @RequestParam(value = "prefixLength", defaultValue = "3") final int prefixLength) {
+        log.info("RegionSummaryDTO List, fetch the address counts per region");
+        return ResponseEntity.ok(new ResponseCollectionDTO<>(this.addressRegionService.findRegions(prefixLength)));
+    }
+
     @GetMapping("/{addressId}")
     public ResponseEntity<AddressDTO> findById(@PathVariable("addressId") @NotBlank(message = "Input is not blank")
                                                @Valid final String addressId) {
@@ -0,0 +1,57 @@
+package com.gfg.userservice.controller;
+
+import com.gfg.userservice.domain.dto.AuthenticationRequest;
+import com.gfg.userservice.domain.dto.AuthenticationResponse;
+import com.gfg.userservice.domain.dto.RefreshTokenRequest;
+import com.gfg.userservice.security.SigningKeyProvider;
+import com.gfg.userservice.service.AuthenticationService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+public class AuthenticationController {
+
+    private final AuthenticationService authenticationService;
+    private final SigningKeyProvider signingKeyProvider;
+
+    @PostMapping("/api/auth/token")
+    public ResponseEntity<AuthenticationResponse> authenticate(
+            @RequestBody
+            @NotNull(message = "Input must not NULL")
+            @Valid final AuthenticationRequest authenticationRequest) {
+        log.info("*** AuthenticationResponse, resource; authenticate user *");
+        return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest));
+    }
+
+    @PostMapping("/api/auth/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @RequestBody
+            @NotNull(message = "Input must not NULL")
+            @Valid final RefreshTokenRequest refreshTokenRequest) {
+        log.info("*** AuthenticationResponse, resource; refresh token pair *");
+        return ResponseEntity.ok(this.authenticationService.refresh(refreshTokenRequest));
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        log.info("*** Jwks, resource; publish signing keys *");
+        return ResponseEntity.ok(this.signingKeyProvider.jwks());
+    }
+
+    @PostMapping("/api/auth/keys/rotate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Boolean> rotateSigningKey() {
+        log.info("*** Boolean, resource; rotate signing key *");
+        this.signingKeyProvider.rotate();
+        return ResponseEntity.ok(true);
+    }
+}
@@ -1,7 +1,9 @@
 package com.gfg.userservice.controller;
 
 import com.gfg.userservice.domain.dto.UserDTO;
+import com.gfg.userservice.domain.dto.UserProfileDTO;
 import com.gfg.userservice.response.ResponseCollectionDTO;
+import com.gfg.userservice.service.UserProfileService;
 import com.gfg.userservice.service.UserService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -10,14 +12,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @Slf4j
 
 @RequestMapping("/api/users")
 public class UserController {
+    private static final int MAX_IDS = 500;
+
     private final UserService userService;
-    public UserController(UserService userService) {
+    private final UserProfileService userProfileService;
+    public UserController(UserService userService, UserProfileService userProfileService) {
         this.userService = userService;
+        this.userProfileService = userProfileService;
     }
 
     @GetMapping
@@ -27,6 +35,17 @@ public class UserController {
 
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResponseCollectionDTO<UserProfileDTO>> findAllByIds(
+            @RequestParam("ids")
+            @NotNull(message = "Input must not null") final List<Integer> userIds) {
+        log.info("UserProfileDto List, controller; fetch user profiles by ids");
+        if (userIds.size() > MAX_IDS) {
+            throw new IllegalArgumentException(String.format("At most %d ids per request", MAX_IDS));
+        }
+        return ResponseEntity.ok(new ResponseCollectionDTO<>(this.userProfileService.findAllByIds(userIds)));
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<UserDTO> findById(@PathVariable("userId")
                                             @NotBlank(message = "Input must not blank")
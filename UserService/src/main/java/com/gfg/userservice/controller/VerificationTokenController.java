@@ -24,6 +24,14 @@ public class VerificationTokenController {
         return ResponseEntity.ok(new ResponseCollectionDTO<>(this.verificationTokenService.findAll()));
     }
 
+    @GetMapping(params = "token")
+    public ResponseEntity<VerificationDTO> findByToken(
+            @RequestParam("token")
+            @NotBlank(message = "Input must not blank") final String token) {
+        log.info("*** VerificationTokenDto, resource; fetch verificationToken by token *");
+        return ResponseEntity.ok(this.verificationTokenService.findByToken(token.strip()));
+    }
+
     @GetMapping("/{verificationTokenId}")
     public ResponseEntity<VerificationDTO> findById(
             @PathVariable("verificationTokenId")
@@ -0,0 +1,25 @@
+package com.gfg.userservice.domain.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuthenticationRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank(message = "Username must not be empty")
+    private String username;
+
+    @NotNull(message = "Password must not be null")
+    private String password;
+}
@@ -0,0 +1,20 @@
+package com.gfg.userservice.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuthenticationResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String jwtToken;
+    private String refreshToken;
+}
@@ -0,0 +1,21 @@
+package com.gfg.userservice.domain.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RefreshTokenRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank(message = "Refresh token must not be empty")
+    private String refreshToken;
+}
@@ -0,0 +1,24 @@
+package com.gfg.userservice.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Address count of one region, a postal-code prefix within a city, for dispatch planning.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RegionSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String postalCodePrefix;
+    private String city;
+    private long addressCount;
+}
@@ -0,0 +1,28 @@
+package com.gfg.userservice.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Public profile of a user as other services need it for enrichment; never carries
+ * credential data.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class UserProfileDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer userId;
+    private String firstName;
+    private String lastName;
+    private String imageUrl;
+    private String email;
+    private String phone;
+}
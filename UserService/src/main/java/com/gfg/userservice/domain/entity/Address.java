@@ -10,7 +10,9 @@ import java.io.Serializable;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "address")
+@Table(name = "address", indexes = {
+        @Index(name = "idx_address_user_id", columnList = "user_id"),
+        @Index(name = "idx_address_postal_code_city", columnList = "postal_code, city")})
 @EqualsAndHashCode(callSuper = true, exclude = {"user"})
 @Builder
 public class Address extends BaseEntity implements Serializable {
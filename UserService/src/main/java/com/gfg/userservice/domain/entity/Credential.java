@@ -10,7 +10,7 @@ import java.io.Serializable;
 import java.util.Set;
 
 @Entity
-@Table(name = "credentials")
+@Table(name = "credentials", uniqueConstraints = @UniqueConstraint(name = "uk_credentials_username", columnNames = "username"))
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true, exclude = {"user", "verificationTokens"})
@@ -25,7 +25,6 @@ public final class Credential extends BaseEntity implements Serializable {
     @Column(name = "credential_id", unique = true, nullable = false, updatable = false)
     private Integer credentialId;
 
-    @Column(unique = true)
     private String username;
 
     private String password;
@@ -0,0 +1,59 @@
+package com.gfg.userservice.domain.entity;
+
+import com.gfg.userservice.domain.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * An email waiting to be sent. Rows are written in the transaction of the request that wants
+ * the mail and picked up by the dispatcher once {@code nextAttemptAt} has passed.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = @Index(name = "idx_email_outbox_status_next_attempt",
+        columnList = "status, next_attempt_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class EmailOutboxMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "email_outbox_id", unique = true, nullable = false, updatable = false)
+    private Long emailOutboxId;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @ToString.Exclude
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+}
@@ -0,0 +1,48 @@
+package com.gfg.userservice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * RSA key pair used to sign JWTs. The newest key without {@code retiredAt} signs new tokens;
+ * retired keys stay published in the JWKS until tokens signed with them have expired.
+ * Each key records the key it replaced; the unique constraint on that column lets only one
+ * of several concurrent rotations commit.
+ */
+@Entity
+@Table(name = "jwt_signing_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_jwt_signing_keys_predecessor_kid", columnNames = "predecessor_kid"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class SigningKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "kid", nullable = false, updatable = false, length = 64)
+    private String kid;
+
+    // X.509 SubjectPublicKeyInfo, base64
+    @Column(name = "public_key", nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    // PKCS#8 encrypted by SigningKeyCipher; emptied once the key is retired
+    @ToString.Exclude
+    @Column(name = "private_key", nullable = false, columnDefinition = "TEXT")
+    private String privateKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "retired_at")
+    private Instant retiredAt;
+
+    @Column(name = "predecessor_kid", updatable = false, length = 64)
+    private String predecessorKid;
+
+}
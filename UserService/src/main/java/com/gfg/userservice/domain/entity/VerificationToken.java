@@ -12,7 +12,9 @@ import java.time.LocalDate;
 
 @Data
 @Entity
-@Table(name = "verification_tokens")
+@Table(name = "verification_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_verification_tokens_verif_token", columnNames = "verif_token"),
+        indexes = @Index(name = "idx_verification_tokens_expire_date", columnList = "expire_date"))
 @EqualsAndHashCode(callSuper = true, exclude = {"credential"})
 @Builder
 @AllArgsConstructor
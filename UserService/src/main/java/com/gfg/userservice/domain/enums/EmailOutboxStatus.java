@@ -0,0 +1,9 @@
+package com.gfg.userservice.domain.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    // claimed by a dispatcher; next_attempt_at holds the lease expiry
+    IN_PROGRESS,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,15 @@
+package com.gfg.userservice.domain.projection;
+
+/**
+ * An address with the profile of its owner, read in a single join for the address list.
+ */
+public interface AddressView extends UserView {
+
+    String SELECT = "a.addressId AS addressId, a.fullAddress AS fullAddress, a.postalCode AS postalCode, " +
+            "a.city AS city, " + UserView.SELECT;
+
+    Integer getAddressId();
+    String getFullAddress();
+    String getPostalCode();
+    String getCity();
+}
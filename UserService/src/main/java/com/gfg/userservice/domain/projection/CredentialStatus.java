@@ -0,0 +1,19 @@
+package com.gfg.userservice.domain.projection;
+
+/**
+ * Account-state flags of a credential, read without loading the entity or its user.
+ */
+public interface CredentialStatus {
+
+    Boolean getIsEnabled();
+    Boolean getIsAccountNonExpired();
+    Boolean getIsAccountNonLocked();
+    Boolean getIsCredentialsNonExpired();
+
+    default boolean isActive() {
+        return Boolean.TRUE.equals(getIsEnabled())
+                && Boolean.TRUE.equals(getIsAccountNonExpired())
+                && Boolean.TRUE.equals(getIsAccountNonLocked())
+                && Boolean.TRUE.equals(getIsCredentialsNonExpired());
+    }
+}
@@ -0,0 +1,14 @@
+package com.gfg.userservice.domain.projection;
+
+import com.gfg.userservice.domain.enums.RoleBasedAuthority;
+
+/**
+ * The columns {@code UserDetails} is built from, selected straight off the username index
+ * without materialising the credential entity or touching its user.
+ */
+public interface CredentialUserDetails extends CredentialStatus {
+
+    String getUsername();
+    String getPassword();
+    RoleBasedAuthority getRoleBasedAuthority();
+}
@@ -0,0 +1,19 @@
+package com.gfg.userservice.domain.projection;
+
+import com.gfg.userservice.domain.enums.RoleBasedAuthority;
+
+/**
+ * Credential columns, selected as {@link #SELECT} from an alias {@code c}.
+ */
+public interface CredentialView extends CredentialStatus {
+
+    String SELECT = "c.credentialId AS credentialId, c.username AS username, c.password AS password, " +
+            "c.roleBasedAuthority AS roleBasedAuthority, c.isEnabled AS isEnabled, " +
+            "c.isAccountNonExpired AS isAccountNonExpired, c.isAccountNonLocked AS isAccountNonLocked, " +
+            "c.isCredentialsNonExpired AS isCredentialsNonExpired";
+
+    Integer getCredentialId();
+    String getUsername();
+    String getPassword();
+    RoleBasedAuthority getRoleBasedAuthority();
+}
@@ -0,0 +1,12 @@
+package com.gfg.userservice.domain.projection;
+
+/**
+ * Number of addresses sharing a postal code and city, as grouped over the
+ * {@code (postal_code, city)} index.
+ */
+public interface PostalCodeCityCount {
+
+    String getPostalCode();
+    String getCity();
+    Long getAddressCount();
+}
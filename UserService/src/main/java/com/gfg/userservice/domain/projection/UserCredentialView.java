@@ -0,0 +1,8 @@
+package com.gfg.userservice.domain.projection;
+
+/**
+ * One row per user/credential pair, read in a single join for the user and credential lists.
+ */
+public interface UserCredentialView extends UserView, CredentialView {
+
+}
@@ -0,0 +1,17 @@
+package com.gfg.userservice.domain.projection;
+
+/**
+ * Profile columns of a user, selected as {@link #SELECT} from an alias {@code u}.
+ */
+public interface UserView {
+
+    String SELECT = "u.userId AS userId, u.firstName AS firstName, u.lastName AS lastName, " +
+            "u.imageUrl AS imageUrl, u.email AS email, u.phone AS phone";
+
+    Integer getUserId();
+    String getFirstName();
+    String getLastName();
+    String getImageUrl();
+    String getEmail();
+    String getPhone();
+}
@@ -0,0 +1,16 @@
+package com.gfg.userservice.domain.projection;
+
+import java.time.LocalDate;
+
+/**
+ * A verification token with its credential, read in a single join for the token list.
+ */
+public interface VerificationTokenView extends CredentialView {
+
+    String SELECT = "v.verificationTokenId AS verificationTokenId, v.token AS token, " +
+            "v.expireDate AS expireDate, " + CredentialView.SELECT;
+
+    Integer getVerificationTokenId();
+    String getToken();
+    LocalDate getExpireDate();
+}
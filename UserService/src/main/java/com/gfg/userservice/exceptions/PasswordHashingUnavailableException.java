@@ -0,0 +1,20 @@
+package com.gfg.userservice.exceptions;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Raised when the password-hashing pool is saturated or too slow, so the caller can be
+ * told to retry instead of tying up a request thread.
+ */
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+}
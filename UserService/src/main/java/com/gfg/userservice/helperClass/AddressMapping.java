@@ -5,6 +5,7 @@ import com.gfg.userservice.domain.entity.Address;
 import com.gfg.userservice.domain.entity.User;
 import com.gfg.userservice.domain.dto.AddressDTO;
 import com.gfg.userservice.domain.dto.UserDTO;
+import com.gfg.userservice.domain.projection.AddressView;
 
 public interface AddressMapping {
     public static AddressDTO map(final Address address) {
@@ -26,6 +27,24 @@ public interface AddressMapping {
 
 
     }
+    public static AddressDTO map(final AddressView view) {
+        return AddressDTO.builder()
+                .addressId(view.getAddressId())
+                .fullAddress(view.getFullAddress())
+                .postalCode(view.getPostalCode())
+                .city(view.getCity())
+                .userDto(
+                        UserDTO.builder()
+                                .userId(view.getUserId())
+                                .firstName(view.getFirstName())
+                                .lastName(view.getLastName())
+                                .imageUrl(view.getImageUrl())
+                                .email(view.getEmail())
+                                .phone(view.getPhone())
+                                .build())
+                .build();
+    }
+
     public static Address map(final AddressDTO addressDto) {
         return Address.builder()
                 .addressId(addressDto.getAddressId())
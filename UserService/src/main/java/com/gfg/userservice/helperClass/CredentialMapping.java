@@ -5,6 +5,7 @@ import com.gfg.userservice.domain.entity.Credential;
 import com.gfg.userservice.domain.entity.User;
 import com.gfg.userservice.domain.dto.CredentialDTO;
 import com.gfg.userservice.domain.dto.UserDTO;
+import com.gfg.userservice.domain.projection.UserCredentialView;
 
 public interface CredentialMapping {
 
@@ -30,6 +31,28 @@ public interface CredentialMapping {
                 .build();
     }
 
+    public static CredentialDTO map(final UserCredentialView view) {
+        return CredentialDTO.builder()
+                .credentialId(view.getCredentialId())
+                .username(view.getUsername())
+                .password(view.getPassword())
+                .roleBasedAuthority(view.getRoleBasedAuthority())
+                .isEnabled(view.getIsEnabled())
+                .isAccountNonExpired(view.getIsAccountNonExpired())
+                .isAccountNonLocked(view.getIsAccountNonLocked())
+                .isCredentialNonExpired(view.getIsCredentialsNonExpired())
+                .userDTO(view.getUserId() == null ? null :
+                        UserDTO.builder()
+                                .userId(view.getUserId())
+                                .firstName(view.getFirstName())
+                                .lastName(view.getLastName())
+                                .imageUrl(view.getImageUrl())
+                                .email(view.getEmail())
+                                .phone(view.getPhone())
+                                .build())
+                .build();
+    }
+
     public static Credential map(final CredentialDTO credentialDto) {
         return Credential.builder()
                 .credentialId(credentialDto.getCredentialId())
@@ -5,6 +5,7 @@ import com.gfg.userservice.domain.entity.Credential;
 import com.gfg.userservice.domain.entity.User;
 import com.gfg.userservice.domain.dto.CredentialDTO;
 import com.gfg.userservice.domain.dto.UserDTO;
+import com.gfg.userservice.domain.projection.UserCredentialView;
 
 public interface UserMapping {
 
@@ -30,6 +31,28 @@ public interface UserMapping {
                 .build();
     }
 
+    static UserDTO map(final UserCredentialView view) {
+        return UserDTO.builder()
+                .userId(view.getUserId())
+                .firstName(view.getFirstName())
+                .lastName(view.getLastName())
+                .imageUrl(view.getImageUrl())
+                .email(view.getEmail())
+                .phone(view.getPhone())
+                .credentialDTO(view.getCredentialId() == null ? null :
+                        CredentialDTO.builder()
+                                .credentialId(view.getCredentialId())
+                                .username(view.getUsername())
+                                .password(view.getPassword())
+                                .roleBasedAuthority(view.getRoleBasedAuthority())
+                                .isEnabled(view.getIsEnabled())
+                                .isAccountNonExpired(view.getIsAccountNonExpired())
+                                .isAccountNonLocked(view.getIsAccountNonLocked())
+                                .isCredentialNonExpired(view.getIsCredentialsNonExpired())
+                                .build())
+                .build();
+    }
+
     public static User map(final UserDTO userDto) {
         // Map UserDTO to User entity
         User user = User.builder()
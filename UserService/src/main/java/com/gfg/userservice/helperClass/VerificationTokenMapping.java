@@ -4,6 +4,7 @@ import com.gfg.userservice.domain.entity.Credential;
 import com.gfg.userservice.domain.entity.VerificationToken;
 import com.gfg.userservice.domain.dto.CredentialDTO;
 import com.gfg.userservice.domain.dto.VerificationDTO;
+import com.gfg.userservice.domain.projection.VerificationTokenView;
 
 public interface VerificationTokenMapping {
     public static VerificationDTO map(final VerificationToken verificationToken) {
@@ -25,6 +26,25 @@ public interface VerificationTokenMapping {
                 .build();
     }
 
+    public static VerificationDTO map(final VerificationTokenView view) {
+        return VerificationDTO.builder()
+                .verificationTokenId(view.getVerificationTokenId())
+                .token(view.getToken())
+                .expireDate(view.getExpireDate())
+                .credentialDTO(
+                        CredentialDTO.builder()
+                                .credentialId(view.getCredentialId())
+                                .username(view.getUsername())
+                                .password(view.getPassword())
+                                .roleBasedAuthority(view.getRoleBasedAuthority())
+                                .isEnabled(view.getIsEnabled())
+                                .isAccountNonExpired(view.getIsAccountNonExpired())
+                                .isAccountNonLocked(view.getIsAccountNonLocked())
+                                .isCredentialNonExpired(view.getIsCredentialsNonExpired())
+                                .build())
+                .build();
+    }
+
     public static VerificationToken map(final VerificationDTO verificationTokenDto) {
         return VerificationToken.builder()
                 .verificationTokenId(verificationTokenDto.getVerificationTokenId())
@@ -1,10 +1,41 @@
 package com.gfg.userservice.repository;
 
 import com.gfg.userservice.domain.entity.Address;
+import com.gfg.userservice.domain.projection.AddressView;
+import com.gfg.userservice.domain.projection.PostalCodeCityCount;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface AddressRepository extends JpaRepository<Address,Integer> {
 
+    @Query("SELECT " + AddressView.SELECT + " FROM Address a JOIN a.user u")
+    List<AddressView> findAllWithUser();
+
+    @Query(value = "SELECT " + AddressView.SELECT + " FROM Address a JOIN a.user u WHERE u.userId = :userId",
+            countQuery = "SELECT COUNT(a) FROM Address a WHERE a.user.userId = :userId")
+    Page<AddressView> findByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * Range scan on the {@code postal_code} index; {@code prefix} must not contain LIKE wildcards.
+     */
+    @Query(value = "SELECT " + AddressView.SELECT + " FROM Address a JOIN a.user u " +
+            "WHERE a.postalCode LIKE CONCAT(:prefix, '%')",
+            countQuery = "SELECT COUNT(a) FROM Address a WHERE a.postalCode LIKE CONCAT(:prefix, '%')")
+    Page<AddressView> findByPostalCodePrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /**
+     * Read-only so that background refreshes of the region cache also run on the replica.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT a.postalCode AS postalCode, a.city AS city, COUNT(a) AS addressCount FROM Address a " +
+            "WHERE a.postalCode IS NOT NULL GROUP BY a.postalCode, a.city")
+    List<PostalCodeCityCount> countByPostalCodeAndCity();
 }
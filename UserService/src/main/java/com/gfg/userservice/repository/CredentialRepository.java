@@ -1,13 +1,31 @@
 package com.gfg.userservice.repository;
 
 import com.gfg.userservice.domain.entity.Credential;
+import com.gfg.userservice.domain.projection.CredentialStatus;
+import com.gfg.userservice.domain.projection.CredentialUserDetails;
+import com.gfg.userservice.domain.projection.CredentialView;
+import com.gfg.userservice.domain.projection.UserCredentialView;
+import com.gfg.userservice.domain.projection.UserView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CredentialRepository extends JpaRepository<Credential,Integer> {
     Optional<Credential> findByUsername(final String username);
+    Optional<CredentialStatus> findStatusByUsername(final String username);
+    Optional<CredentialUserDetails> findUserDetailsByUsername(final String username);
+
+    @Query("SELECT " + CredentialView.SELECT + ", " + UserView.SELECT + " FROM Credential c LEFT JOIN c.user u")
+    List<UserCredentialView> findAllWithUser();
+
+    @Modifying
+    @Query("UPDATE Credential c SET c.password = :password WHERE c.username = :username")
+    int updatePassword(@Param("username") final String username, @Param("password") final String password);
 
 }
@@ -0,0 +1,33 @@
+package com.gfg.userservice.repository;
+
+import com.gfg.userservice.domain.entity.EmailOutboxMessage;
+import com.gfg.userservice.domain.enums.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Locks the next due messages, skipping rows another instance has already locked
+     * ({@code lock.timeout = -2} is Hibernate's SKIP LOCKED), so dispatchers never claim
+     * the same row twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<EmailOutboxMessage> findByStatusInAndNextAttemptAtLessThanEqualOrderByEmailOutboxIdAsc(
+            final Collection<EmailOutboxStatus> statuses, final Instant now, final Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<EmailOutboxMessage> findByEmailOutboxIdIn(final Collection<Long> ids);
+
+}
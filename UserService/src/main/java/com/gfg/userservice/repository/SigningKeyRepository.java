@@ -0,0 +1,25 @@
+package com.gfg.userservice.repository;
+
+import com.gfg.userservice.domain.entity.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    @Query("SELECT k FROM SigningKey k WHERE k.retiredAt IS NULL OR k.retiredAt > :publishedSince ORDER BY k.createdAt DESC")
+    List<SigningKey> findPublished(final Instant publishedSince);
+
+    List<SigningKey> findByRetiredAtIsNullOrderByCreatedAtDesc();
+
+    // retired keys only verify, so their private halves are not kept
+    @Modifying
+    @Query("UPDATE SigningKey k SET k.privateKey = '' WHERE k.retiredAt IS NOT NULL AND k.privateKey <> ''")
+    int clearRetiredPrivateKeys();
+
+}
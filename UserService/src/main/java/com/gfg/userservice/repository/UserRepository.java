@@ -1,13 +1,26 @@
 package com.gfg.userservice.repository;
 
 import com.gfg.userservice.domain.entity.User;
+import com.gfg.userservice.domain.projection.CredentialView;
+import com.gfg.userservice.domain.projection.UserCredentialView;
+import com.gfg.userservice.domain.projection.UserView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Integer> {
+    @EntityGraph(attributePaths = "credential")
     Optional<User> findByCredentialUsername(final String username);
+
+    @Query("SELECT " + UserView.SELECT + ", " + CredentialView.SELECT + " FROM User u LEFT JOIN u.credential c")
+    List<UserCredentialView> findAllWithCredential();
+
+    List<UserView> findByUserIdIn(final Collection<? extends Integer> userIds);
 }
@@ -1,9 +1,38 @@
 package com.gfg.userservice.repository;
 
 import com.gfg.userservice.domain.entity.VerificationToken;
+import com.gfg.userservice.domain.projection.VerificationTokenView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken,Integer> {
+
+    @Query("SELECT " + VerificationTokenView.SELECT + " FROM VerificationToken v JOIN v.credential c")
+    List<VerificationTokenView> findAllWithCredential();
+
+    /**
+     * Unique-index lookup on {@code verif_token}.
+     */
+    Optional<VerificationToken> findByToken(String token);
+
+    /**
+     * Ids of tokens that expired before {@code today}, oldest first; reads only the
+     * {@code expire_date} index so the sweeper never loads the entities.
+     */
+    @Query("SELECT v.verificationTokenId FROM VerificationToken v WHERE v.expireDate < :today ORDER BY v.expireDate")
+    List<Integer> findExpiredIds(@Param("today") LocalDate today, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM VerificationToken v WHERE v.verificationTokenId IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Integer> ids);
 }
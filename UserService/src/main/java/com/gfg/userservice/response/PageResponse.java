@@ -0,0 +1,32 @@
+package com.gfg.userservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class PageResponse<T> {
+
+    private Collection<T> collection;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <T> PageResponse<T> of(final Page<T> page) {
+        return PageResponse.<T>builder()
+                .collection(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
@@ -2,7 +2,7 @@ package com.gfg.userservice.security;
 
 
 
-import com.gfg.userservice.service.serviceImpl.CustomUserDetailsService;
+import com.gfg.userservice.service.CredentialStatusService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,46 +11,50 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 
 import java.io.IOException;
 
-@Component
+/**
+ * Authenticates a request from its access token alone: the signature is checked once and the
+ * principal is built from the roles and account flags in the claims, so no credential row is
+ * loaded per request. The cached {@link CredentialStatusService} check lets a disabled or
+ * locked account be cut off before its access token expires.
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final CredentialStatusService credentialStatusService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, CredentialStatusService credentialStatusService) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.credentialStatusService = credentialStatusService;
     }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            jwtUtil.extractValidClaims(authorizationHeader.substring(7))
+                    .flatMap(jwtUtil::extractUserDetails)
+                    .filter(JwtAuthenticationFilter::isUsable)
+                    .filter(userDetails -> credentialStatusService.isActive(userDetails.getUsername()))
+                    .ifPresent(userDetails -> {
+                        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    });
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static boolean isUsable(final UserDetails userDetails) {
+        return userDetails.isEnabled() && userDetails.isAccountNonLocked()
+                && userDetails.isAccountNonExpired() && userDetails.isCredentialsNonExpired();
+    }
 }
@@ -1,9 +1,18 @@
 package com.gfg.userservice.security;
 
 
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
 public interface JwtUtil {
     String generateToken(String subject);
+    String generateToken(String subject, Map<String, Object> claims, Duration ttl);
     String extractUsername(String token);
+    Optional<Claims> extractValidClaims(String token);
+    Optional<UserDetails> extractUserDetails(Claims claims);
     boolean validateToken(String token, String username);
 }
-
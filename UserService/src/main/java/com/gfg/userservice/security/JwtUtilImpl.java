@@ -2,60 +2,121 @@ package com.gfg.userservice.security;
 
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+/**
+ * RS256 tokens signed with the active key of {@link SigningKeyProvider}; the key id travels in
+ * the {@code kid} header so that verifiers can pick the matching public key from the JWKS.
+ */
 @Service
 public class JwtUtilImpl implements JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final SigningKeyProvider signingKeyProvider;
+    private final long expiration;
+    private final JwtParser parser;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    public JwtUtilImpl(final SigningKeyProvider signingKeyProvider,
+                       @Value("${jwt.expiration}") final long expiration) {
+        this.signingKeyProvider = signingKeyProvider;
+        this.expiration = expiration;
+        this.parser = Jwts.parser()
+                .keyLocator(this::locateKey)
+                .build();
+    }
 
     @Override
     public String generateToken(String subject) {
+        return generateToken(subject, Map.of(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.VERIFICATION_TOKEN),
+                Duration.ofMillis(expiration));
+    }
+
+    @Override
+    public String generateToken(final String subject, final Map<String, Object> claims, final Duration ttl) {
+        final SigningKeyProvider.ActiveKey key = signingKeyProvider.activeKey();
+        final long now = System.currentTimeMillis();
         return Jwts.builder()
-                .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SignatureAlgorithm.HS512, secret)
+                .header().keyId(key.getKid()).and()
+                .claims(claims)
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttl.toMillis()))
+                .signWith(key.getPrivateKey(), Jwts.SIG.RS256)
                 .compact();
     }
 
     @Override
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return extractValidClaims(token).map(Claims::getSubject).orElse(null);
     }
 
     @Override
-    public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+    public Optional<Claims> extractValidClaims(final String token) {
+        try {
+            return Optional.of(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Builds the principal of an access token from its signed claims; any other token type
+     * (refresh, verification) yields empty so it cannot be used to call the API.
+     */
+    @Override
+    public Optional<UserDetails> extractUserDetails(final Claims claims) {
+        if (!JwtClaimNames.ACCESS_TOKEN.equals(claims.get(JwtClaimNames.TOKEN_TYPE))
+                || !(claims.get(JwtClaimNames.ROLES) instanceof List<?> roles)) {
+            return Optional.empty();
+        }
+        return Optional.of(new User(claims.getSubject(), "",
+                flag(claims, JwtClaimNames.ENABLED),
+                flag(claims, JwtClaimNames.ACCOUNT_NON_EXPIRED),
+                flag(claims, JwtClaimNames.CREDENTIALS_NON_EXPIRED),
+                flag(claims, JwtClaimNames.ACCOUNT_NON_LOCKED),
+                roles.stream()
+                        .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                        .collect(Collectors.toList())));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static boolean flag(final Claims claims, final String name) {
+        return Boolean.TRUE.equals(claims.get(name, Boolean.class));
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    @Override
+    public boolean validateToken(String token, String username) {
+        return extractValidClaims(token)
+                .map(claims -> claims.getSubject().equals(username))
+                .orElse(false);
     }
 
     private Claims extractAllClaims(String token) {
-        //return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
-        return null;
+        return parser.parseSignedClaims(token).getPayload();
     }
-}
 
+    private Key locateKey(final Header header) {
+        final String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            throw new UnsupportedJwtException("Token has no key id");
+        }
+        return signingKeyProvider.findPublicKey(kid)
+                .orElseThrow(() -> new UnsupportedJwtException("Unknown signing key: " + kid));
+    }
+}
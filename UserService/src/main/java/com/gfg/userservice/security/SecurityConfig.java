@@ -2,6 +2,8 @@ package com.gfg.userservice.security;
 
 
 
+import com.gfg.userservice.service.CredentialStatusService;
+import com.gfg.userservice.service.PasswordHashingService;
 import com.gfg.userservice.service.serviceImpl.CustomUserDetailsService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,8 +13,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -23,10 +23,16 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final CredentialStatusService credentialStatusService;
+    private final PasswordHashingService passwordHashingService;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil,
+                          CredentialStatusService credentialStatusService,
+                          PasswordHashingService passwordHashingService) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.credentialStatusService = credentialStatusService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @Bean
@@ -34,6 +40,7 @@ public class SecurityConfig {
         http.csrf().disable()
                 .authorizeRequests()
                 .requestMatchers("/api/users/activate-account", "/api/users/forgot-password", "/api/users/reset-password").permitAll()
+                .requestMatchers("/api/auth/token", "/api/auth/refresh", "/.well-known/jwks.json").permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
@@ -42,23 +49,19 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManagerBean(HttpSecurity http) throws Exception {
         return http.getSharedObject(AuthenticationManagerBuilder.class)
                 .userDetailsService(userDetailsService)
-                .passwordEncoder(passwordEncoder())
+                .passwordEncoder(passwordHashingService)
+                .userDetailsPasswordManager(userDetailsService)
                 .and()
                 .build();
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthenticationFilter(jwtUtil, credentialStatusService);
     }
 }
 
@@ -0,0 +1,82 @@
+package com.gfg.userservice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Encrypts signing private keys before they are written to {@code jwt_signing_keys}, with
+ * AES-256-GCM under a key-encryption key that never touches the database. The KEK comes from
+ * {@code jwt.signing.kek} (base64, 32 bytes), normally supplied through the
+ * {@code JWT_SIGNING_KEK} environment variable, and must be the same on every instance.
+ * The key id is bound as associated data, so a ciphertext cannot be moved to another row.
+ */
+@Component
+public class SigningKeyCipher {
+
+    private static final String PREFIX = "v1:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey kek;
+    private final SecureRandom random = new SecureRandom();
+
+    public SigningKeyCipher(@Value("${jwt.signing.kek:}") final String kek) {
+        if (kek == null || kek.isBlank()) {
+            throw new IllegalStateException("jwt.signing.kek is not set; provide a base64 256-bit key (JWT_SIGNING_KEK)");
+        }
+        final byte[] bytes = Base64.getDecoder().decode(kek.trim());
+        if (bytes.length != 32) {
+            throw new IllegalStateException("jwt.signing.kek must decode to 32 bytes");
+        }
+        this.kek = new SecretKeySpec(bytes, "AES");
+    }
+
+    public String encrypt(final String kid, final byte[] plaintext) {
+        try {
+            final byte[] iv = new byte[IV_LENGTH];
+            this.random.nextBytes(iv);
+            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, this.kek, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            final byte[] ciphertext = cipher.doFinal(plaintext);
+            return PREFIX + Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + ciphertext.length)
+                    .put(iv)
+                    .put(ciphertext)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public byte[] decrypt(final String kid, final String stored) {
+        if (!isEncrypted(stored)) {
+            // written before encryption was introduced: plain base64
+            return Base64.getDecoder().decode(stored);
+        }
+        try {
+            final byte[] data = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, this.kek, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            return cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt signing key " + kid, e);
+        }
+    }
+
+    public boolean isEncrypted(final String stored) {
+        return stored.startsWith(PREFIX);
+    }
+
+}
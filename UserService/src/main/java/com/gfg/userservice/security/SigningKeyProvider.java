@@ -0,0 +1,23 @@
+package com.gfg.userservice.security;
+
+import lombok.Value;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.Optional;
+
+public interface SigningKeyProvider {
+
+    ActiveKey activeKey();
+    Optional<PublicKey> findPublicKey(final String kid);
+    Map<String, Object> jwks();
+    void rotate();
+
+    @Value
+    class ActiveKey {
+        String kid;
+        PrivateKey privateKey;
+    }
+
+}
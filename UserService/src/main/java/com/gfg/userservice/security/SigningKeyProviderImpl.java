@@ -0,0 +1,228 @@
+package com.gfg.userservice.security;
+
+import com.gfg.userservice.domain.entity.SigningKey;
+import com.gfg.userservice.repository.SigningKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * RSA signing keys shared by all UserService instances through {@code jwt_signing_keys}.
+ * Each instance keeps an in-memory key ring that it reloads on a fixed delay, so a rotation
+ * done by any instance (scheduled or via the admin endpoint) is picked up without a redeploy.
+ * Retired keys stay in the published JWKS for {@code jwt.signing.retention}, which must
+ * exceed the longest token lifetime.
+ * <p>
+ * Private keys are stored encrypted by {@link SigningKeyCipher} and cleared once retired. A
+ * rotation records the key it replaces in a unique column, so when several instances rotate
+ * at the same time exactly one new key commits and the others reload it.
+ */
+@Service
+@Slf4j
+public class SigningKeyProviderImpl implements SigningKeyProvider {
+
+    private static final String ALGORITHM = "RSA";
+    private static final int KEY_SIZE = 2048;
+    private static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(10);
+    // predecessor of the very first key
+    private static final String NO_PREDECESSOR = "-";
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final SigningKeyCipher signingKeyCipher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration rotationPeriod;
+    private final Duration retention;
+
+    private volatile KeyRing keyRing;
+    private volatile Instant lastReload = Instant.EPOCH;
+
+    public SigningKeyProviderImpl(final SigningKeyRepository signingKeyRepository,
+                                  final SigningKeyCipher signingKeyCipher,
+                                  final PlatformTransactionManager transactionManager,
+                                  @Value("${jwt.signing.rotation-period:30d}") final Duration rotationPeriod,
+                                  @Value("${jwt.signing.retention:8d}") final Duration retention) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.signingKeyCipher = signingKeyCipher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rotationPeriod = rotationPeriod;
+        this.retention = retention;
+    }
+
+    @Override
+    public ActiveKey activeKey() {
+        return this.keyRing().active;
+    }
+
+    @Override
+    public Optional<PublicKey> findPublicKey(final String kid) {
+        KeyRing ring = this.keyRing();
+        if (!ring.publicKeys.containsKey(kid) && this.lastReload.isBefore(Instant.now().minus(MIN_RELOAD_INTERVAL))) {
+            // a sibling instance may have rotated since our last reload; rate-limited against unknown kids
+            this.reload();
+            ring = this.keyRing;
+        }
+        return Optional.ofNullable(ring.publicKeys.get(kid));
+    }
+
+    @Override
+    public Map<String, Object> jwks() {
+        return Map.of("keys", this.keyRing().publicKeys.entrySet()
+                .stream()
+                .map(e -> toJwk(e.getKey(), e.getValue()))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void rotate() {
+        this.rotate(false);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        this.lastReload = Instant.now();
+        final List<SigningKey> published = this.transactionTemplate.execute(status ->
+                this.signingKeyRepository.findPublished(Instant.now().minus(this.retention)));
+        final SigningKey active = published.stream()
+                .filter(key -> key.getRetiredAt() == null)
+                .findFirst()
+                .orElse(null);
+        if (active == null || !this.signingKeyCipher.isEncrypted(active.getPrivateKey())) {
+            // no key yet, or one stored in plaintext before encryption: replace it
+            this.rotate(false);
+            return;
+        }
+        final Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        published.forEach(key -> publicKeys.put(key.getKid(), decodePublicKey(key.getPublicKey())));
+        this.keyRing = new KeyRing(new ActiveKey(active.getKid(),
+                decodePrivateKey(this.signingKeyCipher.decrypt(active.getKid(), active.getPrivateKey()))),
+                active.getCreatedAt(), publicKeys);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-check-interval-ms:3600000}")
+    public void rotateIfDue() {
+        if (this.keyRing().activeSince.isBefore(Instant.now().minus(this.rotationPeriod))) {
+            this.rotate(true);
+        }
+    }
+
+    private synchronized void rotate(final boolean onlyIfDue) {
+        log.info("*** Void, service; rotate jwt signing key *");
+        final KeyPair keyPair = generateKeyPair();
+        final String kid = UUID.randomUUID().toString();
+        final Instant now = Instant.now();
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                final List<SigningKey> active = this.signingKeyRepository.findByRetiredAtIsNullOrderByCreatedAtDesc();
+                final SigningKey current = active.isEmpty() ? null : active.get(0);
+                if (onlyIfDue && current != null && !current.getCreatedAt().isBefore(now.minus(this.rotationPeriod))) {
+                    // another instance rotated since our last reload
+                    return;
+                }
+                active.forEach(key -> key.setRetiredAt(now));
+                this.signingKeyRepository.saveAndFlush(SigningKey.builder()
+                        .kid(kid)
+                        .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                        .privateKey(this.signingKeyCipher.encrypt(kid, keyPair.getPrivate().getEncoded()))
+                        .createdAt(now)
+                        .predecessorKid(current == null ? NO_PREDECESSOR : current.getKid())
+                        .build());
+                this.signingKeyRepository.clearRetiredPrivateKeys();
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("*** Void, service; signing key already rotated by another instance *");
+        }
+        this.reload();
+    }
+
+    private KeyRing keyRing() {
+        if (this.keyRing == null) {
+            this.reload();
+        }
+        return this.keyRing;
+    }
+
+    private static Map<String, Object> toJwk(final String kid, final PublicKey publicKey) {
+        final RSAPublicKey rsa = (RSAPublicKey) publicKey;
+        final Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", ALGORITHM);
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", "RS256");
+        jwk.put("n", base64Url(rsa.getModulus()));
+        jwk.put("e", base64Url(rsa.getPublicExponent()));
+        return jwk;
+    }
+
+    private static String base64Url(final BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance(ALGORITHM);
+            generator.initialize(KEY_SIZE);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PublicKey decodePublicKey(final String encoded) {
+        try {
+            return KeyFactory.getInstance(ALGORITHM).generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(final byte[] encoded) {
+        try {
+            return KeyFactory.getInstance(ALGORITHM).generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class KeyRing {
+
+        private final ActiveKey active;
+        private final Instant activeSince;
+        private final Map<String, PublicKey> publicKeys;
+
+        private KeyRing(final ActiveKey active, final Instant activeSince, final Map<String, PublicKey> publicKeys) {
+            this.active = active;
+            this.activeSince = activeSince;
+            this.publicKeys = publicKeys;
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.RegionSummaryDTO;
+
+import java.util.List;
+
+public interface AddressRegionService {
+
+    /**
+     * Address counts grouped by the first {@code prefixLength} characters of the postal code
+     * and by city, largest regions first.
+     */
+    List<RegionSummaryDTO> findRegions(final int prefixLength);
+
+}
@@ -1,12 +1,16 @@
 package com.gfg.userservice.service;
 
 import com.gfg.userservice.domain.dto.AddressDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface AddressService {
     List<AddressDTO> findAll();
     AddressDTO findById(final Integer addressId);
+    Page<AddressDTO> findByUserId(final Integer userId, final Pageable pageable);
+    Page<AddressDTO> findByPostalCodePrefix(final String postalCodePrefix, final Pageable pageable);
     AddressDTO save(final AddressDTO addressDto);
     AddressDTO update(final AddressDTO addressDto);
     AddressDTO update(final Integer addressId, final AddressDTO addressDto);
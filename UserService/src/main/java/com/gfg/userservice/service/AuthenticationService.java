@@ -0,0 +1,11 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.AuthenticationRequest;
+import com.gfg.userservice.domain.dto.AuthenticationResponse;
+import com.gfg.userservice.domain.dto.RefreshTokenRequest;
+
+public interface AuthenticationService {
+
+    AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest);
+    AuthenticationResponse refresh(final RefreshTokenRequest refreshTokenRequest);
+}
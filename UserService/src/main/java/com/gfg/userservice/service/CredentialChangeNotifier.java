@@ -0,0 +1,7 @@
+package com.gfg.userservice.service;
+
+public interface CredentialChangeNotifier {
+
+    void credentialChanged(final String username);
+
+}
@@ -0,0 +1,8 @@
+package com.gfg.userservice.service;
+
+public interface CredentialStatusService {
+
+    boolean isActive(final String username);
+    void evict(final String username);
+
+}
@@ -0,0 +1,10 @@
+package com.gfg.userservice.service;
+
+public interface EmailDispatcher {
+
+    /**
+     * Sends one batch of due outbox messages and returns how many were taken.
+     */
+    int dispatchBatch();
+
+}
@@ -1,6 +1,11 @@
 package com.gfg.userservice.service;
 
 public interface EmailService {
+
+    /**
+     * Queues the message in the email outbox; it is sent by the background dispatcher after
+     * the current transaction commits.
+     */
     void sendSimpleMessage(String to, String subject, String text);
 }
 
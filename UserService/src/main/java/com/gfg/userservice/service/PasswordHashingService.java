@@ -0,0 +1,11 @@
+package com.gfg.userservice.service;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * The single place passwords are hashed and checked. Used as the {@code PasswordEncoder} of
+ * the authentication manager, so a cost or algorithm change also drives re-hashing on login.
+ */
+public interface PasswordHashingService extends PasswordEncoder {
+
+}
@@ -0,0 +1,13 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.UserProfileDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserProfileService {
+
+    List<UserProfileDTO> findAllByIds(final Collection<Integer> userIds);
+    void evict(final Integer userId);
+
+}
@@ -8,6 +8,7 @@ public interface VerificationTokenService {
 
     List<VerificationDTO> findAll();
     VerificationDTO findById(final Integer verificationTokenId);
+    VerificationDTO findByToken(final String token);
     VerificationDTO save(final VerificationDTO verificationTokenDto);
     VerificationDTO update(final VerificationDTO verificationTokenDto);
     VerificationDTO update(final Integer verificationTokenId, final VerificationDTO verificationTokenDto);
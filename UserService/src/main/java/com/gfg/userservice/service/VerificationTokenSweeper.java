@@ -0,0 +1,10 @@
+package com.gfg.userservice.service;
+
+public interface VerificationTokenSweeper {
+
+    /**
+     * Deletes one chunk of expired verification tokens and returns how many were removed.
+     */
+    int sweepBatch();
+
+}
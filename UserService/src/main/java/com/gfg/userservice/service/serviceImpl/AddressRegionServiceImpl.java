@@ -0,0 +1,85 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gfg.userservice.domain.dto.RegionSummaryDTO;
+import com.gfg.userservice.domain.projection.PostalCodeCityCount;
+import com.gfg.userservice.repository.AddressRepository;
+import com.gfg.userservice.service.AddressRegionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Region aggregates for shipping's dispatch planning. The database groups addresses by
+ * postal code and city over the {@code (postal_code, city)} index; the rows are rolled up to the
+ * requested prefix here and cached per prefix length. Entries are refreshed in the background
+ * after {@code address-region-cache.refresh}, so callers never wait on the aggregation once a
+ * length has been asked for, and see counts at most that old.
+ */
+@Service
+@Slf4j
+public class AddressRegionServiceImpl implements AddressRegionService {
+
+    static final int MAX_PREFIX_LENGTH = 10;
+
+    private final AddressRepository addressRepository;
+    private final LoadingCache<Integer, List<RegionSummaryDTO>> cache;
+
+    public AddressRegionServiceImpl(final AddressRepository addressRepository,
+                                    final MeterRegistry meterRegistry,
+                                    @Value("${address-region-cache.refresh:5m}") final Duration refresh,
+                                    @Value("${address-region-cache.ttl:1h}") final Duration ttl) {
+        this.addressRepository = addressRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_PREFIX_LENGTH)
+                .refreshAfterWrite(refresh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::aggregate);
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "addressRegions");
+    }
+
+    @Override
+    public List<RegionSummaryDTO> findRegions(final int prefixLength) {
+        log.info("*** RegionSummaryDto List, service; fetch regions by postal code prefix length *");
+        if (prefixLength < 1 || prefixLength > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException(String.format("Prefix length must be between 1 and %d", MAX_PREFIX_LENGTH));
+        }
+        return this.cache.get(prefixLength);
+    }
+
+    private List<RegionSummaryDTO> aggregate(final Integer prefixLength) {
+        log.info("*** RegionSummaryDto List, service; aggregate regions for prefix length {} *", prefixLength);
+        final Map<RegionKey, Long> counts = new HashMap<>();
+        for (final PostalCodeCityCount row : this.addressRepository.countByPostalCodeAndCity()) {
+            final String postalCode = row.getPostalCode().strip();
+            final String prefix = postalCode.length() <= prefixLength ? postalCode : postalCode.substring(0, prefixLength);
+            counts.merge(new RegionKey(prefix, row.getCity()), row.getAddressCount(), Long::sum);
+        }
+        return counts.entrySet()
+                .stream()
+                .map(entry -> RegionSummaryDTO.builder()
+                        .postalCodePrefix(entry.getKey().postalCodePrefix())
+                        .city(entry.getKey().city())
+                        .addressCount(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(RegionSummaryDTO::getAddressCount).reversed()
+                        .thenComparing(RegionSummaryDTO::getPostalCodePrefix)
+                        .thenComparing(RegionSummaryDTO::getCity, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private record RegionKey(String postalCodePrefix, String city) {
+    }
+
+}
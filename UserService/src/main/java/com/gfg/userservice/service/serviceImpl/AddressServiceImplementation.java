@@ -5,11 +5,13 @@ import com.gfg.userservice.exceptions.AddressNotFoundException;
 import com.gfg.userservice.helperClass.AddressMapping;
 import com.gfg.userservice.repository.AddressRepository;
 import com.gfg.userservice.service.AddressService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,18 +21,22 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor
 public class AddressServiceImplementation implements AddressService {
+    private static final String POSTAL_CODE_PREFIX_PATTERN = "[A-Za-z0-9 -]+";
+
     @Autowired
     private AddressRepository addressRepository;
     @Override
+    @Transactional(readOnly = true)
     public List<AddressDTO> findAll() {
         log.info("Address DTO, fetch the all address");
-        return this.addressRepository.findAll()
+        return this.addressRepository.findAllWithUser()
                 .stream()
                 .map(AddressMapping::map)
                 .distinct().collect(Collectors.toUnmodifiableList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AddressDTO findById(Integer addressId) {
         log.info("AdressDTO, fetech the address by using Id");
         return this.addressRepository.findById(addressId)
@@ -38,6 +44,23 @@ public class AddressServiceImplementation implements AddressService {
                 .orElseThrow(() -> new AddressNotFoundException(String.format("Address with id: %d not found",addressId)));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AddressDTO> findByUserId(Integer userId, Pageable pageable) {
+        log.info("AddressDTO Page, fetch the addresses of a user");
+        return this.addressRepository.findByUserId(userId, pageable).map(AddressMapping::map);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AddressDTO> findByPostalCodePrefix(String postalCodePrefix, Pageable pageable) {
+        log.info("AddressDTO Page, fetch the addresses by postal code prefix");
+        if (!postalCodePrefix.matches(POSTAL_CODE_PREFIX_PATTERN)) {
+            throw new IllegalArgumentException("Postal code prefix may only contain letters, digits, spaces and dashes");
+        }
+        return this.addressRepository.findByPostalCodePrefix(postalCodePrefix, pageable).map(AddressMapping::map);
+    }
+
     @Override
     public AddressDTO save(AddressDTO addressDto) {
         log.info("AddressDTo, save the addresses");
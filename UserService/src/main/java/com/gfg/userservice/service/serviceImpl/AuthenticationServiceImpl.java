@@ -0,0 +1,96 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.gfg.userservice.domain.dto.AuthenticationRequest;
+import com.gfg.userservice.domain.dto.AuthenticationResponse;
+import com.gfg.userservice.domain.dto.RefreshTokenRequest;
+import com.gfg.userservice.security.JwtClaimNames;
+import com.gfg.userservice.security.JwtUtil;
+import com.gfg.userservice.service.AuthenticationService;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Issues the token pair used across the platform. Access tokens are short-lived and carry
+ * roles and account-state flags so that any service holding the JWKS can authorize a request
+ * on its own; refresh tokens carry only the subject and re-check the account here.
+ */
+@Service
+@Slf4j
+public class AuthenticationServiceImpl implements AuthenticationService {
+
+    private final AuthenticationManager authenticationManager;
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtUtil jwtUtil;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public AuthenticationServiceImpl(final AuthenticationManager authenticationManager,
+                                     final CustomUserDetailsService userDetailsService,
+                                     final JwtUtil jwtUtil,
+                                     @Value("${jwt.access-token-ttl:15m}") final Duration accessTokenTtl,
+                                     @Value("${jwt.refresh-token-ttl:7d}") final Duration refreshTokenTtl) {
+        this.authenticationManager = authenticationManager;
+        this.userDetailsService = userDetailsService;
+        this.jwtUtil = jwtUtil;
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    @Override
+    public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest) {
+        log.info("*** AuthenticationResponse, service; authenticate user *");
+        final UserDetails userDetails = (UserDetails) this.authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(authenticationRequest.getUsername(), authenticationRequest.getPassword()))
+                .getPrincipal();
+        return this.issueTokens(userDetails);
+    }
+
+    @Override
+    public AuthenticationResponse refresh(final RefreshTokenRequest refreshTokenRequest) {
+        log.info("*** AuthenticationResponse, service; refresh token pair *");
+        final Claims claims = this.jwtUtil.extractValidClaims(refreshTokenRequest.getRefreshToken())
+                .filter(c -> JwtClaimNames.REFRESH_TOKEN.equals(c.get(JwtClaimNames.TOKEN_TYPE)))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        final UserDetails userDetails = this.userDetailsService.loadUserByUsername(claims.getSubject());
+        if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked() || !userDetails.isAccountNonExpired()) {
+            throw new DisabledException("Account is disabled or locked");
+        }
+        if (!userDetails.isCredentialsNonExpired()) {
+            throw new CredentialsExpiredException("Credentials have expired");
+        }
+        return this.issueTokens(userDetails);
+    }
+
+    private AuthenticationResponse issueTokens(final UserDetails userDetails) {
+        final Map<String, Object> accessClaims = new HashMap<>();
+        accessClaims.put(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.ACCESS_TOKEN);
+        accessClaims.put(JwtClaimNames.ROLES, userDetails.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        accessClaims.put(JwtClaimNames.ENABLED, userDetails.isEnabled());
+        accessClaims.put(JwtClaimNames.ACCOUNT_NON_EXPIRED, userDetails.isAccountNonExpired());
+        accessClaims.put(JwtClaimNames.ACCOUNT_NON_LOCKED, userDetails.isAccountNonLocked());
+        accessClaims.put(JwtClaimNames.CREDENTIALS_NON_EXPIRED, userDetails.isCredentialsNonExpired());
+
+        return AuthenticationResponse.builder()
+                .jwtToken(this.jwtUtil.generateToken(userDetails.getUsername(), accessClaims, this.accessTokenTtl))
+                .refreshToken(this.jwtUtil.generateToken(userDetails.getUsername(),
+                        Map.of(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.REFRESH_TOKEN), this.refreshTokenTtl))
+                .build();
+    }
+}
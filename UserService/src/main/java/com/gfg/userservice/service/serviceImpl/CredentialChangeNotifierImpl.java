@@ -0,0 +1,87 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.gfg.userservice.service.CredentialChangeNotifier;
+import com.gfg.userservice.service.CredentialStatusService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Tells every ProxyClient instance, and the local credential-status cache, to drop their
+ * copy of a credential once the change has committed. The load-balanced RestTemplate would only reach one instance, so the
+ * instances are looked up in the registry and called directly on the internal port each one
+ * advertises in its metadata; the eviction endpoint is not served on the public port.
+ * Failures are logged only; the proxy cache TTL bounds how long a missed notification can matter.
+ */
+@Service
+@Slf4j
+public class CredentialChangeNotifierImpl implements CredentialChangeNotifier {
+
+    private static final String INTERNAL_PORT_METADATA = "internal-port";
+
+    private final DiscoveryClient discoveryClient;
+    private final CredentialStatusService credentialStatusService;
+    private final RestTemplate restTemplate;
+    private final String proxyServiceId;
+    private final String evictPath;
+
+    public CredentialChangeNotifierImpl(final DiscoveryClient discoveryClient,
+                                        final CredentialStatusService credentialStatusService,
+                                        final RestTemplateBuilder restTemplateBuilder,
+                                        @Value("${credential-cache.proxy-service-id:ProxyClient}") final String proxyServiceId,
+                                        @Value("${credential-cache.evict-path:/app/internal/cache/}") final String evictPath) {
+        this.discoveryClient = discoveryClient;
+        this.credentialStatusService = credentialStatusService;
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(500))
+                .setReadTimeout(Duration.ofSeconds(1))
+                .build();
+        this.proxyServiceId = proxyServiceId;
+        this.evictPath = evictPath;
+    }
+
+    @Override
+    public void credentialChanged(final String username) {
+        if (username == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.broadcast(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(username);
+            }
+        });
+    }
+
+    private void broadcast(final String username) {
+        this.credentialStatusService.evict(username);
+        log.info("*** Void, service; notify proxies of credential change *");
+        for (final ServiceInstance instance : this.discoveryClient.getInstances(this.proxyServiceId)) {
+            final String internalPort = instance.getMetadata().get(INTERNAL_PORT_METADATA);
+            if (internalPort == null) {
+                log.warn("Proxy instance {} advertises no internal port, cannot evict", instance.getUri());
+                continue;
+            }
+            try {
+                this.restTemplate.delete(instance.getScheme() + "://" + instance.getHost() + ":" + internalPort
+                        + this.evictPath + "{username}", username);
+            } catch (RestClientException e) {
+                log.warn("Could not evict credential cache on {}: {}", instance.getUri(), e.getMessage());
+            }
+        }
+    }
+
+}
@@ -6,12 +6,13 @@ import com.gfg.userservice.exceptions.UserObjectNotFoundException;
 import com.gfg.userservice.helperClass.CredentialMapping;
 import com.gfg.userservice.repository.CredentialRepository;
 import com.gfg.userservice.repository.UserRepository;
+import com.gfg.userservice.service.CredentialChangeNotifier;
 import com.gfg.userservice.service.CredentialService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,12 +28,15 @@ public class CredentialServiceImplementation implements CredentialService {
 
     private UserRepository userRepository;
 
+    private final CredentialChangeNotifier credentialChangeNotifier;
+
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<CredentialDTO> findAll() {
         log.info("CredentialsDTO, find all the credentials");
-        return this.credentialRepository.findAll()
+        return this.credentialRepository.findAllWithUser()
                 .stream()
                 .map(CredentialMapping::map)
                 .distinct()
@@ -40,6 +44,7 @@ public class CredentialServiceImplementation implements CredentialService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CredentialDTO findById(Integer credentialId) {
         log.info("Credentials, Find the Credentials by Id");
         return this.credentialRepository
@@ -78,23 +83,30 @@ public class CredentialServiceImplementation implements CredentialService {
     @Override
     public CredentialDTO update(CredentialDTO credentialDto) {
         log.info("CredentialDTO, Update the Credentials");
-        return CredentialMapping.map(this.credentialRepository.save(CredentialMapping.map(credentialDto)));
+        final CredentialDTO updated = CredentialMapping.map(this.credentialRepository.save(CredentialMapping.map(credentialDto)));
+        this.credentialChangeNotifier.credentialChanged(updated.getUsername());
+        return updated;
     }
 
     @Override
     public CredentialDTO update(Integer credentialId, CredentialDTO credentialDto) {
         log.info("CredentialDTO, Update the Credentials by using Id");
-        return CredentialMapping.map(this.credentialRepository.save(CredentialMapping.map(this.findById(credentialId))));
+        final CredentialDTO updated = CredentialMapping.map(this.credentialRepository.save(CredentialMapping.map(this.findById(credentialId))));
+        this.credentialChangeNotifier.credentialChanged(updated.getUsername());
+        return updated;
     }
 
     @Override
     public void deleteById(Integer credentialId) {
         log.info("CredentialDTO, Delete the Credentials");
+        this.credentialRepository.findById(credentialId)
+                .ifPresent(credential -> this.credentialChangeNotifier.credentialChanged(credential.getUsername()));
         this.credentialRepository.deleteById(credentialId);
 
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CredentialDTO findByUsername(final String username) {
         log.info("CredentialDTO, Find the Credentials by using UserId");
 
@@ -0,0 +1,67 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gfg.userservice.domain.projection.CredentialStatus;
+import com.gfg.userservice.repository.CredentialRepository;
+import com.gfg.userservice.service.CredentialStatusService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Revocation check for bearer tokens: whether the credential behind a token is still enabled,
+ * unlocked and unexpired. Answers are kept per username for {@code jwt.credential-status-check.ttl}
+ * and dropped on this instance as soon as a credential change commits; other instances see
+ * the change once their entry expires. Disabling the check trusts the token claims alone
+ * until the access token expires.
+ */
+@Service
+@Slf4j
+public class CredentialStatusServiceImpl implements CredentialStatusService {
+
+    private final CredentialRepository credentialRepository;
+    private final boolean enabled;
+    private final Cache<String, Boolean> cache;
+
+    public CredentialStatusServiceImpl(final CredentialRepository credentialRepository,
+                                       final MeterRegistry meterRegistry,
+                                       @Value("${jwt.credential-status-check.enabled:true}") final boolean enabled,
+                                       @Value("${jwt.credential-status-check.ttl:30s}") final Duration ttl,
+                                       @Value("${jwt.credential-status-check.max-size:10000}") final long maxSize) {
+        this.credentialRepository = credentialRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "credentialStatus");
+    }
+
+    @Override
+    public boolean isActive(final String username) {
+        if (!this.enabled) {
+            return true;
+        }
+        return this.cache.get(username, this::load);
+    }
+
+    @Override
+    public void evict(final String username) {
+        log.info("*** Void, service; evict cached credential status *");
+        this.cache.invalidate(username);
+    }
+
+    private Boolean load(final String username) {
+        log.info("*** Boolean, service; load credential status *");
+        return this.credentialRepository.findStatusByUsername(username)
+                .map(CredentialStatus::isActive)
+                .orElse(false);
+    }
+
+}
@@ -1,12 +1,15 @@
 package com.gfg.userservice.service.serviceImpl;
 
-import com.gfg.userservice.domain.entity.Credential;
+import com.gfg.userservice.domain.projection.CredentialUserDetails;
 import com.gfg.userservice.repository.CredentialRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,14 +17,15 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final CredentialRepository credentialRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Credential credential = credentialRepository.findByUsername(username)
+        CredentialUserDetails credential = credentialRepository.findUserDetailsByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
         return new User(
@@ -34,4 +38,16 @@ public class CustomUserDetailsService implements UserDetailsService {
                 Collections.singletonList(new SimpleGrantedAuthority(credential.getRoleBasedAuthority().name()))
         );
     }
+
+    /**
+     * Called by the authentication manager after a successful login whose stored hash uses an
+     * outdated algorithm or cost; stores the hash it computed from the submitted password.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        log.info("*** UserDetails, service; re-hash password on login *");
+        credentialRepository.updatePassword(user.getUsername(), newPassword);
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
@@ -0,0 +1,207 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.gfg.userservice.domain.entity.EmailOutboxMessage;
+import com.gfg.userservice.domain.enums.EmailOutboxStatus;
+import com.gfg.userservice.repository.EmailOutboxRepository;
+import com.gfg.userservice.service.EmailDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains the email outbox. Each run claims up to {@code email.outbox.batch-size} due rows in a
+ * short transaction, marking them {@code IN_PROGRESS} with a lease of
+ * {@code email.outbox.lease} held in {@code next_attempt_at}, and commits before talking to
+ * SMTP, so no row lock or pooled connection is held while mail is sent. The claimed messages
+ * go to {@link JavaMailSender#send(SimpleMailMessage...)} in one call, over a single SMTP
+ * connection, and a second short transaction records the outcome. A dispatcher that dies
+ * between the two leaves its rows {@code IN_PROGRESS}; once the lease expires they are due
+ * again and another run claims them, so delivery is at least once. Messages the server
+ * rejected, or the whole batch if the connection failed, are retried with exponential backoff
+ * starting at {@code email.outbox.initial-backoff} and capped at
+ * {@code email.outbox.max-backoff}; after {@code email.outbox.max-attempts} a message is
+ * marked {@code FAILED}. Full batches are followed immediately by the next one, so a backlog
+ * drains without waiting for the poll.
+ */
+@Service
+@Slf4j
+public class EmailDispatcherImpl implements EmailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 512;
+    private static final List<EmailOutboxStatus> CLAIMABLE = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.IN_PROGRESS);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public EmailDispatcherImpl(final EmailOutboxRepository emailOutboxRepository,
+                               final JavaMailSender mailSender,
+                               final TransactionTemplate transactionTemplate,
+                               @Value("${email.outbox.batch-size:50}") final int batchSize,
+                               @Value("${email.outbox.max-attempts:8}") final int maxAttempts,
+                               @Value("${email.outbox.initial-backoff:30s}") final Duration initialBackoff,
+                               @Value("${email.outbox.max-backoff:1h}") final Duration maxBackoff,
+                               @Value("${email.outbox.lease:5m}") final Duration lease) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatchDue() {
+        int taken;
+        do {
+            taken = this.dispatchBatch();
+        } while (taken == this.batchSize);
+    }
+
+    @Override
+    public int dispatchBatch() {
+        // next_attempt_at is a TIMESTAMP of whole seconds; truncate so the lease compares equal on reload
+        final Instant leaseUntil = Instant.now().plus(this.lease).truncatedTo(ChronoUnit.SECONDS);
+        final List<EmailOutboxMessage> claimed = this.claim(leaseUntil);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        log.info("*** Void, service; dispatch {} queued emails *", claimed.size());
+        final Map<SimpleMailMessage, EmailOutboxMessage> byMail = new IdentityHashMap<>();
+        for (final EmailOutboxMessage message : claimed) {
+            final SimpleMailMessage mail = new SimpleMailMessage();
+            mail.setTo(message.getRecipient());
+            mail.setSubject(message.getSubject());
+            mail.setText(message.getBody());
+            byMail.put(mail, message);
+        }
+        final Map<Object, Exception> failures = this.send(byMail);
+        final Map<Long, Exception> outcomes = new HashMap<>();
+        for (final Map.Entry<SimpleMailMessage, EmailOutboxMessage> entry : byMail.entrySet()) {
+            final Exception failure = failures.containsKey(entry.getKey())
+                    ? failures.get(entry.getKey())
+                    : failures.get(null);
+            outcomes.put(entry.getValue().getEmailOutboxId(), failure);
+        }
+        this.record(outcomes, leaseUntil);
+        return claimed.size();
+    }
+
+    private List<EmailOutboxMessage> claim(final Instant leaseUntil) {
+        final List<EmailOutboxMessage> claimed = this.transactionTemplate.execute(status -> {
+            // PENDING rows that are due, and IN_PROGRESS rows whose lease has run out
+            final List<EmailOutboxMessage> due = this.emailOutboxRepository
+                    .findByStatusInAndNextAttemptAtLessThanEqualOrderByEmailOutboxIdAsc(
+                            CLAIMABLE, Instant.now(), PageRequest.of(0, this.batchSize));
+            if (due.isEmpty()) {
+                return due;
+            }
+            for (final EmailOutboxMessage message : due) {
+                message.setStatus(EmailOutboxStatus.IN_PROGRESS);
+                message.setNextAttemptAt(leaseUntil);
+            }
+            return this.emailOutboxRepository.saveAll(due);
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void record(final Map<Long, Exception> outcomes, final Instant leaseUntil) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            final Instant now = Instant.now();
+            final List<EmailOutboxMessage> messages = this.emailOutboxRepository.findByEmailOutboxIdIn(outcomes.keySet());
+            final List<EmailOutboxMessage> recorded = new ArrayList<>(messages.size());
+            for (final EmailOutboxMessage message : messages) {
+                if (message.getStatus() != EmailOutboxStatus.IN_PROGRESS || !leaseUntil.equals(message.getNextAttemptAt())) {
+                    // the lease ran out mid-send and another run has claimed the row since
+                    log.warn("Lease on email {} expired before its outcome was recorded", message.getEmailOutboxId());
+                    continue;
+                }
+                final Exception failure = outcomes.get(message.getEmailOutboxId());
+                if (failure == null) {
+                    this.markSent(message, now);
+                } else {
+                    this.markFailed(message, failure, now);
+                }
+                recorded.add(message);
+            }
+            this.emailOutboxRepository.saveAll(recorded);
+        });
+    }
+
+    /**
+     * Returns the failed messages; a {@code null} key means the whole batch failed.
+     */
+    private Map<Object, Exception> send(final Map<SimpleMailMessage, EmailOutboxMessage> byMail) {
+        try {
+            this.mailSender.send(byMail.keySet().toArray(new SimpleMailMessage[0]));
+            // not Map.of(): the caller looks up the null key, which immutable maps reject
+            return new IdentityHashMap<>();
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                return singleFailure(e);
+            }
+            return e.getFailedMessages();
+        } catch (MailException e) {
+            return singleFailure(e);
+        }
+    }
+
+    private static Map<Object, Exception> singleFailure(final Exception e) {
+        final Map<Object, Exception> failure = new IdentityHashMap<>();
+        failure.put(null, e);
+        return failure;
+    }
+
+    private void markSent(final EmailOutboxMessage message, final Instant now) {
+        message.setStatus(EmailOutboxStatus.SENT);
+        message.setAttempts(message.getAttempts() + 1);
+        message.setSentAt(now);
+        message.setLastError(null);
+    }
+
+    private void markFailed(final EmailOutboxMessage message, final Exception failure, final Instant now) {
+        final int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(truncate(String.valueOf(failure.getMessage())));
+        if (attempts >= this.maxAttempts) {
+            log.warn("Giving up on email {} after {} attempts: {}", message.getEmailOutboxId(), attempts, failure.getMessage());
+            message.setStatus(EmailOutboxStatus.FAILED);
+            return;
+        }
+        message.setStatus(EmailOutboxStatus.PENDING);
+        message.setNextAttemptAt(now.plus(this.backoff(attempts)));
+    }
+
+    Duration backoff(final int attempts) {
+        final Duration delay = this.initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : delay;
+    }
+
+    private static String truncate(final String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
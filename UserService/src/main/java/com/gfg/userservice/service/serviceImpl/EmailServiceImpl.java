@@ -1,28 +1,36 @@
 package com.gfg.userservice.service.serviceImpl;
 
+import com.gfg.userservice.domain.entity.EmailOutboxMessage;
+import com.gfg.userservice.domain.enums.EmailOutboxStatus;
+import com.gfg.userservice.repository.EmailOutboxRepository;
 import com.gfg.userservice.service.EmailService;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
-    @Autowired
-    private JavaMailSender emailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     @Override
+    @Transactional
     public void sendSimpleMessage(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        emailSender.send(message);
+        log.info("*** Void, service; queue email *");
+        final Instant now = Instant.now();
+        emailOutboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(text)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
     }
 }
-
@@ -0,0 +1,130 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.gfg.userservice.exceptions.PasswordHashingUnavailableException;
+import com.gfg.userservice.service.PasswordHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt (or Argon2) on a small dedicated pool with a bounded queue, so a burst of
+ * logins uses at most {@code password.hashing.threads} cores and the rest of the service
+ * keeps its request threads; once the queue is full callers get a 503 instead of piling up.
+ * <p>
+ * New hashes are written as {@code {bcrypt}} or {@code {argon2}} depending on
+ * {@code password.hashing.algorithm}. Unprefixed hashes from before are still read as BCrypt.
+ * {@link #upgradeEncoding(String)} reports a hash stored with another algorithm or a lower
+ * BCrypt cost than {@code password.hashing.bcrypt-strength}, which makes the authentication
+ * manager re-hash the password on the next successful login.
+ */
+@Service
+@Slf4j
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Timer matchTimer;
+
+    public PasswordHashingServiceImpl(final MeterRegistry meterRegistry,
+                                      @Value("${password.hashing.algorithm:bcrypt}") final String algorithm,
+                                      @Value("${password.hashing.bcrypt-strength:10}") final int bcryptStrength,
+                                      @Value("${password.hashing.threads:0}") final int threads,
+                                      @Value("${password.hashing.queue-capacity:200}") final int queueCapacity,
+                                      @Value("${password.hashing.timeout:5s}") final Duration timeout) {
+        if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password.hashing.algorithm: " + algorithm);
+        }
+        final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        final DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.delegate = delegating;
+
+        final int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.timeoutMillis = timeout.toMillis();
+        // executor.queued / executor.active gauges plus executor.idle, the time a task waited in the queue
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "passwordHashing");
+        this.hashTimer = Timer.builder("password.hashing").tag("operation", "encode").register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing").tag("operation", "matches").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return this.submit(this.hashTimer, () -> this.delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return this.submit(this.matchTimer, () -> this.delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(final Timer timer, final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = this.executor.submit(timer.wrap(task));
+        } catch (RejectedExecutionException e) {
+            log.warn("*** Void, service; password hashing queue full *");
+            throw new PasswordHashingUnavailableException("Too many concurrent logins, try again later", e);
+        }
+        try {
+            return future.get(this.timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+}
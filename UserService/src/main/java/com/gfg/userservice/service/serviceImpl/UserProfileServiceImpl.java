@@ -0,0 +1,135 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gfg.userservice.domain.dto.UserProfileDTO;
+import com.gfg.userservice.domain.projection.UserView;
+import com.gfg.userservice.repository.UserRepository;
+import com.gfg.userservice.service.UserProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk profile lookup for cross-service enrichment. Profiles are kept in a bounded cache; the
+ * ids missing from it are loaded together in one {@code IN} query, so a page of N rows costs
+ * at most one statement. Misses are read from the primary, since a lagging replica could still
+ * serve a row that was just evicted. {@link #evict(Integer)} drops an entry at once and again
+ * after the surrounding transaction commits, and a load that overlaps an eviction is returned
+ * but not cached, so a concurrent read cannot put the old row back. Other instances rely on
+ * {@code user-profile-cache.ttl}.
+ */
+@Service
+@Slf4j
+public class UserProfileServiceImpl implements UserProfileService {
+
+    private final UserRepository userRepository;
+    private final Cache<Integer, UserProfileDTO> cache;
+    // guards evictions, and the check-and-put of a load against them
+    private final Object evictionLock = new Object();
+    private long evictions;
+
+    public UserProfileServiceImpl(final UserRepository userRepository,
+                                  final MeterRegistry meterRegistry,
+                                  @Value("${user-profile-cache.ttl:10m}") final Duration ttl,
+                                  @Value("${user-profile-cache.max-size:50000}") final long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "userProfiles");
+    }
+
+    @Override
+    // not read-only, so misses come from the primary rather than a replica that may lag an eviction
+    @Transactional
+    public List<UserProfileDTO> findAllByIds(final Collection<Integer> userIds) {
+        log.info("*** UserProfileDto List, service; fetch profiles by ids *");
+        final Collection<Integer> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        final Map<Integer, UserProfileDTO> profiles = new HashMap<>(this.cache.getAllPresent(ids));
+        final Set<Integer> missing = ids.stream()
+                .filter(id -> !profiles.containsKey(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!missing.isEmpty()) {
+            final long evictionsBefore;
+            synchronized (this.evictionLock) {
+                evictionsBefore = this.evictions;
+            }
+            final Map<Integer, UserProfileDTO> loaded = this.load(missing);
+            profiles.putAll(loaded);
+            synchronized (this.evictionLock) {
+                // the loaded rows may predate an eviction that ran meanwhile; the next read reloads them
+                if (this.evictions == evictionsBefore) {
+                    this.cache.putAll(loaded);
+                }
+            }
+        }
+        return ids.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Integer, UserProfileDTO> load(final Collection<? extends Integer> userIds) {
+        log.info("*** UserProfileDto Map, service; load {} profiles *", userIds.size());
+        return this.userRepository.findByUserIdIn(userIds)
+                .stream()
+                .map(UserProfileServiceImpl::map)
+                .collect(Collectors.toMap(UserProfileDTO::getUserId, Function.identity()));
+    }
+
+    @Override
+    public void evict(final Integer userId) {
+        if (userId == null) {
+            return;
+        }
+        this.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(final Integer userId) {
+        synchronized (this.evictionLock) {
+            this.evictions++;
+            this.cache.invalidate(userId);
+        }
+    }
+
+    private static UserProfileDTO map(final UserView view) {
+        return UserProfileDTO.builder()
+                .userId(view.getUserId())
+                .firstName(view.getFirstName())
+                .lastName(view.getLastName())
+                .imageUrl(view.getImageUrl())
+                .email(view.getEmail())
+                .phone(view.getPhone())
+                .build();
+    }
+
+}
@@ -7,17 +7,21 @@ import com.gfg.userservice.exceptions.UserObjectNotFoundException;
 import com.gfg.userservice.helperClass.UserMapping;
 import com.gfg.userservice.repository.CredentialRepository;
 import com.gfg.userservice.repository.UserRepository;
+import com.gfg.userservice.security.JwtClaimNames;
 import com.gfg.userservice.security.JwtUtil;
+import com.gfg.userservice.service.CredentialChangeNotifier;
 import com.gfg.userservice.service.EmailService;
+import com.gfg.userservice.service.PasswordHashingService;
+import com.gfg.userservice.service.UserProfileService;
 import com.gfg.userservice.service.UserService;
-import jakarta.transaction.Transactional;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,16 +36,22 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
 
     private final CredentialRepository credentialRepository;
+
+    private final CredentialChangeNotifier credentialChangeNotifier;
+
+    private final UserProfileService userProfileService;
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> findAll() {
         log.info("*****find all user*****");
 
-        return this.userRepository.findAll()
+        return this.userRepository.findAllWithCredential()
                 .stream().map(UserMapping::map)
                 .distinct().collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO findById(Integer userId) {
         log.info("*****find by id*******");
         return this.userRepository.findById(userId)
@@ -60,7 +70,9 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDTO save(final UserDTO userDto) {
         log.info("*** UserDto, service; save user *");
-        return UserMapping.map(this.userRepository.save(UserMapping.map(userDto)));
+        final UserDTO saved = UserMapping.map(this.userRepository.save(UserMapping.map(userDto)));
+        this.userProfileService.evict(saved.getUserId());
+        return saved;
     }
 
 
@@ -68,13 +80,19 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDTO update(UserDTO userDTO) {
         log.info("************update the user******************");
-        return UserMapping.map(this.userRepository.save(UserMapping.map(userDTO)));
+        final UserDTO updated = UserMapping.map(this.userRepository.save(UserMapping.map(userDTO)));
+        this.userProfileService.evict(updated.getUserId());
+        if (updated.getCredentialDTO() != null) {
+            this.credentialChangeNotifier.credentialChanged(updated.getCredentialDTO().getUsername());
+        }
+        return updated;
 
     }
 
     @Override
     public UserDTO update(Integer userId, UserDTO userDTO) {
         log.info("*** UserDto, service; update user with userId *");
+        this.userProfileService.evict(userId);
         return UserMapping.map(this.userRepository.save(
                 UserMapping.map(this.findById(userId))));
     }
@@ -82,10 +100,15 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteById(Integer userId) {
         log.info("*** Void, service; delete user by id *");
+        this.userRepository.findById(userId)
+                .map(User::getCredential)
+                .ifPresent(credential -> this.credentialChangeNotifier.credentialChanged(credential.getUsername()));
         this.userRepository.deleteById(userId);
+        this.userProfileService.evict(userId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO findByUsername(String username) {
         log.info("*** UserDto, service; fetch user with username *");
         return UserMapping.map(this.userRepository.findByCredentialUsername(username)
@@ -94,6 +117,7 @@ public class UserServiceImpl implements UserService {
 
     private final EmailService emailService;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingService passwordHashingService;
 
     @Override
     public void activateAccount(String email) {
@@ -109,8 +133,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void resetPassword(String token, String newPassword) {
-        validateResetToken(token);
-        updatePassword(token, newPassword);
+        updatePassword(validateResetToken(token), newPassword);
     }
 
     private String generateActivationToken(String email) {
@@ -121,19 +144,23 @@ public class UserServiceImpl implements UserService {
         return jwtUtil.generateToken(email);
     }
 
-    private void validateResetToken(String token) {
-        String username = jwtUtil.extractUsername(token);
-        if (username == null || !jwtUtil.validateToken(token, username)) {
-            throw new IllegalArgumentException("Invalid or expired token");
-        }
+    /**
+     * Returns the subject of a valid reset token; access and refresh tokens are signed with the
+     * same key, so the token type is what keeps them from resetting a password.
+     */
+    private String validateResetToken(String token) {
+        return jwtUtil.extractValidClaims(token)
+                .filter(claims -> JwtClaimNames.VERIFICATION_TOKEN.equals(claims.get(JwtClaimNames.TOKEN_TYPE)))
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid or expired token"));
     }
 
-    private void updatePassword(String token, String newPassword) {
-        String username = jwtUtil.extractUsername(token);
+    private void updatePassword(String username, String newPassword) {
         User user = userRepository.findByCredentialUsername(username)
                 .orElseThrow(() -> new UserObjectNotFoundException("User not found"));
-        user.getCredential().setPassword(new BCryptPasswordEncoder().encode(newPassword));
+        user.getCredential().setPassword(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        credentialChangeNotifier.credentialChanged(username);
     }
 
 
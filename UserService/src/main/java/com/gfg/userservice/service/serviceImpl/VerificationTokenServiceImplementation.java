@@ -1,41 +1,65 @@
 package com.gfg.userservice.service.serviceImpl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.gfg.userservice.domain.dto.VerificationDTO;
 import com.gfg.userservice.exceptions.VerificationTokenNotFoundException;
 import com.gfg.userservice.helperClass.VerificationTokenMapping;
 import com.gfg.userservice.repository.VerificationTokenRepository;
 import com.gfg.userservice.service.VerificationTokenService;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * Token lookups go through the unique index on {@code verif_token}. Values that turn out to be
+ * unknown or expired are remembered in a bounded negative cache for
+ * {@code verification-token.negative-cache.ttl}, so repeated guesses or retries of a dead link
+ * do not reach the database. Saving a token drops its entry at once and again after commit.
+ */
 @Service
 @Transactional
 @Slf4j
-@RequiredArgsConstructor
 public class  VerificationTokenServiceImplementation implements VerificationTokenService {
 
-    private VerificationTokenRepository verificationTokenRepository;
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final Cache<String, Boolean> unknownTokens;
 
-    @Autowired
-    public VerificationTokenServiceImplementation(VerificationTokenRepository verificationTokenRepository) {
+    public VerificationTokenServiceImplementation(VerificationTokenRepository verificationTokenRepository,
+                                                  MeterRegistry meterRegistry,
+                                                  @Value("${verification-token.negative-cache.ttl:5m}") Duration negativeCacheTtl,
+                                                  @Value("${verification-token.negative-cache.max-size:100000}") long negativeCacheMaxSize) {
         this.verificationTokenRepository = verificationTokenRepository;
+        this.unknownTokens = Caffeine.newBuilder()
+                .maximumSize(negativeCacheMaxSize)
+                .expireAfterWrite(negativeCacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.unknownTokens, "unknownVerificationTokens");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<VerificationDTO> findAll() {
         log.info("VerificationDTo, Fetch all the verification Tokens");
         return this.verificationTokenRepository
-                .findAll().stream().map(VerificationTokenMapping::map)
+                .findAllWithCredential().stream().map(VerificationTokenMapping::map)
                 .distinct().collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public VerificationDTO findById(Integer verificationTokenId) {
         log.info("VerificationDTo, Fetch all the verification Tokens using VerificationId");
         return this.verificationTokenRepository.findById(verificationTokenId)
@@ -43,15 +67,34 @@ public class  VerificationTokenServiceImplementation implements VerificationToke
                 .orElseThrow(() -> new VerificationTokenNotFoundException(String.format("Verification Token with id: %d not found",verificationTokenId)));
     }
 
+    @Override
+    public VerificationDTO findByToken(String token) {
+        log.info("VerificationDTo, Fetch the verification Token by its value");
+        if (token == null || token.isBlank() || this.unknownTokens.getIfPresent(token) != null) {
+            throw new VerificationTokenNotFoundException("Verification Token not found or expired");
+        }
+        final Optional<VerificationDTO> verificationDto = this.verificationTokenRepository.findByToken(token)
+                .filter(verificationToken -> verificationToken.getExpireDate() == null
+                        || !verificationToken.getExpireDate().isBefore(LocalDate.now()))
+                .map(VerificationTokenMapping::map);
+        if (verificationDto.isEmpty()) {
+            this.unknownTokens.put(token, Boolean.TRUE);
+            throw new VerificationTokenNotFoundException("Verification Token not found or expired");
+        }
+        return verificationDto.get();
+    }
+
     @Override
     public VerificationDTO save(VerificationDTO verificationTokenDto) {
         log.info("VerificationDTo, Save the verification Tokens");
+        this.forgetUnknown(verificationTokenDto.getToken());
         return VerificationTokenMapping.map(this.verificationTokenRepository.save(VerificationTokenMapping.map(verificationTokenDto)));
     }
 
     @Override
     public VerificationDTO update(VerificationDTO verificationTokenDto) {
         log.info("VerificationDTo, Update the verification Tokens");
+        this.forgetUnknown(verificationTokenDto.getToken());
         return VerificationTokenMapping.map(this.verificationTokenRepository.save(VerificationTokenMapping.map(verificationTokenDto)));
     }
 
@@ -67,4 +110,19 @@ public class  VerificationTokenServiceImplementation implements VerificationToke
         this.verificationTokenRepository.deleteById(verificationTokenId);
 
     }
+
+    private void forgetUnknown(final String token) {
+        if (token == null) {
+            return;
+        }
+        this.unknownTokens.invalidate(token);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unknownTokens.invalidate(token);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.gfg.userservice.service.serviceImpl;
+
+import com.gfg.userservice.repository.VerificationTokenRepository;
+import com.gfg.userservice.service.VerificationTokenSweeper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps {@code verification_tokens} bounded by deleting tokens whose expiry date has passed.
+ * Each chunk of {@code verification-token.sweep.batch-size} ids is selected through the
+ * {@code expire_date} index and deleted in its own short transaction, so a large backlog never
+ * holds locks on the table for long. Full chunks are followed immediately by the next one.
+ */
+@Service
+@Slf4j
+public class VerificationTokenSweeperImpl implements VerificationTokenSweeper {
+
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public VerificationTokenSweeperImpl(final VerificationTokenRepository verificationTokenRepository,
+                                        final TransactionTemplate transactionTemplate,
+                                        @Value("${verification-token.sweep.batch-size:1000}") final int batchSize) {
+        this.verificationTokenRepository = verificationTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${verification-token.sweep.initial-delay-ms:60000}",
+            fixedDelayString = "${verification-token.sweep.interval-ms:3600000}")
+    public void sweepExpired() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = this.sweepBatch();
+            total += deleted;
+        } while (deleted == this.batchSize);
+        if (total > 0) {
+            log.info("*** Void, service; swept {} expired verification tokens *", total);
+        }
+    }
+
+    @Override
+    public int sweepBatch() {
+        final Integer deleted = this.transactionTemplate.execute(status -> {
+            final List<Integer> expiredIds = this.verificationTokenRepository
+                    .findExpiredIds(LocalDate.now(), PageRequest.of(0, this.batchSize));
+            if (expiredIds.isEmpty()) {
+                return 0;
+            }
+            this.verificationTokenRepository.deleteAllByIdIn(expiredIds);
+            return expiredIds.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+}
@@ -0,0 +1,8 @@
+
+CREATE TABLE jwt_signing_keys (
+                                  kid VARCHAR(64) NOT NULL PRIMARY KEY,
+                                  public_key TEXT NOT NULL,
+                                  private_key TEXT NOT NULL,
+                                  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                                  retired_at TIMESTAMP NULL DEFAULT NULL
+);
@@ -0,0 +1,14 @@
+CREATE TABLE email_outbox (
+                              email_outbox_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+                              recipient VARCHAR(255) NOT NULL,
+                              subject VARCHAR(255) NOT NULL,
+                              body TEXT NOT NULL,
+                              status VARCHAR(16) NOT NULL,
+                              attempts INT NOT NULL DEFAULT 0,
+                              next_attempt_at TIMESTAMP NOT NULL,
+                              last_error VARCHAR(512),
+                              created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                              sent_at TIMESTAMP NULL DEFAULT NULL
+);
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
@@ -0,0 +1,4 @@
+UPDATE verification_tokens SET verif_token = NULL WHERE verif_token = '';
+
+CREATE UNIQUE INDEX uk_verification_tokens_verif_token ON verification_tokens (verif_token);
+CREATE INDEX idx_verification_tokens_expire_date ON verification_tokens (expire_date);
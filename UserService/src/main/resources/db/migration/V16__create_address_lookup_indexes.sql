@@ -0,0 +1,2 @@
+CREATE INDEX idx_address_user_id ON address (user_id);
+CREATE INDEX idx_address_postal_code_city ON address (postal_code, city);
@@ -0,0 +1,2 @@
+ALTER TABLE jwt_signing_keys ADD COLUMN predecessor_kid VARCHAR(64) NULL;
+CREATE UNIQUE INDEX uk_jwt_signing_keys_predecessor_kid ON jwt_signing_keys (predecessor_kid);
@@ -0,0 +1,160 @@
+package com.gfg.userservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login lookup by username over {@code credentials} holding 1M rows, in an in-memory H2
+ * database in MySQL mode, with and without {@code uk_credentials_username}. {@code entity}
+ * is what {@code findByUsername} used to issue (every column, then the lazily loaded user);
+ * {@code projection} is {@code findUserDetailsByUsername}, which reads only the columns
+ * {@code UserDetails} needs. Absolute numbers differ from MySQL; the ratio is the point.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CredentialLookupBenchmark {
+
+    private static final int CREDENTIALS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String ENTITY_SQL = "SELECT credential_id, user_id, username, password, role, is_enabled, " +
+            "is_account_non_expired, is_account_non_locked, is_credentials_non_expired, created_at, updated_at " +
+            "FROM credentials WHERE username = ?";
+    private static final String USER_SQL = "SELECT user_id, first_name, last_name, email, phone FROM users WHERE user_id = ?";
+    private static final String PROJECTION_SQL = "SELECT username, password, role, is_enabled, " +
+            "is_account_non_expired, is_account_non_locked, is_credentials_non_expired " +
+            "FROM credentials WHERE username = ?";
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement entityStatement;
+    private PreparedStatement userStatement;
+    private PreparedStatement projectionStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:credentials;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE users (user_id INT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                    "first_name VARCHAR(255), last_name VARCHAR(255), email VARCHAR(255), phone VARCHAR(255))");
+            statement.execute("CREATE TABLE credentials (credential_id INT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                    "user_id INT, username VARCHAR(255), password VARCHAR(255), role VARCHAR(255), " +
+                    "is_enabled BOOLEAN DEFAULT false, is_account_non_expired BOOLEAN DEFAULT true, " +
+                    "is_account_non_locked BOOLEAN DEFAULT true, is_credentials_non_expired BOOLEAN DEFAULT true, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL, updated_at TIMESTAMP NULL DEFAULT NULL)");
+        }
+        this.populate();
+        if (this.indexed) {
+            try (Statement statement = this.connection.createStatement()) {
+                statement.execute("CREATE UNIQUE INDEX uk_credentials_username ON credentials (username)");
+            }
+        }
+        this.entityStatement = this.connection.prepareStatement(ENTITY_SQL);
+        this.userStatement = this.connection.prepareStatement(USER_SQL);
+        this.projectionStatement = this.connection.prepareStatement(PROJECTION_SQL);
+    }
+
+    private void populate() throws SQLException {
+        this.connection.setAutoCommit(false);
+        try (PreparedStatement users = this.connection.prepareStatement(
+                     "INSERT INTO users (user_id, first_name, last_name, email, phone) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement credentials = this.connection.prepareStatement(
+                     "INSERT INTO credentials (user_id, username, password, role, is_enabled) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= CREDENTIALS; i++) {
+                users.setInt(1, i);
+                users.setString(2, "First" + i);
+                users.setString(3, "Last" + i);
+                users.setString(4, "user" + i + "@example.com");
+                users.setString(5, "555-" + i);
+                users.addBatch();
+                credentials.setInt(1, i);
+                credentials.setString(2, username(i));
+                credentials.setString(3, "$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234");
+                credentials.setString(4, "ROLE_USER");
+                credentials.setBoolean(5, true);
+                credentials.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    users.executeBatch();
+                    credentials.executeBatch();
+                }
+            }
+        }
+        this.connection.commit();
+        this.connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public Object entity() throws SQLException {
+        this.entityStatement.setString(1, randomUsername());
+        final int userId;
+        try (ResultSet rs = this.entityStatement.executeQuery()) {
+            if (!rs.next()) {
+                return null;
+            }
+            userId = rs.getInt(2);
+        }
+        this.userStatement.setInt(1, userId);
+        try (ResultSet rs = this.userStatement.executeQuery()) {
+            return rs.next() ? rs.getString(4) : null;
+        }
+    }
+
+    @Benchmark
+    public Object projection() throws SQLException {
+        this.projectionStatement.setString(1, randomUsername());
+        try (ResultSet rs = this.projectionStatement.executeQuery()) {
+            return rs.next() ? rs.getString(2) : null;
+        }
+    }
+
+    private static String randomUsername() {
+        return username(ThreadLocalRandom.current().nextInt(1, CREDENTIALS + 1));
+    }
+
+    private static String username(final int i) {
+        return "user" + i;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CredentialLookupBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.gfg.userservice.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routes between two in-memory H2 databases standing in for primary and replica; each holds a
+ * single row naming itself, so a query shows which one served it.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHICH_NODE = "SELECT name FROM node";
+
+    private final AtomicReference<Duration> lag = new AtomicReference<>(Duration.ZERO);
+
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource replica = database("replica");
+        lagMonitor = new ReplicaLagMonitor(replica, connection -> {
+            Duration current = lag.get();
+            if (current == null) {
+                throw new SQLException("replica down");
+            }
+            return current;
+        }, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        lagMonitor.check();
+
+        DataSource routing = ReplicaRoutingDataSource.lazy(database("primary"), replica, lagMonitor);
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private String node(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplica() {
+        assertThat(node(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldSendReadWriteTransactionsAndPlainStatementsToPrimary() {
+        assertThat(node(readWrite)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject(WHICH_NODE, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileReplicaLags() {
+        // Given
+        lag.set(Duration.ofSeconds(30));
+
+        // When
+        lagMonitor.check();
+
+        // Then
+        assertThat(node(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileProbeFailsAndRecoverAfterwards() {
+        // Given
+        lag.set(null);
+        lagMonitor.check();
+        assertThat(node(readOnly)).isEqualTo("primary");
+
+        // When
+        lag.set(Duration.ofSeconds(1));
+        lagMonitor.check();
+
+        // Then
+        assertThat(node(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldTreatServerWithoutReplicaStatusAsUnhealthy() throws SQLException {
+        // Given
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet noStatus = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(noStatus);
+        when(noStatus.next()).thenReturn(false);
+        DataSource notReplicating = mock(DataSource.class);
+        when(notReplicating.getConnection()).thenReturn(connection);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(notReplicating, ReplicaLagMonitor.Probe.mysql(),
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        // When
+        monitor.check();
+
+        // Then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+}
@@ -2,6 +2,8 @@ package com.gfg.userservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gfg.userservice.domain.dto.UserDTO;
+import com.gfg.userservice.domain.dto.UserProfileDTO;
+import com.gfg.userservice.service.UserProfileService;
 import com.gfg.userservice.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +30,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserProfileService userProfileService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,6 +52,20 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.collection[0].firstName").value("John"));
     }
 
+    @Test
+    void shouldGetUserProfilesByIds() throws Exception {
+        // Given
+        when(userProfileService.findAllByIds(List.of(1, 2))).thenReturn(List.of(
+                UserProfileDTO.builder().userId(1).firstName("John").build(),
+                UserProfileDTO.builder().userId(2).firstName("Jane").build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection[1].firstName").value("Jane"))
+                .andExpect(jsonPath("$.collection[0].credential").doesNotExist());
+    }
+
     @Test
     void shouldGetUserById() throws Exception {
         // Given
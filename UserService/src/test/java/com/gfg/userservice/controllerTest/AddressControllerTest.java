@@ -3,6 +3,8 @@ package com.gfg.userservice.controllerTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gfg.userservice.controller.AddressController;
 import com.gfg.userservice.domain.dto.AddressDTO;
+import com.gfg.userservice.domain.dto.RegionSummaryDTO;
+import com.gfg.userservice.service.AddressRegionService;
 import com.gfg.userservice.service.AddressService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,10 +12,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,6 +32,9 @@ class AddressControllerTest {
     @Mock
     private AddressService addressService;
 
+    @Mock
+    private AddressRegionService addressRegionService;
+
     @InjectMocks
     private AddressController addressController;
 
@@ -31,7 +42,9 @@ class AddressControllerTest {
 
     @BeforeEach
     public void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(addressController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(addressController)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
     }
 
 
@@ -58,6 +71,42 @@ class AddressControllerTest {
                 .andExpect(jsonPath("$.fullAddress").value(addressDTO.getFullAddress()));
     }
 
+    @Test
+    public void testFindAddressesByUserId() throws Exception {
+        AddressDTO addressDTO = createAddressDTO();
+        when(addressService.findByUserId(eq(7), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(addressDTO), PageRequest.of(1, 1), 3));
+
+        mockMvc.perform(get("/api/address/users/{userId}", 7).param("page", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection[0].addressId").value(addressDTO.getAddressId()))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.totalElements").value(3));
+    }
+
+    @Test
+    public void testFindAddressesByPostalCodePrefix() throws Exception {
+        AddressDTO addressDTO = createAddressDTO();
+        when(addressService.findByPostalCodePrefix(eq("123"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(addressDTO)));
+
+        mockMvc.perform(get("/api/address").param("postalCodePrefix", "123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection[0].postalCode").value(addressDTO.getPostalCode()));
+        verify(addressService, never()).findAll();
+    }
+
+    @Test
+    public void testFindRegions() throws Exception {
+        when(addressRegionService.findRegions(2)).thenReturn(List.of(
+                RegionSummaryDTO.builder().postalCodePrefix("12").city("Sample City").addressCount(4).build()));
+
+        mockMvc.perform(get("/api/address/regions").param("prefixLength", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection[0].postalCodePrefix").value("12"))
+                .andExpect(jsonPath("$.collection[0].addressCount").value(4));
+    }
+
     @Test
     public void testSaveAddress() throws Exception {
         AddressDTO addressDTO = createAddressDTO(); // Create a sample address DTO
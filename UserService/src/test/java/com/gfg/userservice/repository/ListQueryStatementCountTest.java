@@ -0,0 +1,139 @@
+package com.gfg.userservice.repository;
+
+import com.gfg.userservice.domain.dto.AddressDTO;
+import com.gfg.userservice.domain.dto.CredentialDTO;
+import com.gfg.userservice.domain.dto.UserDTO;
+import com.gfg.userservice.domain.dto.VerificationDTO;
+import com.gfg.userservice.domain.entity.Address;
+import com.gfg.userservice.domain.entity.Credential;
+import com.gfg.userservice.domain.entity.User;
+import com.gfg.userservice.domain.entity.VerificationToken;
+import com.gfg.userservice.domain.enums.RoleBasedAuthority;
+import com.gfg.userservice.helperClass.AddressMapping;
+import com.gfg.userservice.helperClass.CredentialMapping;
+import com.gfg.userservice.helperClass.UserMapping;
+import com.gfg.userservice.helperClass.VerificationTokenMapping;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each list endpoint must read its rows, including the nested user or credential, in one
+ * statement whatever the number of rows.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ListQueryStatementCountTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            User user = User.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("user" + i + "@example.com")
+                    .build();
+            Credential credential = Credential.builder()
+                    .username("user" + i)
+                    .password("password")
+                    .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                    .isEnabled(true)
+                    .isAccountNonExpired(true)
+                    .isAccountNonLocked(true)
+                    .isCredentialsNonExpired(true)
+                    .user(user)
+                    .build();
+            user.setCredential(credential);
+            entityManager.persist(user);
+            entityManager.persist(Address.builder()
+                    .fullAddress(i + " Main Street")
+                    .postalCode("1000" + i)
+                    .city("City")
+                    .user(user)
+                    .build());
+            entityManager.persist(VerificationToken.builder()
+                    .token("token" + i)
+                    .expireDate(LocalDate.now().plusDays(1))
+                    .credential(credential)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldListUsersInOneStatement() {
+        // When
+        List<UserDTO> users = userRepository.findAllWithCredential().stream()
+                .map(UserMapping::map).collect(Collectors.toList());
+
+        // Then
+        assertThat(users).hasSize(ROWS).allSatisfy(user -> assertThat(user.getCredentialDTO().getUsername()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldListCredentialsInOneStatement() {
+        // When
+        List<CredentialDTO> credentials = credentialRepository.findAllWithUser().stream()
+                .map(CredentialMapping::map).collect(Collectors.toList());
+
+        // Then
+        assertThat(credentials).hasSize(ROWS).allSatisfy(credential -> assertThat(credential.getUserDTO().getEmail()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldListAddressesInOneStatement() {
+        // When
+        List<AddressDTO> addresses = addressRepository.findAllWithUser().stream()
+                .map(AddressMapping::map).collect(Collectors.toList());
+
+        // Then
+        assertThat(addresses).hasSize(ROWS).allSatisfy(address -> assertThat(address.getUserDto().getFirstName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldListVerificationTokensInOneStatement() {
+        // When
+        List<VerificationDTO> tokens = verificationTokenRepository.findAllWithCredential().stream()
+                .map(VerificationTokenMapping::map).collect(Collectors.toList());
+
+        // Then
+        assertThat(tokens).hasSize(ROWS).allSatisfy(token -> assertThat(token.getCredentialDTO().getUsername()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
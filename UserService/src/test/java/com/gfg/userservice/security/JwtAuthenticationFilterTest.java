@@ -0,0 +1,106 @@
+package com.gfg.userservice.security;
+
+import com.gfg.userservice.service.CredentialStatusService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private SigningKeyProvider signingKeyProvider;
+
+    @Mock
+    private CredentialStatusService credentialStatusService;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateFromAccessTokenClaims() throws Exception {
+        // Given
+        JwtUtil jwtUtil = jwtUtil();
+        String token = jwtUtil.generateToken("john", Map.of(
+                JwtClaimNames.TOKEN_TYPE, JwtClaimNames.ACCESS_TOKEN,
+                JwtClaimNames.ROLES, List.of("ROLE_USER"),
+                JwtClaimNames.ENABLED, true,
+                JwtClaimNames.ACCOUNT_NON_EXPIRED, true,
+                JwtClaimNames.ACCOUNT_NON_LOCKED, true,
+                JwtClaimNames.CREDENTIALS_NON_EXPIRED, true), Duration.ofMinutes(15));
+        when(credentialStatusService.isActive("john")).thenReturn(true);
+
+        // When
+        Authentication authentication = filter(jwtUtil, token);
+
+        // Then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("john");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void shouldRejectRevokedCredential() throws Exception {
+        // Given
+        JwtUtil jwtUtil = jwtUtil();
+        String token = jwtUtil.generateToken("john", Map.of(
+                JwtClaimNames.TOKEN_TYPE, JwtClaimNames.ACCESS_TOKEN,
+                JwtClaimNames.ROLES, List.of("ROLE_USER"),
+                JwtClaimNames.ENABLED, true,
+                JwtClaimNames.ACCOUNT_NON_EXPIRED, true,
+                JwtClaimNames.ACCOUNT_NON_LOCKED, true,
+                JwtClaimNames.CREDENTIALS_NON_EXPIRED, true), Duration.ofMinutes(15));
+        when(credentialStatusService.isActive("john")).thenReturn(false);
+
+        // When & Then
+        assertThat(filter(jwtUtil, token)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreVerificationToken() throws Exception {
+        // Given
+        JwtUtil jwtUtil = jwtUtil();
+        String token = jwtUtil.generateToken("john@example.com");
+
+        // When & Then
+        assertThat(filter(jwtUtil, token)).isNull();
+        verify(credentialStatusService, never()).isActive(anyString());
+    }
+
+    private JwtUtil jwtUtil() {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        lenient().when(signingKeyProvider.activeKey())
+                .thenReturn(new SigningKeyProvider.ActiveKey("test", keyPair.getPrivate()));
+        lenient().when(signingKeyProvider.findPublicKey("test")).thenReturn(Optional.of(keyPair.getPublic()));
+        return new JwtUtilImpl(signingKeyProvider, 3600000);
+    }
+
+    private Authentication filter(JwtUtil jwtUtil, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        new JwtAuthenticationFilter(jwtUtil, credentialStatusService)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,49 @@
+package com.gfg.userservice.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeyCipherTest {
+
+    private static final String KEK = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final byte[] SECRET = "private key".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void shouldRoundTripWithoutStoringThePlaintext() {
+        // Given
+        SigningKeyCipher cipher = new SigningKeyCipher(KEK);
+
+        // When
+        String stored = cipher.encrypt("kid-1", SECRET);
+
+        // Then
+        assertThat(cipher.isEncrypted(stored)).isTrue();
+        assertThat(stored).doesNotContain(Base64.getEncoder().encodeToString(SECRET));
+        assertThat(cipher.decrypt("kid-1", stored)).isEqualTo(SECRET);
+    }
+
+    @Test
+    void shouldRejectCiphertextMovedToAnotherKeyOrUnderAnotherKek() {
+        // Given
+        String stored = new SigningKeyCipher(KEK).encrypt("kid-1", SECRET);
+        byte[] otherKek = new byte[32];
+        otherKek[0] = 1;
+
+        // When & Then
+        assertThatThrownBy(() -> new SigningKeyCipher(KEK).decrypt("kid-2", stored))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new SigningKeyCipher(Base64.getEncoder().encodeToString(otherKek)).decrypt("kid-1", stored))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRefuseToStartWithoutKek() {
+        assertThatThrownBy(() -> new SigningKeyCipher(""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,227 @@
+package com.gfg.userservice.security;
+
+import com.gfg.userservice.domain.entity.SigningKey;
+import com.gfg.userservice.repository.SigningKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SigningKeyProviderImplTest {
+
+    private static final Duration ROTATION_PERIOD = Duration.ofDays(30);
+    private static final Duration RETENTION = Duration.ofDays(8);
+
+    @Mock
+    private SigningKeyRepository signingKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Stands in for {@code jwt_signing_keys}; the repository mock reads and writes it.
+     */
+    private final List<SigningKey> table = new ArrayList<>();
+    private final SigningKeyCipher cipher = new SigningKeyCipher(Base64.getEncoder().encodeToString(new byte[32]));
+
+    private SigningKeyProviderImpl provider;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(signingKeyRepository.findPublished(any())).thenAnswer(invocation -> {
+            Instant publishedSince = invocation.getArgument(0);
+            return table.stream()
+                    .filter(k -> k.getRetiredAt() == null || k.getRetiredAt().isAfter(publishedSince))
+                    .sorted(Comparator.comparing(SigningKey::getCreatedAt).reversed())
+                    .collect(Collectors.toList());
+        });
+        lenient().when(signingKeyRepository.findByRetiredAtIsNullOrderByCreatedAtDesc()).thenAnswer(invocation ->
+                table.stream()
+                        .filter(k -> k.getRetiredAt() == null)
+                        .sorted(Comparator.comparing(SigningKey::getCreatedAt).reversed())
+                        .collect(Collectors.toList()));
+        lenient().when(signingKeyRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            SigningKey key = invocation.getArgument(0);
+            table.add(key);
+            return key;
+        });
+        provider = new SigningKeyProviderImpl(signingKeyRepository, cipher, transactionManager, ROTATION_PERIOD, RETENTION);
+    }
+
+    @Test
+    void shouldCreateEncryptedKeyWhenNoneExists() {
+        // When
+        SigningKeyProvider.ActiveKey active = provider.activeKey();
+
+        // Then
+        assertThat(table).singleElement().satisfies(key -> {
+            assertThat(key.getKid()).isEqualTo(active.getKid());
+            assertThat(cipher.isEncrypted(key.getPrivateKey())).isTrue();
+            assertThat(cipher.decrypt(key.getKid(), key.getPrivateKey())).isEqualTo(active.getPrivateKey().getEncoded());
+        });
+        assertThat(provider.findPublicKey(active.getKid())).isPresent();
+    }
+
+    @Test
+    void shouldRetirePreviousKeyButKeepPublishingItOnRotation() {
+        // Given
+        String first = provider.activeKey().getKid();
+
+        // When
+        provider.rotate();
+
+        // Then
+        String second = provider.activeKey().getKid();
+        assertThat(second).isNotEqualTo(first);
+        assertThat(kids(provider.jwks())).containsExactlyInAnyOrder(first, second);
+        assertThat(table).filteredOn(k -> k.getKid().equals(second))
+                .singleElement()
+                .satisfies(k -> assertThat(k.getPredecessorKid()).isEqualTo(first));
+        assertThat(table).filteredOn(k -> k.getKid().equals(first))
+                .singleElement()
+                .satisfies(k -> assertThat(k.getRetiredAt()).isNotNull());
+        verify(signingKeyRepository).clearRetiredPrivateKeys();
+    }
+
+    @Test
+    void shouldStopPublishingKeysRetiredBeforeTheRetentionWindow() {
+        // Given
+        provider.activeKey();
+        table.add(storedKey("old", Instant.now().minus(Duration.ofDays(40)), Instant.now().minus(Duration.ofDays(9))));
+        table.add(storedKey("recent", Instant.now().minus(Duration.ofDays(35)), Instant.now().minus(Duration.ofDays(2))));
+
+        // When
+        provider.reload();
+
+        // Then
+        assertThat(kids(provider.jwks())).contains("recent").doesNotContain("old");
+        ArgumentCaptor<Instant> publishedSince = ArgumentCaptor.forClass(Instant.class);
+        verify(signingKeyRepository, atLeastOnce()).findPublished(publishedSince.capture());
+        assertThat(publishedSince.getValue()).isCloseTo(Instant.now().minus(RETENTION), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void shouldPickUpKeyRotatedByAnotherInstanceOnReload() {
+        // Given
+        SigningKey current = activeRow();
+        SigningKey sibling = storedKey("sibling", Instant.now(), null);
+        current.setRetiredAt(Instant.now());
+        table.add(sibling);
+
+        // When
+        provider.reload();
+
+        // Then
+        assertThat(provider.activeKey().getKid()).isEqualTo("sibling");
+    }
+
+    @Test
+    void shouldUseSiblingKeyWhenConcurrentRotationLoses() {
+        // Given
+        String first = provider.activeKey().getKid();
+        doAnswer(invocation -> {
+            // the sibling's rotation committed first
+            table.stream().filter(k -> k.getKid().equals(first)).forEach(k -> k.setRetiredAt(Instant.now()));
+            table.add(storedKey("sibling", Instant.now(), null));
+            throw new DataIntegrityViolationException("uk_jwt_signing_keys_predecessor_kid");
+        }).when(signingKeyRepository).saveAndFlush(any());
+
+        // When
+        provider.rotate();
+
+        // Then
+        assertThat(provider.activeKey().getKid()).isEqualTo("sibling");
+    }
+
+    @Test
+    void shouldNotRotateWhenAnotherInstanceAlreadyDid() {
+        // Given
+        SigningKey stale = activeRow();
+        stale.setCreatedAt(Instant.now().minus(ROTATION_PERIOD).minus(Duration.ofDays(1)));
+        provider.reload();
+        stale.setRetiredAt(Instant.now());
+        table.add(storedKey("sibling", Instant.now(), null));
+        clearInvocations(signingKeyRepository);
+
+        // When
+        provider.rotateIfDue();
+
+        // Then
+        verify(signingKeyRepository, never()).saveAndFlush(any());
+        assertThat(provider.activeKey().getKid()).isEqualTo("sibling");
+    }
+
+    @Test
+    void shouldReplacePlaintextKeyStoredBeforeEncryption() {
+        // Given
+        KeyPair keyPair = rsaKeyPair();
+        table.add(SigningKey.builder()
+                .kid("legacy")
+                .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                .privateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .createdAt(Instant.now())
+                .build());
+
+        // When
+        String active = provider.activeKey().getKid();
+
+        // Then
+        assertThat(active).isNotEqualTo("legacy");
+        assertThat(kids(provider.jwks())).contains("legacy", active);
+    }
+
+    private SigningKey activeRow() {
+        String kid = provider.activeKey().getKid();
+        return table.stream().filter(k -> k.getKid().equals(kid)).findFirst().orElseThrow();
+    }
+
+    private SigningKey storedKey(final String kid, final Instant createdAt, final Instant retiredAt) {
+        KeyPair keyPair = rsaKeyPair();
+        return SigningKey.builder()
+                .kid(kid)
+                .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                .privateKey(cipher.encrypt(kid, keyPair.getPrivate().getEncoded()))
+                .createdAt(createdAt)
+                .retiredAt(retiredAt)
+                .build();
+    }
+
+    private static KeyPair rsaKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> kids(final Map<String, Object> jwks) {
+        return ((List<Map<String, Object>>) jwks.get("keys")).stream()
+                .map(jwk -> (String) jwk.get("kid"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.RegionSummaryDTO;
+import com.gfg.userservice.domain.projection.PostalCodeCityCount;
+import com.gfg.userservice.repository.AddressRepository;
+import com.gfg.userservice.service.serviceImpl.AddressRegionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AddressRegionServiceTest {
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    private AddressRegionServiceImpl addressRegionService;
+
+    @BeforeEach
+    void setUp() {
+        addressRegionService = new AddressRegionServiceImpl(addressRepository, new SimpleMeterRegistry(),
+                Duration.ofMinutes(5), Duration.ofHours(1));
+    }
+
+    private static PostalCodeCityCount row(String postalCode, String city, long count) {
+        return new SpelAwareProxyProjectionFactory().createProjection(PostalCodeCityCount.class,
+                Map.of("postalCode", postalCode, "city", city, "addressCount", count));
+    }
+
+    @Test
+    void shouldRollUpPostalCodesToPrefixAndServeFromCache() {
+        // Given
+        when(addressRepository.countByPostalCodeAndCity()).thenReturn(List.of(
+                row("12345", "Springfield", 2),
+                row("12399", "Springfield", 3),
+                row("12345", "Shelbyville", 1),
+                row("98765", "Capital City", 4)));
+
+        // When
+        List<RegionSummaryDTO> result = addressRegionService.findRegions(3);
+        addressRegionService.findRegions(3);
+
+        // Then
+        assertThat(result)
+                .extracting(RegionSummaryDTO::getPostalCodePrefix, RegionSummaryDTO::getCity, RegionSummaryDTO::getAddressCount)
+                .containsExactly(
+                        tuple("123", "Springfield", 5L),
+                        tuple("987", "Capital City", 4L),
+                        tuple("123", "Shelbyville", 1L));
+        verify(addressRepository, times(1)).countByPostalCodeAndCity();
+    }
+
+    @Test
+    void shouldRejectPrefixLengthOutOfRange() {
+        assertThatThrownBy(() -> addressRegionService.findRegions(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(addressRepository);
+    }
+}
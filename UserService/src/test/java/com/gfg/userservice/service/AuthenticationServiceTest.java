@@ -0,0 +1,123 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.AuthenticationResponse;
+import com.gfg.userservice.domain.dto.RefreshTokenRequest;
+import com.gfg.userservice.security.JwtClaimNames;
+import com.gfg.userservice.security.JwtUtil;
+import com.gfg.userservice.security.JwtUtilImpl;
+import com.gfg.userservice.security.SigningKeyProvider;
+import com.gfg.userservice.service.serviceImpl.AuthenticationServiceImpl;
+import com.gfg.userservice.service.serviceImpl.CustomUserDetailsService;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private SigningKeyProvider signingKeyProvider;
+
+    private JwtUtil jwtUtil;
+    private AuthenticationServiceImpl authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        lenient().when(signingKeyProvider.activeKey())
+                .thenReturn(new SigningKeyProvider.ActiveKey("test", keyPair.getPrivate()));
+        lenient().when(signingKeyProvider.findPublicKey("test")).thenReturn(Optional.of(keyPair.getPublic()));
+        jwtUtil = new JwtUtilImpl(signingKeyProvider, 3600000);
+        authenticationService = new AuthenticationServiceImpl(authenticationManager, userDetailsService, jwtUtil,
+                Duration.ofMinutes(15), Duration.ofDays(7));
+    }
+
+    @Test
+    void shouldIssueAccessTokenCarryingRolesAndAccountStateOnRefresh() {
+        // Given
+        when(userDetailsService.loadUserByUsername("john")).thenReturn(user(true, true));
+
+        // When
+        AuthenticationResponse response = authenticationService.refresh(new RefreshTokenRequest(refreshToken()));
+
+        // Then
+        UserDetails principal = jwtUtil.extractValidClaims(response.getJwtToken())
+                .flatMap(jwtUtil::extractUserDetails)
+                .orElseThrow();
+        assertThat(principal.getUsername()).isEqualTo("john");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(principal.isEnabled()).isTrue();
+        assertThat(principal.isCredentialsNonExpired()).isTrue();
+        assertThat(jwtUtil.extractValidClaims(response.getRefreshToken()).orElseThrow().get(JwtClaimNames.TOKEN_TYPE))
+                .isEqualTo(JwtClaimNames.REFRESH_TOKEN);
+    }
+
+    @Test
+    void shouldRejectAccessTokenUsedAsRefreshToken() {
+        // Given
+        String accessToken = jwtUtil.generateToken("john",
+                Map.of(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.ACCESS_TOKEN), Duration.ofMinutes(15));
+
+        // When & Then
+        assertThatThrownBy(() -> authenticationService.refresh(new RefreshTokenRequest(accessToken)))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void shouldRejectRefreshWhenCredentialsExpired() {
+        // Given
+        when(userDetailsService.loadUserByUsername("john")).thenReturn(user(true, false));
+
+        // When & Then
+        assertThatThrownBy(() -> authenticationService.refresh(new RefreshTokenRequest(refreshToken())))
+                .isInstanceOf(CredentialsExpiredException.class);
+    }
+
+    @Test
+    void shouldRejectRefreshWhenAccountDisabled() {
+        // Given
+        when(userDetailsService.loadUserByUsername("john")).thenReturn(user(false, true));
+
+        // When & Then
+        assertThatThrownBy(() -> authenticationService.refresh(new RefreshTokenRequest(refreshToken())))
+                .isInstanceOf(DisabledException.class);
+    }
+
+    private String refreshToken() {
+        return jwtUtil.generateToken("john",
+                Map.of(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.REFRESH_TOKEN), Duration.ofDays(7));
+    }
+
+    private static UserDetails user(final boolean enabled, final boolean credentialsNonExpired) {
+        return new User("john", "secret", enabled, true, credentialsNonExpired, true,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
@@ -0,0 +1,182 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.entity.EmailOutboxMessage;
+import com.gfg.userservice.domain.enums.EmailOutboxStatus;
+import com.gfg.userservice.repository.EmailOutboxRepository;
+import com.gfg.userservice.service.serviceImpl.EmailDispatcherImpl;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailDispatcherImpl dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return new EmailDispatcherImpl(emailOutboxRepository, mailSender, new TransactionTemplate(transactionManager),
+                50, 3, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    /**
+     * Hands back the queued rows as due and, like the database, returns the same rows when
+     * the dispatcher reloads them to record the outcome.
+     */
+    private void givenDue(List<EmailOutboxMessage> due) {
+        when(emailOutboxRepository.findByStatusInAndNextAttemptAtLessThanEqualOrderByEmailOutboxIdAsc(
+                eq(List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.IN_PROGRESS)), any(Instant.class), any()))
+                .thenReturn(due);
+        when(emailOutboxRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(emailOutboxRepository.findByEmailOutboxIdIn(any())).thenReturn(due);
+    }
+
+    private static EmailOutboxMessage queued(long id, String recipient) {
+        return EmailOutboxMessage.builder()
+                .emailOutboxId(id)
+                .recipient(recipient)
+                .subject("Account Activation")
+                .body("Your activation token: " + id)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    void shouldSendBatchOverOneConnectionAndMarkSent() {
+        // Given
+        List<EmailOutboxMessage> due = List.of(queued(1, "john@example.com"), queued(2, "jane@example.com"));
+        givenDue(due);
+
+        // When
+        int taken = dispatcher(ServerSetupTest.SMTP.getPort()).dispatchBatch();
+
+        // Then
+        assertThat(taken).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(due).allSatisfy(message -> {
+            assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+            assertThat(message.getSentAt()).isNotNull();
+        });
+        verify(emailOutboxRepository, times(2)).saveAll(due);
+    }
+
+    @Test
+    void shouldBackOffWhenSmtpServerIsUnreachable() {
+        // Given
+        EmailOutboxMessage message = queued(1, "john@example.com");
+        message.setAttempts(1);
+        givenDue(List.of(message));
+        Instant before = Instant.now();
+
+        // When
+        dispatcher(ServerSetupTest.SMTP.getPort() + 1).dispatchBatch();
+
+        // Then
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(2);
+        assertThat(message.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(60));
+        assertThat(message.getLastError()).isNotBlank();
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        EmailOutboxMessage message = queued(1, "john@example.com");
+        message.setAttempts(2);
+        givenDue(List.of(message));
+
+        // When
+        dispatcher(ServerSetupTest.SMTP.getPort() + 1).dispatchBatch();
+
+        // Then
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(message.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCommitTheClaimBeforeTalkingToSmtp() {
+        // Given
+        List<EmailOutboxMessage> due = List.of(queued(1, "john@example.com"));
+        givenDue(due);
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        List<Boolean> sentInTransaction = new ArrayList<>();
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(SimpleMailMessage... simpleMessages) {
+                sentInTransaction.add(inTransaction.get());
+                super.send(simpleMessages);
+            }
+        };
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        EmailDispatcherImpl dispatcher = new EmailDispatcherImpl(emailOutboxRepository, mailSender,
+                new TransactionTemplate(transactionManager), 50, 3, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Duration.ofMinutes(5));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(sentInTransaction).containsExactly(false);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(due.get(0).getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+    }
+
+    @Test
+    void shouldLeaveRowAloneWhenItsLeaseWasTakenOver() {
+        // Given
+        EmailOutboxMessage message = queued(1, "john@example.com");
+        givenDue(List.of(message));
+        EmailOutboxMessage reclaimed = queued(1, "john@example.com");
+        reclaimed.setStatus(EmailOutboxStatus.IN_PROGRESS);
+        reclaimed.setNextAttemptAt(Instant.now().plus(Duration.ofHours(1)));
+        when(emailOutboxRepository.findByEmailOutboxIdIn(any())).thenReturn(List.of(reclaimed));
+
+        // When
+        dispatcher(ServerSetupTest.SMTP.getPort()).dispatchBatch();
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(reclaimed.getStatus()).isEqualTo(EmailOutboxStatus.IN_PROGRESS);
+        assertThat(reclaimed.getAttempts()).isZero();
+        verify(emailOutboxRepository).saveAll(List.of());
+    }
+}
@@ -0,0 +1,59 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.service.serviceImpl.PasswordHashingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingServiceTest {
+
+    private static PasswordHashingServiceImpl service(String algorithm, int strength) {
+        return new PasswordHashingServiceImpl(new SimpleMeterRegistry(), algorithm, strength, 1, 10, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void shouldMatchLegacyUnprefixedHashAndAskForUpgrade() {
+        // Given
+        PasswordHashingServiceImpl service = service("bcrypt", 4);
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        // When & Then
+        assertThat(service.matches("secret", legacy)).isTrue();
+        assertThat(service.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    void shouldAskForUpgradeWhenCostIsRaised() {
+        // Given
+        String cheap = service("bcrypt", 4).encode("secret");
+
+        // When
+        PasswordHashingServiceImpl stronger = service("bcrypt", 5);
+
+        // Then
+        assertThat(stronger.matches("secret", cheap)).isTrue();
+        assertThat(stronger.upgradeEncoding(cheap)).isTrue();
+        assertThat(stronger.upgradeEncoding(stronger.encode("secret"))).isFalse();
+    }
+
+    @Test
+    void shouldMigrateBcryptHashesToArgon2() {
+        // Given
+        String bcrypt = service("bcrypt", 4).encode("secret");
+        PasswordHashingServiceImpl argon2 = service("argon2", 4);
+
+        // When
+        String rehashed = argon2.encode("secret");
+
+        // Then
+        assertThat(argon2.matches("secret", bcrypt)).isTrue();
+        assertThat(argon2.upgradeEncoding(bcrypt)).isTrue();
+        assertThat(rehashed).startsWith("{argon2}");
+        assertThat(argon2.matches("secret", rehashed)).isTrue();
+        assertThat(argon2.matches("wrong", rehashed)).isFalse();
+    }
+}
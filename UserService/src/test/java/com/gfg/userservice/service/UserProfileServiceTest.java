@@ -0,0 +1,89 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.UserProfileDTO;
+import com.gfg.userservice.domain.projection.UserView;
+import com.gfg.userservice.repository.UserRepository;
+import com.gfg.userservice.service.serviceImpl.UserProfileServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserProfileServiceImpl userProfileService;
+
+    @BeforeEach
+    void setUp() {
+        userProfileService = new UserProfileServiceImpl(userRepository, new SimpleMeterRegistry(), Duration.ofMinutes(10), 100);
+    }
+
+    private static UserView view(int userId, String firstName) {
+        return new SpelAwareProxyProjectionFactory()
+                .createProjection(UserView.class, Map.of("userId", userId, "firstName", firstName));
+    }
+
+    @Test
+    void shouldLoadOnlyMissingProfilesInOneQuery() {
+        // Given
+        when(userRepository.findByUserIdIn(Set.of(1, 2))).thenReturn(List.of(view(1, "John"), view(2, "Jane")));
+        when(userRepository.findByUserIdIn(Set.of(3))).thenReturn(List.of(view(3, "Jim")));
+        userProfileService.findAllByIds(List.of(1, 2));
+
+        // When
+        List<UserProfileDTO> result = userProfileService.findAllByIds(List.of(2, 3, 1, 2));
+
+        // Then
+        assertThat(result).extracting(UserProfileDTO::getFirstName).containsExactly("Jane", "Jim", "John");
+        verify(userRepository).findByUserIdIn(Set.of(1, 2));
+        verify(userRepository).findByUserIdIn(Set.of(3));
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void shouldReloadProfileAfterEviction() {
+        // Given
+        when(userRepository.findByUserIdIn(Set.of(1))).thenReturn(List.of(view(1, "John")), List.of(view(1, "Johnny")));
+        userProfileService.findAllByIds(List.of(1));
+
+        // When
+        userProfileService.evict(1);
+
+        // Then
+        assertThat(userProfileService.findAllByIds(List.of(1)))
+                .extracting(UserProfileDTO::getFirstName).containsExactly("Johnny");
+    }
+
+    @Test
+    void shouldNotCacheProfileLoadedWhileItWasEvicted() {
+        // Given
+        when(userRepository.findByUserIdIn(Set.of(1))).thenAnswer(invocation -> {
+            userProfileService.evict(1);
+            return List.of(view(1, "John"));
+        }).thenReturn(List.of(view(1, "Johnny")));
+
+        // When
+        List<UserProfileDTO> first = userProfileService.findAllByIds(List.of(1));
+        List<UserProfileDTO> second = userProfileService.findAllByIds(List.of(1));
+
+        // Then
+        assertThat(first).extracting(UserProfileDTO::getFirstName).containsExactly("John");
+        assertThat(second).extracting(UserProfileDTO::getFirstName).containsExactly("Johnny");
+        verify(userRepository, times(2)).findByUserIdIn(Set.of(1));
+    }
+}
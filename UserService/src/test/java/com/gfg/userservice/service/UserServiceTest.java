@@ -5,20 +5,26 @@ import com.gfg.userservice.domain.dto.UserDTO;
 import com.gfg.userservice.domain.entity.Credential;
 import com.gfg.userservice.domain.entity.User;
 import com.gfg.userservice.domain.enums.RoleBasedAuthority;
+import com.gfg.userservice.domain.projection.UserCredentialView;
 import com.gfg.userservice.exceptions.UserObjectNotFoundException;
 import com.gfg.userservice.repository.CredentialRepository;
 import com.gfg.userservice.repository.UserRepository;
+import com.gfg.userservice.security.JwtClaimNames;
 import com.gfg.userservice.security.JwtUtil;
 import com.gfg.userservice.service.serviceImpl.UserServiceImpl;
 import com.gfg.userservice.service.EmailService;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,39 +46,31 @@ class UserServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private CredentialChangeNotifier credentialChangeNotifier;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private UserProfileService userProfileService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
     @Test
     void shouldFindAllUsers() {
         // Given
-        Credential credential1 = Credential.builder()
-                .credentialId(1)
-                .username("john")
-                .password("password")
-                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
-                .isEnabled(true)
-                .isAccountNonExpired(true)
-                .isAccountNonLocked(true)
-                .isCredentialsNonExpired(true)
-                .build();
+        ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        List<UserCredentialView> users = Arrays.asList(
+                projectionFactory.createProjection(UserCredentialView.class, Map.of(
+                        "userId", 1, "firstName", "John", "credentialId", 1, "username", "john",
+                        "roleBasedAuthority", RoleBasedAuthority.ROLE_USER, "isEnabled", true)),
+                projectionFactory.createProjection(UserCredentialView.class, Map.of(
+                        "userId", 2, "firstName", "Jane", "credentialId", 2, "username", "jane",
+                        "roleBasedAuthority", RoleBasedAuthority.ROLE_USER, "isEnabled", true)));
 
-        Credential credential2 = Credential.builder()
-                .credentialId(2)
-                .username("jane")
-                .password("password")
-                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
-                .isEnabled(true)
-                .isAccountNonExpired(true)
-                .isAccountNonLocked(true)
-                .isCredentialsNonExpired(true)
-                .build();
-
-        List<User> users = Arrays.asList(
-                User.builder().userId(1).firstName("John").credential(credential1).build(),
-                User.builder().userId(2).firstName("Jane").credential(credential2).build());
-
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllWithCredential()).thenReturn(users);
 
         // When
         List<UserDTO> result = userService.findAll();
@@ -80,7 +78,9 @@ class UserServiceTest {
         // Then
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getFirstName()).isEqualTo("John");
-        verify(userRepository).findAll();
+        assertThat(result.get(0).getCredentialDTO().getUsername()).isEqualTo("john");
+        verify(userRepository).findAllWithCredential();
+        verify(userRepository, never()).findAll();
     }
 
     @Test
@@ -155,6 +155,7 @@ class UserServiceTest {
         // Then
         assertThat(result.getUserId()).isEqualTo(1);
         verify(userRepository).save(any(User.class));
+        verify(userProfileService).evict(1);
     }
 
     @Test
@@ -164,5 +165,43 @@ class UserServiceTest {
 
         // Then
         verify(userRepository).deleteById(1);
+        verify(userProfileService).evict(1);
+    }
+
+    @Test
+    void shouldRefuseRefreshTokenOnPasswordReset() {
+        // Given
+        when(jwtUtil.extractValidClaims("refresh-token")).thenReturn(Optional.of(Jwts.claims()
+                .subject("john")
+                .add(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.REFRESH_TOKEN)
+                .build()));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.resetPassword("refresh-token", "new-password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid or expired token");
+        verifyNoInteractions(userRepository, passwordHashingService, credentialChangeNotifier);
+    }
+
+    @Test
+    void shouldResetPasswordWithVerificationToken() {
+        // Given
+        User user = User.builder()
+                .credential(Credential.builder().username("john").build())
+                .build();
+        when(jwtUtil.extractValidClaims("reset-token")).thenReturn(Optional.of(Jwts.claims()
+                .subject("john")
+                .add(JwtClaimNames.TOKEN_TYPE, JwtClaimNames.VERIFICATION_TOKEN)
+                .build()));
+        when(userRepository.findByCredentialUsername("john")).thenReturn(Optional.of(user));
+        when(passwordHashingService.encode("new-password")).thenReturn("hashed");
+
+        // When
+        userService.resetPassword("reset-token", "new-password");
+
+        // Then
+        assertThat(user.getCredential().getPassword()).isEqualTo("hashed");
+        verify(userRepository).save(user);
+        verify(credentialChangeNotifier).credentialChanged("john");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.domain.dto.CredentialDTO;
+import com.gfg.userservice.domain.dto.VerificationDTO;
+import com.gfg.userservice.domain.entity.Credential;
+import com.gfg.userservice.domain.entity.VerificationToken;
+import com.gfg.userservice.exceptions.VerificationTokenNotFoundException;
+import com.gfg.userservice.repository.VerificationTokenRepository;
+import com.gfg.userservice.service.serviceImpl.VerificationTokenServiceImplementation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationTokenServiceTest {
+
+    @Mock
+    private VerificationTokenRepository verificationTokenRepository;
+
+    private static final Credential CREDENTIAL = Credential.builder().credentialId(1).username("john").build();
+
+    private VerificationTokenServiceImplementation verificationTokenService;
+
+    @BeforeEach
+    void setUp() {
+        verificationTokenService = new VerificationTokenServiceImplementation(
+                verificationTokenRepository, new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void shouldFindTokenByValue() {
+        // Given
+        VerificationToken token = VerificationToken.builder()
+                .verificationTokenId(1)
+                .token("abc")
+                .expireDate(LocalDate.now().plusDays(1))
+                .credential(CREDENTIAL)
+                .build();
+        when(verificationTokenRepository.findByToken("abc")).thenReturn(Optional.of(token));
+
+        // When
+        VerificationDTO result = verificationTokenService.findByToken("abc");
+
+        // Then
+        assertThat(result.getVerificationTokenId()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRememberUnknownTokens() {
+        // Given
+        when(verificationTokenRepository.findByToken("missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> verificationTokenService.findByToken("missing"))
+                .isInstanceOf(VerificationTokenNotFoundException.class);
+        assertThatThrownBy(() -> verificationTokenService.findByToken("missing"))
+                .isInstanceOf(VerificationTokenNotFoundException.class);
+        verify(verificationTokenRepository, times(1)).findByToken("missing");
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        // Given
+        VerificationToken token = VerificationToken.builder()
+                .verificationTokenId(1)
+                .token("old")
+                .expireDate(LocalDate.now().minusDays(1))
+                .build();
+        when(verificationTokenRepository.findByToken("old")).thenReturn(Optional.of(token));
+
+        // When & Then
+        assertThatThrownBy(() -> verificationTokenService.findByToken("old"))
+                .isInstanceOf(VerificationTokenNotFoundException.class);
+    }
+
+    @Test
+    void shouldLookUpAgainAfterTokenIsSaved() {
+        // Given
+        VerificationToken token = VerificationToken.builder()
+                .verificationTokenId(1)
+                .token("abc")
+                .expireDate(LocalDate.now().plusDays(1))
+                .credential(CREDENTIAL)
+                .build();
+        when(verificationTokenRepository.findByToken("abc")).thenReturn(Optional.empty(), Optional.of(token));
+        when(verificationTokenRepository.save(any(VerificationToken.class))).thenReturn(token);
+        assertThatThrownBy(() -> verificationTokenService.findByToken("abc"))
+                .isInstanceOf(VerificationTokenNotFoundException.class);
+
+        // When
+        verificationTokenService.save(VerificationDTO.builder()
+                .token("abc")
+                .expireDate(token.getExpireDate())
+                .credentialDTO(CredentialDTO.builder().credentialId(1).username("john").build())
+                .build());
+
+        // Then
+        assertThat(verificationTokenService.findByToken("abc").getVerificationTokenId()).isEqualTo(1);
+        verify(verificationTokenRepository, times(2)).findByToken("abc");
+    }
+}
@@ -0,0 +1,45 @@
+package com.gfg.userservice.service;
+
+import com.gfg.userservice.repository.VerificationTokenRepository;
+import com.gfg.userservice.service.serviceImpl.VerificationTokenSweeperImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationTokenSweeperTest {
+
+    @Mock
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldDeleteExpiredTokensInChunks() {
+        // Given
+        VerificationTokenSweeperImpl sweeper = new VerificationTokenSweeperImpl(
+                verificationTokenRepository, new TransactionTemplate(transactionManager), 2);
+        when(verificationTokenRepository.findExpiredIds(any(LocalDate.class), any(Pageable.class)))
+                .thenReturn(List.of(1, 2), List.of(3), List.of());
+
+        // When
+        sweeper.sweepExpired();
+
+        // Then
+        verify(verificationTokenRepository).deleteAllByIdIn(List.of(1, 2));
+        verify(verificationTokenRepository).deleteAllByIdIn(List.of(3));
+        verify(verificationTokenRepository, times(2)).findExpiredIds(any(LocalDate.class), any(Pageable.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+}